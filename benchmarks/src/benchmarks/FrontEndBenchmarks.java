@@ -0,0 +1,236 @@
+package benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import interpreter.Global;
+import lexer.RegexEngine;
+import lexer.SourceFile;
+import lexer.TokenBuffer;
+import lexer.TokenType;
+import parser.LR1ParseTable;
+import parser.LR1Parser;
+import parser.LR1ParserContext;
+import parser.LR1TableFile;
+import parser.ParserResult;
+import parser.StatementNode;
+import semantic.SemanticContext;
+import utils.CodeReader;
+import utils.FileLoader;
+
+/**
+ * Throughput of the three front end passes over the example programs and over
+ * generated programs of 10k, 100k and 1M lines:
+ *
+ * lex: RegexEngine scanning every file into a token buffer, in tokens/s
+ * parse: LR1Parser.parse building the syntax tree, in nodes/s
+ * analyze: Program.semanticAnalysis in a fresh global context, in nodes/s
+ *
+ * The parse cache is not used. Example files that print anything or report an
+ * error while they are parsed and analyzed (the error examples, files with
+ * missing imports, dump_symbol_table calls) are left out of the corpus, so the
+ * benchmarks only measure the passes themselves.
+ *
+ * Run from the project root, see benchmarks/README.md.
+ */
+public class FrontEndBenchmarks {
+  static final String[] SOURCES = { "demos", "full_features", "long_demos", "synthetic_10k", "synthetic_100k",
+      "synthetic_1m" };
+
+  public static void main(String[] args) throws Exception {
+    Harness harness = Harness.fromArgs(args);
+
+    LR1ParseTable table = LR1TableFile.load(FileLoader.resolve("grammar.txt"), FileLoader.resolve("lr1_table.txt"));
+    LR1ParserContext context = new LR1ParserContext(table);
+
+    for (String name : harness.values("source", SOURCES)) {
+      Map<String, String> params = new LinkedHashMap<>();
+      params.put("source", name);
+
+      // all three are asked before the corpus is loaded, a benchmark that is
+      // measured in forks is run by measures itself
+      boolean measureLex = harness.measures("benchmarks.FrontEndBenchmarks.lex", params);
+      boolean measureParse = harness.measures("benchmarks.FrontEndBenchmarks.parse", params);
+      boolean measureAnalyze = harness.measures("benchmarks.FrontEndBenchmarks.analyze", params);
+      if (!measureLex && !measureParse && !measureAnalyze)
+        continue;
+
+      Corpus corpus = Corpus.load(name, context);
+      if (corpus.sources.isEmpty())
+        continue;
+
+      harness.run("benchmarks.FrontEndBenchmarks.lex", params, "tokens", corpus.tokens, () -> lex(corpus));
+      harness.run("benchmarks.FrontEndBenchmarks.parse", params, "nodes", corpus.nodes, () -> parse(corpus));
+      harness.run("benchmarks.FrontEndBenchmarks.analyze", params, "nodes", corpus.nodes, () -> analyze(corpus));
+    }
+
+    harness.finish();
+  }
+
+  static Object lex(Corpus corpus) {
+    int tokens = 0;
+    for (SourceFile source : corpus.sources) {
+      RegexEngine lexer = RegexEngine.createRegexEngine(source);
+      TokenBuffer buffer = lexer.createTokenBuffer();
+      do {
+        lexer.scanNextToken(buffer);
+      } while (buffer.getType(buffer.size() - 1) != TokenType.EOF);
+      tokens += buffer.size();
+    }
+    return tokens;
+  }
+
+  static Object parse(Corpus corpus) {
+    Object[] roots = new Object[corpus.sources.size()];
+    for (int i = 0; i < roots.length; i++)
+      roots[i] = corpus.parser.parse(corpus.sources.get(i)).root;
+    return roots;
+  }
+
+  static Object analyze(Corpus corpus) {
+    SemanticContext[] contexts = new SemanticContext[corpus.programs.size()];
+    for (int i = 0; i < contexts.length; i++) {
+      contexts[i] = Global.createGlobalSemanticContext();
+      corpus.programs.get(i).semanticAnalysis(contexts[i]);
+    }
+    return contexts;
+  }
+
+  /**
+   * The files of one benchmark source, with their trees for the analyze
+   * benchmark and the number of tokens and nodes they contain
+   */
+  static class Corpus {
+    final LR1Parser parser;
+    final ArrayList<SourceFile> sources = new ArrayList<>();
+    final ArrayList<StatementNode.Program> programs = new ArrayList<>();
+    long tokens = 0;
+    long nodes = 0;
+
+    Corpus(LR1Parser parser) {
+      this.parser = parser;
+    }
+
+    static Corpus load(String name, LR1ParserContext context) throws IOException {
+      Corpus corpus = new Corpus(context.createParser());
+      File examples = CodeReader.getExamplesRoot();
+
+      switch (name) {
+        case "demos":
+        case "full_features":
+          for (File file : sorted(new File(examples, name).listFiles()))
+            corpus.add(SourceFile.load(file));
+          break;
+        case "long_demos":
+          for (File file : sorted(examples.listFiles((directory, file) -> file.startsWith("Long_Demo_"))))
+            corpus.add(SourceFile.load(file));
+          break;
+        case "synthetic_10k":
+          corpus.add(Synthetic.generate(10_000));
+          break;
+        case "synthetic_100k":
+          corpus.add(Synthetic.generate(100_000));
+          break;
+        case "synthetic_1m":
+          corpus.add(Synthetic.generate(1_000_000));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown source " + name);
+      }
+
+      System.out.println(String.format("# Source %s: %d files, %d tokens, %d nodes", name, corpus.sources.size(),
+          corpus.tokens, corpus.nodes));
+      return corpus;
+    }
+
+    private static File[] sorted(File[] files) {
+      if (files == null)
+        return new File[0];
+
+      Arrays.sort(files);
+      return files;
+    }
+
+    // adds the file if it parses and analyzes without output or errors
+    void add(SourceFile source) {
+      PrintStream out = System.out;
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      System.setOut(new PrintStream(output, true));
+
+      ParserResult result = null;
+      SemanticContext context = Global.createGlobalSemanticContext();
+      try {
+        result = parser.parse(source);
+        if (result.errors.isEmpty() && result.root instanceof StatementNode.Program)
+          ((StatementNode.Program) result.root).semanticAnalysis(context);
+      } catch (RuntimeException | Error e) {
+        result = null;
+      } finally {
+        System.setOut(out);
+      }
+
+      if (result == null || output.size() > 0 || !result.errors.isEmpty()
+          || !(result.root instanceof StatementNode.Program) || !context.exceptions.isEmpty()) {
+        System.out.println("# Leaving out " + source.path);
+        return;
+      }
+
+      sources.add(source);
+      programs.add((StatementNode.Program) result.root);
+      tokens += ((Number) lex(single(source))).longValue();
+      nodes += countNodes(result.root);
+    }
+
+    private Corpus single(SourceFile source) {
+      Corpus corpus = new Corpus(parser);
+      corpus.sources.add(source);
+      return corpus;
+    }
+  }
+
+  static long countNodes(parser.Node root) {
+    ArrayList<parser.Node> nodes = new ArrayList<>();
+    InterpreterBenchmarks.collect(root, parser.Node.class, nodes);
+    return nodes.size();
+  }
+
+  /**
+   * Generates valid programs of about a given number of lines out of declarations,
+   * functions, loops and conditionals, with every name numbered so the program
+   * has as many distinct symbols as it has blocks
+   */
+  static class Synthetic {
+    static final String[] BLOCK = {
+        "item count%1$d: stats = %1$d %% 7;",
+        "item scale%1$d: skill (stats) -> stats = skill (item n: stats): stats -> {",
+        "    canwin (n <= 1) {",
+        "        recast 1;",
+        "    } lose {",
+        "        broadcast(n);",
+        "    }",
+        "    recast n * 2 + %1$d;",
+        "};",
+        "item label%1$d: message = \"block \" + scale%1$d(count%1$d);",
+        "item ready%1$d: goat = count%1$d > 3 && faker;",
+        "wave (count%1$d > 0) {",
+        "    count%1$d--;",
+        "}",
+    };
+
+    static SourceFile generate(int lines) {
+      // whole blocks only, so the program is rounded up to the next block
+      StringBuilder text = new StringBuilder(lines * 24);
+      for (int block = 0; block * BLOCK.length < lines; block++)
+        for (String template : BLOCK)
+          text.append(String.format(template, block)).append('\n');
+
+      return new SourceFile(text, String.format("synthetic_%d.lol", lines));
+    }
+  }
+}
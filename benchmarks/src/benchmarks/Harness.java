@@ -0,0 +1,434 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A small throughput harness, so the benchmarks need no build tool or extra
+ * jars. It is not JMH and does not guard against everything JMH does, such as
+ * dead code elimination beyond the sink below or unlucky inlining decisions.
+ *
+ * Every benchmark, with every combination of its parameters, runs in JVMs of
+ * its own (forks), started by the JVM of the suite with the same options and
+ * class path. A fork sets the benchmark up, warms it up for a few timed
+ * iterations and then measures a few more. The score is the mean number of
+ * operations per second over the measured iterations of all forks, and the
+ * error is half the width of the 99.9% confidence interval of that mean,
+ * treating the iterations as independent samples, which they are not within a
+ * fork.
+ *
+ * Besides the score every benchmark reports how many units of work (tokens,
+ * nodes, ...) it gets through per second, and the bytes allocated per
+ * operation and per unit. Only allocations of the benchmark thread are
+ * counted.
+ *
+ * Options: a regex to select benchmarks, -f for the number of forks (0 runs
+ * everything in the JVM of the suite), -wi and -i for the warmup and
+ * measurement iterations, -w and -r for their length in seconds, -p name=a,b
+ * to select parameter values and -rf json -rff file to write the results as
+ * JSON.
+ */
+public class Harness {
+  public interface Operation {
+    Object run() throws Exception;
+  }
+
+  int forks = 1;
+  int warmupIterations = 3;
+  int measurementIterations = 5;
+  double warmupSeconds = 1;
+  double measurementSeconds = 1;
+  Pattern filter = null;
+  final Map<String, String[]> parameters = new LinkedHashMap<>();
+  String resultFormat = null;
+  String resultFile = "benchmark-result.json";
+  // set in a fork, where its results are written for the suite to read
+  String forkResultFile = null;
+
+  final ArrayList<Result> results = new ArrayList<>();
+
+  // every result is written here so the JIT cannot drop the work that made it
+  public static volatile Object sink;
+
+  private static final com.sun.management.ThreadMXBean threads =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  public static Harness fromArgs(String[] args) {
+    Harness harness = new Harness();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "-f":
+          harness.forks = Integer.parseInt(args[++i]);
+          break;
+        case "-wi":
+          harness.warmupIterations = Integer.parseInt(args[++i]);
+          break;
+        case "-i":
+          harness.measurementIterations = Integer.parseInt(args[++i]);
+          break;
+        case "-w":
+          harness.warmupSeconds = Double.parseDouble(args[++i]);
+          break;
+        case "-r":
+          harness.measurementSeconds = Double.parseDouble(args[++i]);
+          break;
+        case "-p": {
+          String[] parameter = args[++i].split("=", 2);
+          harness.parameters.put(parameter[0], parameter[1].split(","));
+          break;
+        }
+        case "-rf":
+          harness.resultFormat = args[++i];
+          break;
+        case "-rff":
+          harness.resultFile = args[++i];
+          break;
+        case "-forkResult":
+          harness.forkResultFile = args[++i];
+          break;
+        default:
+          if (args[i].startsWith("-"))
+            throw new IllegalArgumentException("Unknown option " + args[i]);
+          harness.filter = Pattern.compile(args[i]);
+      }
+    }
+
+    if (harness.resultFormat != null && !harness.resultFormat.equals("json"))
+      throw new IllegalArgumentException("Only json results are supported");
+    if (harness.measurementIterations < 1)
+      throw new IllegalArgumentException("At least one measurement iteration is needed");
+    if (harness.forks < 0)
+      throw new IllegalArgumentException("The number of forks cannot be negative");
+
+    return harness;
+  }
+
+  /**
+   * The values of a parameter that are selected with -p, or all of them
+   */
+  public String[] values(String parameter, String... defaults) {
+    return parameters.getOrDefault(parameter, defaults);
+  }
+
+  public boolean selected(String benchmark) {
+    return filter == null || filter.matcher(benchmark).find();
+  }
+
+  /**
+   * Whether the benchmark is measured with these parameters in this JVM, which
+   * is when its setup has to run. Otherwise, if it is selected, it is measured
+   * here and now in forks of its own, so the suite only has to call this
+   * before setting a benchmark up.
+   */
+  public boolean measures(String benchmark, Map<String, String> params) throws Exception {
+    if (!selected(benchmark))
+      return false;
+    if (forks == 0)
+      return true;
+
+    System.out.println("# Benchmark: " + benchmark + (params.isEmpty() ? "" : " " + params));
+    Result result = null;
+    for (int fork = 1; fork <= forks; fork++) {
+      System.out.println(String.format("# Fork: %d of %d", fork, forks));
+      result = fork(benchmark, params, result);
+    }
+
+    System.out.println();
+    if (result != null)
+      results.add(result);
+    return false;
+  }
+
+  // runs the benchmark in a new JVM and adds its iterations to the result, or
+  // to a new one if it is null
+  private Result fork(String benchmark, Map<String, String> params, Result result) throws Exception {
+    File file = File.createTempFile("benchmark", ".txt");
+    try {
+      ArrayList<String> command = new ArrayList<>();
+      command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+      command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+      command.add("-cp");
+      command.add(System.getProperty("java.class.path"));
+      // benchmarks are named after the method of the suite class that runs them
+      command.add(benchmark.substring(0, benchmark.lastIndexOf('.')));
+      command.add("^" + Pattern.quote(benchmark) + "$");
+      for (Map.Entry<String, String> param : params.entrySet())
+        command.addAll(List.of("-p", param.getKey() + "=" + param.getValue()));
+      command.addAll(List.of("-f", "0", "-wi", "" + warmupIterations, "-i", "" + measurementIterations, "-w",
+          "" + warmupSeconds, "-r", "" + measurementSeconds, "-forkResult", file.getPath()));
+
+      int status = new ProcessBuilder(command).inheritIO().start().waitFor();
+      if (status != 0)
+        throw new IllegalStateException("The fork of " + benchmark + " exited with status " + status);
+
+      // the first line is the unit and units per operation, then one line per
+      // measured iteration, nothing if the benchmark had nothing to measure
+      List<String> lines = Files.readAllLines(file.toPath());
+      if (lines.isEmpty())
+        return result;
+
+      String[] units = lines.get(0).split(" ");
+      if (result == null)
+        result = new Result(benchmark, params, units[0], Long.parseLong(units[1]));
+      for (String line : lines.subList(1, lines.size())) {
+        String[] fields = line.split(" ");
+        result.iterations.add(
+            new Iteration(Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+      }
+      return result;
+    } finally {
+      file.delete();
+    }
+  }
+
+  /**
+   * Measures the operation, if measures says it is measured in this JVM.
+   * unitsPerOperation is how many units (named by unit) a single run of the
+   * operation goes through.
+   */
+  public void run(String benchmark, Map<String, String> params, String unit, long unitsPerOperation,
+      Operation operation) throws Exception {
+    if (!measures(benchmark, params))
+      return;
+
+    if (forkResultFile == null)
+      System.out.println("# Benchmark: " + benchmark + (params.isEmpty() ? "" : " " + params));
+
+    for (int i = 0; i < warmupIterations; i++) {
+      Iteration iteration = iterate(operation, warmupSeconds);
+      System.out.println(String.format("# Warmup Iteration %3d: %s ops/s", i + 1, format(iteration.score())));
+    }
+
+    Result result = new Result(benchmark, params, unit, unitsPerOperation);
+    for (int i = 0; i < measurementIterations; i++) {
+      Iteration iteration = iterate(operation, measurementSeconds);
+      result.iterations.add(iteration);
+      System.out.println(String.format("Iteration %3d: %s ops/s", i + 1, format(iteration.score())));
+    }
+
+    if (forkResultFile == null)
+      System.out.println();
+    results.add(result);
+  }
+
+  // runs the operation until the time is up, always at least once
+  private Iteration iterate(Operation operation, double seconds) throws Exception {
+    long thread = Thread.currentThread().getId();
+    long duration = (long) (seconds * 1e9);
+    long operations = 0;
+
+    long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+    long start = System.nanoTime();
+    long elapsed;
+    do {
+      sink = operation.run();
+      operations++;
+      elapsed = System.nanoTime() - start;
+    } while (elapsed < duration);
+    long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+    return new Iteration(operations, elapsed, allocated);
+  }
+
+  static class Iteration {
+    final long operations;
+    final long nanos;
+    final long allocated;
+
+    Iteration(long operations, long nanos, long allocated) {
+      this.operations = operations;
+      this.nanos = nanos;
+      this.allocated = allocated;
+    }
+
+    double score() {
+      return operations / (nanos / 1e9);
+    }
+
+    double allocatedPerOperation() {
+      return (double) allocated / operations;
+    }
+  }
+
+  static class Result {
+    final String benchmark;
+    final Map<String, String> params;
+    final String unit;
+    final long unitsPerOperation;
+    final ArrayList<Iteration> iterations = new ArrayList<>();
+
+    Result(String benchmark, Map<String, String> params, String unit, long unitsPerOperation) {
+      this.benchmark = benchmark;
+      this.params = params;
+      this.unit = unit;
+      this.unitsPerOperation = unitsPerOperation;
+    }
+
+    double[] scores() {
+      return iterations.stream().mapToDouble(Iteration::score).toArray();
+    }
+
+    double[] allocations() {
+      return iterations.stream().mapToDouble(Iteration::allocatedPerOperation).toArray();
+    }
+  }
+
+  static double mean(double[] values) {
+    double sum = 0;
+    for (double value : values)
+      sum += value;
+    return sum / values.length;
+  }
+
+  // half the width of the 99.9% confidence interval of the mean
+  static double error(double[] values) {
+    if (values.length < 2)
+      return Double.NaN;
+
+    double mean = mean(values);
+    double squares = 0;
+    for (double value : values)
+      squares += (value - mean) * (value - mean);
+
+    double deviation = Math.sqrt(squares / (values.length - 1));
+    return studentT(values.length - 1) * deviation / Math.sqrt(values.length);
+  }
+
+  // two sided 99.9% quantiles of the t distribution, rounded up between the
+  // listed degrees of freedom
+  private static final double[] T_QUANTILES = { 636.62, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041,
+      4.781, 4.587 };
+
+  static double studentT(int degrees) {
+    if (degrees <= T_QUANTILES.length)
+      return T_QUANTILES[degrees - 1];
+    if (degrees <= 15)
+      return 4.587;
+    if (degrees <= 20)
+      return 4.073;
+    if (degrees <= 30)
+      return 3.850;
+    return 3.646;
+  }
+
+  /**
+   * Prints the summary table and writes the result file if one was asked for.
+   * A fork only writes its iterations for the suite.
+   */
+  public void finish() throws IOException {
+    if (forkResultFile != null) {
+      StringBuilder lines = new StringBuilder();
+      for (Result result : results) {
+        lines.append(result.unit).append(' ').append(result.unitsPerOperation).append('\n');
+        for (Iteration iteration : result.iterations)
+          lines.append(iteration.operations).append(' ').append(iteration.nanos).append(' ')
+              .append(iteration.allocated).append('\n');
+      }
+      Files.writeString(Paths.get(forkResultFile), lines);
+      return;
+    }
+
+    if (results.isEmpty()) {
+      System.out.println("No benchmarks matched");
+      return;
+    }
+
+    int width = "Benchmark".length();
+    for (Result result : results)
+      width = Math.max(width, label(result).length());
+
+    System.out.println(String.format("%-" + width + "s  %5s  %14s    %12s  %16s  %14s  %10s", "Benchmark", "Cnt",
+        "Score", "Error", "Units/s", "B/op", "B/unit"));
+    for (Result result : results) {
+      double score = mean(result.scores());
+      double allocation = mean(result.allocations());
+      System.out.println(String.format("%-" + width + "s  %5d  %14s +- %12s  %16s  %14s  %10s", label(result),
+          result.iterations.size(), format(score), format(error(result.scores())),
+          format(score * result.unitsPerOperation) + " " + result.unit, format(allocation),
+          format(allocation / result.unitsPerOperation)));
+    }
+
+    if (resultFormat != null) {
+      Files.writeString(Paths.get(resultFile), toJson());
+      System.out.println("\nResults written to " + resultFile);
+    }
+  }
+
+  private static String label(Result result) {
+    return result.params.isEmpty() ? result.benchmark
+        : result.benchmark + ":" + String.join(",", result.params.values());
+  }
+
+  private static String format(double value) {
+    if (Double.isNaN(value))
+      return "NaN";
+    return String.format(value >= 100 ? "%.0f" : "%.3f", value);
+  }
+
+  // one object per result with its options, summary and the score of every
+  // measured iteration
+  String toJson() {
+    StringBuilder json = new StringBuilder("[\n");
+    for (int i = 0; i < results.size(); i++) {
+      Result result = results.get(i);
+      double[] scores = result.scores();
+      double score = mean(scores);
+      double allocation = mean(result.allocations());
+
+      json.append("  {\n");
+      json.append("    \"benchmark\": ").append(quote(result.benchmark)).append(",\n");
+      json.append("    \"params\": {");
+      String separator = "";
+      for (Map.Entry<String, String> param : result.params.entrySet()) {
+        json.append(separator).append(quote(param.getKey())).append(": ").append(quote(param.getValue()));
+        separator = ", ";
+      }
+      json.append("},\n");
+      json.append("    \"jdkVersion\": ").append(quote(System.getProperty("java.version"))).append(",\n");
+      json.append("    \"forks\": ").append(forks).append(",\n");
+      json.append("    \"warmupIterations\": ").append(warmupIterations).append(",\n");
+      json.append("    \"warmupSeconds\": ").append(warmupSeconds).append(",\n");
+      json.append("    \"measurementIterations\": ").append(measurementIterations).append(",\n");
+      json.append("    \"measurementSeconds\": ").append(measurementSeconds).append(",\n");
+      json.append("    \"opsPerSecond\": ").append(number(score)).append(",\n");
+      json.append("    \"error\": ").append(number(error(scores))).append(",\n");
+      json.append("    \"unit\": ").append(quote(result.unit)).append(",\n");
+      json.append("    \"unitsPerSecond\": ").append(number(score * result.unitsPerOperation)).append(",\n");
+      json.append("    \"bytesPerOperation\": ").append(number(allocation)).append(",\n");
+      json.append("    \"bytesPerUnit\": ").append(number(allocation / result.unitsPerOperation)).append(",\n");
+      json.append("    \"scores\": [");
+      for (int j = 0; j < scores.length; j++)
+        json.append(j > 0 ? ", " : "").append(number(scores[j]));
+      json.append("]\n");
+      json.append(i + 1 < results.size() ? "  },\n" : "  }\n");
+    }
+
+    return json.append("]\n").toString();
+  }
+
+  // JSON has no NaN, it is written as null
+  private static String number(double value) {
+    return Double.isNaN(value) || Double.isInfinite(value) ? "null" : Double.toString(value);
+  }
+
+  private static String quote(String value) {
+    StringBuilder quoted = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\')
+        quoted.append('\\').append(c);
+      else if (c < 0x20)
+        quoted.append(String.format("\\u%04x", (int) c));
+      else
+        quoted.append(c);
+    }
+    return quoted.append('"').toString();
+  }
+}
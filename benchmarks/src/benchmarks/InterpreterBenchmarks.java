@@ -0,0 +1,363 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import interpreter.ExecutionContext;
+import interpreter.Global;
+import interpreter.LoLangValue;
+import lexer.SourceFile;
+import lexer.SymbolTable;
+import parser.ExpressionNode;
+import parser.LR1ParseTable;
+import parser.LR1ParserContext;
+import parser.LR1TableFile;
+import parser.Node;
+import parser.ParserResult;
+import parser.Resolver;
+import parser.StatementNode;
+import semantic.SemanticContext;
+import utils.CodeReader;
+import utils.FileLoader;
+
+/**
+ * Throughput of the interpreter, for single node types and for whole programs.
+ * Every benchmark parses a small script, runs it once to set up its globals and
+ * then evaluates one node of it over and over in the global context:
+ *
+ * binary: Binary.evaluate on numbers and strings
+ * identifier: reads of a global from inside depth nested blocks
+ * builtin: reads of a builtin function from inside depth nested blocks
+ * dotAccess: DotAccess.evaluate on an object field and on a string and an
+ * array method
+ * functionCall, functionCallDirect: a FunctionCall node of a user defined
+ * function, and UserDefinedFunction.call on the same function
+ * whileLoop, counterLoop, forEachLoop: 1000 iterations of each loop
+ * arrayMethod: map, filter and toSorted of Global.ArrayMethods on 1000 numbers
+ * kernel: recursive factorial and fibonacci, and a sum 500 calls deep
+ * program: Demo_Recursion.lol parsed, analyzed and run from scratch
+ *
+ * Nodes that take nanoseconds are evaluated BATCH times per operation, the
+ * unit rate is the rate of single evaluations. Output of the programs is
+ * discarded while they are measured.
+ */
+public class InterpreterBenchmarks {
+  static final int BATCH = 1000;
+  static final int ELEMENTS = 1000;
+
+  static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+  static final String BENCHMARK = "benchmarks.InterpreterBenchmarks.";
+
+  static final String KERNELS = String.join("\n",
+      "item factorial: skill (stats) -> stats = skill (item n: stats): stats -> {",
+      "    canwin (n <= 1) {",
+      "        recast 1;",
+      "    }",
+      "    recast n * factorial(n - 1);",
+      "};",
+      "item fibonacci: skill (stats) -> stats = skill (item n: stats): stats -> {",
+      "    canwin (n < 2) {",
+      "        recast n;",
+      "    }",
+      "    recast fibonacci(n - 1) + fibonacci(n - 2);",
+      "};",
+      "item sum: skill (stats) -> stats = skill (item n: stats): stats -> {",
+      "    canwin (n <= 0) {",
+      "        recast 0;",
+      "    }",
+      "    recast n + sum(n - 1);",
+      "};",
+      "");
+
+  static LR1ParserContext parsers;
+
+  public static void main(String[] args) throws Exception {
+    Harness harness = Harness.fromArgs(args);
+
+    LR1ParseTable table = LR1TableFile.load(FileLoader.resolve("grammar.txt"), FileLoader.resolve("lr1_table.txt"));
+    parsers = new LR1ParserContext(table);
+
+    String globals = "item a: stats = 12.5;\nitem b: stats = 7;\nitem s: message = \"lo\";\n"
+        + "item t: message = \"lang\";\n";
+    String[][] binaries = { { "number_add", "a + b" }, { "number_compare", "a <= b" },
+        { "string_concat", "s + t" }, { "string_equals", "s == t" }, { "string_number", "s + a" } };
+    for (String expression : harness.values("expression", names(binaries))) {
+      if (!harness.measures(BENCHMARK + "binary", params("expression", expression)))
+        continue;
+
+      Script script = new Script(globals + find(binaries, expression) + ";");
+      ExpressionNode.Binary binary = script.last(ExpressionNode.Binary.class);
+      harness.run(BENCHMARK + "binary", params("expression", expression), "evaluations", BATCH, () -> {
+        LoLangValue value = null;
+        for (int i = 0; i < BATCH; i++)
+          value = binary.evaluate(script.context, script.context);
+        return value;
+      });
+    }
+
+    for (String depth : harness.values("depth", "0", "1", "4", "8")) {
+      if (!harness.measures(BENCHMARK + "identifier", params("depth", depth)))
+        continue;
+
+      // the blocks create the environments of the reads, so resolved identifiers
+      // are measured in the scopes they were resolved for
+      int levels = Integer.parseInt(depth);
+      Script script = new Script("item a: stats = 1;\n" + "{\n".repeat(levels) + "a;\n".repeat(BATCH)
+          + "}\n".repeat(levels));
+      List<? extends StatementNode> reads = levels == 0 ? script.all(StatementNode.Expression.class)
+          : script.all(StatementNode.Block.class).subList(0, 1);
+      harness.run(BENCHMARK + "identifier", params("depth", depth), "lookups", BATCH, () -> {
+        for (StatementNode read : reads)
+          read.execute(script.context, script.context);
+        return reads;
+      });
+    }
+
+    for (String depth : harness.values("depth", "0", "1", "4", "8")) {
+      if (!harness.measures(BENCHMARK + "builtin", params("depth", depth)))
+        continue;
+
+      int levels = Integer.parseInt(depth);
+      Script script = new Script("{\n".repeat(levels) + "broadcast;\n".repeat(BATCH) + "}\n".repeat(levels));
+      List<? extends StatementNode> reads = levels == 0 ? script.all(StatementNode.Expression.class)
+          : script.all(StatementNode.Block.class).subList(0, 1);
+      harness.run(BENCHMARK + "builtin", params("depth", depth), "lookups", BATCH, () -> {
+        for (StatementNode read : reads)
+          read.execute(script.context, script.context);
+        return reads;
+      });
+    }
+
+    String objects = "build Player {\n    name: message;\n    pentas: stats;\n}\n"
+        + "item player: build Player = {\n    name: \"Faker\",\n    pentas: 1\n};\n"
+        + "item s: message = \"lolang\";\n" + numbers("values");
+    String[][] receivers = { { "object", "player.name" }, { "string", "s.length" }, { "array", "values.length" } };
+    for (String receiver : harness.values("receiver", names(receivers))) {
+      if (!harness.measures(BENCHMARK + "dotAccess", params("receiver", receiver)))
+        continue;
+
+      Script script = new Script(objects + find(receivers, receiver) + ";");
+      ExpressionNode.DotAccess access = script.last(ExpressionNode.DotAccess.class);
+      harness.run(BENCHMARK + "dotAccess", params("receiver", receiver), "evaluations", BATCH, () -> {
+        LoLangValue value = null;
+        for (int i = 0; i < BATCH; i++)
+          value = access.evaluate(script.context, script.context);
+        return value;
+      });
+    }
+
+    boolean measureCall = harness.measures(BENCHMARK + "functionCall", params());
+    boolean measureDirect = harness.measures(BENCHMARK + "functionCallDirect", params());
+    if (measureCall || measureDirect) {
+      Script script = new Script("item add: skill (stats, stats) -> stats = "
+          + "skill (item x: stats, item y: stats): stats -> {\n    recast x + y;\n};\nadd(1, 2);");
+      ExpressionNode.FunctionCall call = script.last(ExpressionNode.FunctionCall.class);
+      harness.run(BENCHMARK + "functionCall", params(), "calls", BATCH, () -> {
+        LoLangValue value = null;
+        for (int i = 0; i < BATCH; i++)
+          value = call.evaluate(script.context, script.context);
+        return value;
+      });
+
+      LoLangValue.UserDefinedFunction add = (LoLangValue.UserDefinedFunction) script.context.environment.get("add");
+      ArrayList<LoLangValue> arguments = new ArrayList<>(
+          Arrays.asList(new LoLangValue.Number(1), new LoLangValue.Number(2)));
+      harness.run(BENCHMARK + "functionCallDirect", params(), "calls", BATCH, () -> {
+        LoLangValue value = null;
+        for (int i = 0; i < BATCH; i++)
+          value = add.call(script.context, arguments);
+        return value;
+      });
+    }
+
+    if (harness.measures(BENCHMARK + "whileLoop", params())) {
+      Script script = new Script("item total: stats = 0;\nitem i: stats = 0;\n"
+          + "wave (i < " + ELEMENTS + ") {\n    total = total + i;\n    i++;\n}");
+      StatementNode.WhileLoop loop = script.last(StatementNode.WhileLoop.class);
+      harness.run(BENCHMARK + "whileLoop", params(), "iterations", ELEMENTS, () -> {
+        script.context.environment.assign(SymbolTable.intern("i"), new LoLangValue.Number(0));
+        loop.execute(script.context, script.context);
+        return script.context.environment.get("total");
+      });
+    }
+
+    if (harness.measures(BENCHMARK + "counterLoop", params())) {
+      Script script = new Script("item total: stats = 0;\n"
+          + "cannon (item i: stats = 0; i < " + ELEMENTS + "; i++) {\n    total = total + i;\n}");
+      StatementNode.CounterControlledLoop loop = script.last(StatementNode.CounterControlledLoop.class);
+      harness.run(BENCHMARK + "counterLoop", params(), "iterations", ELEMENTS, () -> {
+        loop.execute(script.context, script.context);
+        return script.context.environment.get("total");
+      });
+    }
+
+    if (harness.measures(BENCHMARK + "forEachLoop", params())) {
+      Script script = new Script("item total: stats = 0;\n" + numbers("values")
+          + "cannon (item value: stats of values) {\n    total = total + value;\n}");
+      StatementNode.ForEachLoop loop = script.last(StatementNode.ForEachLoop.class);
+      harness.run(BENCHMARK + "forEachLoop", params(), "iterations", ELEMENTS, () -> {
+        loop.execute(script.context, script.context);
+        return script.context.environment.get("total");
+      });
+    }
+
+    String[][] methods = {
+        { "map", "values.map(skill (item v: stats): stats -> {\n    recast v * 2;\n})" },
+        { "filter", "values.filter(skill (item v: stats): goat -> {\n    recast v % 2 == 0;\n})" },
+        { "toSorted", "values.toSorted(skill (item x: stats, item y: stats): stats -> {\n    recast y - x;\n})" } };
+    for (String method : harness.values("method", names(methods))) {
+      if (!harness.measures(BENCHMARK + "arrayMethod", params("method", method)))
+        continue;
+
+      Script script = new Script(numbers("values") + find(methods, method) + ";");
+      ExpressionNode.FunctionCall call = script.last(ExpressionNode.FunctionCall.class);
+      harness.run(BENCHMARK + "arrayMethod", params("method", method), "elements", ELEMENTS,
+          () -> call.evaluate(script.context, script.context));
+    }
+
+    String[][] kernels = { { "factorial_100", "factorial(100)" }, { "fibonacci_20", "fibonacci(20)" },
+        { "sum_500", "sum(500)" } };
+    long[] kernelCalls = { 100, 21891, 501 };
+    for (String kernel : harness.values("kernel", names(kernels))) {
+      if (!harness.measures(BENCHMARK + "kernel", params("kernel", kernel)))
+        continue;
+
+      Script script = new Script(KERNELS + find(kernels, kernel) + ";");
+      ExpressionNode.FunctionCall call = script.last(ExpressionNode.FunctionCall.class);
+      long calls = kernelCalls[Arrays.asList(names(kernels)).indexOf(kernel)];
+      harness.run(BENCHMARK + "kernel", params("kernel", kernel), "calls", calls,
+          () -> call.evaluate(script.context, script.context));
+    }
+
+    if (harness.measures(BENCHMARK + "program", params("source", "Demo_Recursion"))) {
+      SourceFile source = SourceFile.load(new File(CodeReader.getExamplesRoot(), "demos/Demo_Recursion.lol"));
+      harness.run(BENCHMARK + "program", params("source", "Demo_Recursion"), "programs", 1, () -> {
+        PrintStream out = System.out;
+        System.setOut(DISCARD);
+        try {
+          return new Script(source).context;
+        } finally {
+          System.setOut(out);
+        }
+      });
+    }
+
+    harness.finish();
+  }
+
+  /**
+   * A parsed program that was analyzed, resolved and run once in a new global
+ * context, the way CodeReader runs files
+   */
+  static class Script {
+    final StatementNode.Program program;
+    final ExecutionContext context = Global.createGlobalExecutionContext();
+
+    Script(String text) {
+      this(new SourceFile(text, "benchmark.lol"));
+    }
+
+    Script(SourceFile source) {
+      ParserResult result = parsers.createParser().parse(source);
+      if (!result.errors.isEmpty())
+        throw new IllegalStateException("Benchmark script does not parse: " + result.errors.get(0).getMessage());
+      if (!(result.root instanceof StatementNode.Program))
+        throw new IllegalStateException("Benchmark script is not a program");
+      program = (StatementNode.Program) result.root;
+
+      SemanticContext analysis = Global.createGlobalSemanticContext();
+      program.semanticAnalysis(analysis);
+      if (!analysis.exceptions.isEmpty())
+        throw new IllegalStateException("Benchmark script is not valid: " + analysis.exceptions.get(0).getMessage());
+
+      Resolver.resolve(program);
+      program.execute(context, context);
+    }
+
+    /**
+     * The nodes of the type in the program, in preorder
+     */
+    <T extends Node> List<T> all(Class<T> type) {
+      ArrayList<T> found = new ArrayList<>();
+      collect(program, type, found);
+      if (found.isEmpty())
+        throw new IllegalStateException("Benchmark script has no " + type.getSimpleName());
+      return found;
+    }
+
+    <T extends Node> T last(Class<T> type) {
+      List<T> found = all(type);
+      return found.get(found.size() - 1);
+    }
+  }
+
+  // node fields are package private, so the tree is searched through
+  // reflection. Transient fields hold what later passes worked out, like the
+  // tree of an imported file, so only the parsed tree itself is searched
+  static <T extends Node> void collect(Object value, Class<T> type, List<T> found) {
+    if (value instanceof List) {
+      for (Object element : (List<?>) value)
+        collect(element, type, found);
+      return;
+    }
+
+    if (!(value instanceof Node))
+      return;
+
+    if (type.isInstance(value))
+      found.add(type.cast(value));
+
+    for (Class<?> current = value.getClass(); current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
+            || field.getType().isPrimitive())
+          continue;
+
+        try {
+          field.setAccessible(true);
+          collect(field.get(value), type, found);
+        } catch (IllegalAccessException e) {
+          throw new Error("Was not able to read the syntax tree", e);
+        }
+      }
+    }
+  }
+
+  // a declaration of an array of the numbers 0 to ELEMENTS - 1 in a shuffled order
+  static String numbers(String name) {
+    StringBuilder declaration = new StringBuilder("item " + name + ": stats[] = [");
+    for (int i = 0; i < ELEMENTS; i++)
+      declaration.append(i > 0 ? ", " : "").append((i * 7919) % ELEMENTS);
+    return declaration.append("];\n").toString();
+  }
+
+  static String[] names(String[][] pairs) {
+    String[] names = new String[pairs.length];
+    for (int i = 0; i < pairs.length; i++)
+      names[i] = pairs[i][0];
+    return names;
+  }
+
+  static String find(String[][] pairs, String name) {
+    for (String[] pair : pairs)
+      if (pair[0].equals(name))
+        return pair[1];
+    throw new IllegalArgumentException("Unknown parameter value " + name);
+  }
+
+  static Map<String, String> params(String... entries) {
+    Map<String, String> params = new LinkedHashMap<>();
+    for (int i = 0; i < entries.length; i += 2)
+      params.put(entries[i], entries[i + 1]);
+    return params;
+  }
+}
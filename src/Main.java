@@ -1,3 +1,5 @@
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 
 import interpreter.Global;
@@ -22,13 +24,34 @@ public class Main {
         boolean printParseTree = !argsList.contains("--no:trees");
         CodeReader.settings(printTable,printParseTree,printRegexTokens);
 
-        // load the grammar file and list of productions
-        LR1GrammarParser grammarParser = new LR1GrammarParser(FileLoader.loadFile("grammar.txt"));
-        ArrayList<LR1GrammarParser.LR1GrammarProduction> productions = grammarParser.parse();
-        LR1TableParser tableParser = new LR1TableParser(FileLoader.loadFile("lr1_table.txt"));
-        ArrayList<LR1TableParser.LR1TableState> states = tableParser.parse();
+        // load the compiled parse table, rebuilding it from the grammar and table text files if needed
+        LR1ParseTable table;
+        try {
+            if (argsList.contains("--build:lr1") || argsList.contains("--build:lalr"))
+                // build the table from the grammar instead of using the one from generator.ts
+                table = LR1TableFile.loadBuilt(FileLoader.resolve("grammar.txt"), argsList.contains("--build:lalr"));
+            else
+                table = LR1TableFile.load(FileLoader.resolve("grammar.txt"), FileLoader.resolve("lr1_table.txt"));
+        } catch (IOException e) {
+            throw new Error("Was not able to load the parse table");
+        }
 
-        CodeReader codeReader = new CodeReader(new LR1Parser(productions, states));
+        // the generated parser only matches the table it was generated from
+        boolean useGeneratedParser = argsList.contains("--engine:generated");
+        if (useGeneratedParser && !LR1ParserContext.hasGeneratedParser(table)) {
+            System.out.println("The generated parser is out of date, using the table parser instead");
+            useGeneratedParser = false;
+        }
+
+        LR1ParserContext context = new LR1ParserContext(table, useGeneratedParser);
+
+        // keep parsed trees next to the compiled table so unchanged files are not parsed again
+        if (!argsList.contains("--no:cache"))
+            context.useCache(new ParseCache(
+                    new File(FileLoader.resolve("lr1_table.txt").getAbsoluteFile().getParentFile(), "parse_cache"),
+                    table));
+
+        CodeReader codeReader = new CodeReader(context.createParser());
         codeReader.run(isInteractive);
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package interpreter;
+
+import lexer.Token;
+
+/**
+ * How a statement finished. Statements that move control elsewhere (return,
+ * switch break and goto, loop break and continue) return a completion instead
+ * of throwing, and every statement that runs others hands a completion that
+ * is not NORMAL on to its own caller, until it reaches the function, switch or
+ * loop that handles it.
+ */
+public abstract class Completion {
+  public static final Completion NORMAL = new Normal();
+
+  // the error of a completion that left every statement that could handle it
+  public abstract RuntimeError toRuntimeError();
+
+  private static class Normal extends Completion {
+    public RuntimeError toRuntimeError() {
+      throw new IllegalStateException("A normal completion is not an error");
+    }
+  }
+
+  public static class Return extends Completion {
+    // null for a return without a value
+    public final LoLangValue value;
+    public final Token token;
+
+    public Return(LoLangValue value, Token token) {
+      this.value = value;
+      this.token = token;
+    }
+
+    public RuntimeError toRuntimeError() {
+      return new RuntimeError("Return statement is used outside of function body", token);
+    }
+  }
+
+  public static class SwitchBreak extends Completion {
+    public final Token token;
+
+    public SwitchBreak(Token token) {
+      this.token = token;
+    }
+
+    public RuntimeError toRuntimeError() {
+      return new RuntimeError("Switch break statement is used outside of state body", token);
+    }
+  }
+
+  public static class SwitchGoto extends Completion {
+    public final LoLangValue label;
+    public final Token source;
+    public final Token gotoToken;
+
+    public SwitchGoto(LoLangValue label, Token source, Token gotoToken) {
+      this.label = label;
+      this.source = source;
+      this.gotoToken = gotoToken;
+    }
+
+    public RuntimeError toRuntimeError() {
+      return new RuntimeError("Switch goto statement is used outside of state body", gotoToken);
+    }
+  }
+
+  public static class LoopBreak extends Completion {
+    public final Token token;
+
+    public LoopBreak(Token token) {
+      this.token = token;
+    }
+
+    public RuntimeError toRuntimeError() {
+      return new RuntimeError("Loop break statement is used outside of state body", token);
+    }
+  }
+
+  public static class LoopContinue extends Completion {
+    public final Token token;
+
+    public LoopContinue(Token token) {
+      this.token = token;
+    }
+
+    public RuntimeError toRuntimeError() {
+      return new RuntimeError("Loop break statement is used outside of state body", token);
+    }
+  }
+}
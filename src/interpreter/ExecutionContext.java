@@ -1,48 +1,98 @@
 package interpreter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 
 import lexer.Token;
 import utils.Environment;
 import utils.FileLoader;
+import utils.ModuleRegistry;
 
 public class ExecutionContext {
+  /**
+   * A call on the call stack. Entries link to the call they were made from and
+   * never change, so every call made from one shares it as its tail and a call
+   * only adds one entry, however deep the stack is.
+   */
   public static class CallStackEntry {
-    Token functionCallToken;
+    final Token functionCallToken;
+    final CallStackEntry caller;
 
-    public CallStackEntry(Token functionCallToken) {
+    public CallStackEntry(Token functionCallToken, CallStackEntry caller) {
       this.functionCallToken = functionCallToken;
+      this.caller = caller;
     }
   }
 
   public Environment<LoLangValue> environment = new Environment<LoLangValue>();
-  public ArrayList<CallStackEntry> callStack = new ArrayList<>();
+
+  // the innermost call, null outside of any function
+  public CallStackEntry callStack = null;
+
+  // the imported files of the run, shared by every context of it
+  public final ModuleRegistry modules;
 
   public ExecutionContext() {
+    this(new ModuleRegistry());
+  }
+
+  public ExecutionContext(ModuleRegistry modules) {
+    this.modules = modules;
   }
 
-  private ExecutionContext(Environment<LoLangValue> parentEnvironment, ArrayList<CallStackEntry> parentCallStack) {
+  private ExecutionContext(Environment<LoLangValue> parentEnvironment, CallStackEntry callStack,
+      ModuleRegistry modules) {
     this.environment = new Environment<LoLangValue>(parentEnvironment);
-    this.callStack = parentCallStack;
+    this.callStack = callStack;
+    this.modules = modules;
   }
 
-  @SuppressWarnings("unchecked")
-  public ExecutionContext fork(CallStackEntry callStackEntry) {
-    ArrayList<CallStackEntry> newCallStack = (ArrayList<CallStackEntry>) this.callStack.clone();
-    newCallStack.add(callStackEntry);
-    ExecutionContext newContext = new ExecutionContext(environment, newCallStack);
+  // a context for a call made at the token
+  public ExecutionContext fork(Token functionCallToken) {
+    ExecutionContext newContext = new ExecutionContext(environment,
+        new CallStackEntry(functionCallToken, this.callStack), modules);
     return newContext;
   }
 
   public ExecutionContext fork() {
-    ExecutionContext newContext = new ExecutionContext(environment, this.callStack);
+    ExecutionContext newContext = new ExecutionContext(environment, this.callStack, modules);
+    return newContext;
+  }
+
+  // a context for a scope of the resolver, unresolved scopes pass a null layout
+  public ExecutionContext fork(Environment.Layout layout) {
+    ExecutionContext newContext = this.fork();
+    if (layout != null)
+      newContext.useLayout(layout);
+
     return newContext;
   }
 
+  // scopes without variables share their empty slots
+  private static final LoLangValue[] NO_SLOTS = new LoLangValue[0];
+
+  // gives the environment a slot for each variable of the scope
+  public void useLayout(Environment.Layout layout) {
+    this.environment.layout = layout;
+    this.environment.slots = layout.size() > 0 ? new LoLangValue[layout.size()] : NO_SLOTS;
+  }
+
+  /**
+   * The calls on the stack, the outermost first
+   */
+  public ArrayList<CallStackEntry> getCallStack() {
+    ArrayList<CallStackEntry> calls = new ArrayList<>();
+    for (CallStackEntry entry = this.callStack; entry != null; entry = entry.caller)
+      calls.add(entry);
+
+    Collections.reverse(calls);
+    return calls;
+  }
+
   public void printCallStack() {
     System.out.println("Call stack:");
 
-    for (CallStackEntry entry : this.callStack) {
+    for (CallStackEntry entry : this.getCallStack()) {
       // Point to the area of the file that caused the error
       String[] lines = FileLoader.loadFile(entry.functionCallToken.sourcePath).split("\n");
 
@@ -11,12 +11,18 @@ import semantic.SemanticContext;
 import semantic.SemanticAnalyzerException.GenericReturnTypeArityException;
 import semantic.SemanticAnalyzerException.GenericReturnTypeParameterMismatchException;
 import utils.InputScanner;
+import utils.ModuleRegistry;
 
 public class Global {
   public static boolean isLenient = false;
 
   static public ExecutionContext createGlobalExecutionContext() {
-    ExecutionContext context = new ExecutionContext();
+    return createGlobalExecutionContext(new ModuleRegistry());
+  }
+
+  // the global context of an imported file shares the modules of its importer
+  static public ExecutionContext createGlobalExecutionContext(ModuleRegistry modules) {
+    ExecutionContext context = new ExecutionContext(modules);
 
     context.environment.tryDefine("broadcast",
         new LoLangValue.SystemDefinedFunction((ExecutionContext dynamicContext, LoLangValue[] arguments) -> {
@@ -63,7 +69,11 @@ public class Global {
   };
 
   static public SemanticContext createGlobalSemanticContext() {
-    SemanticContext context = new SemanticContext();
+    return createGlobalSemanticContext(new ModuleRegistry());
+  }
+
+  static public SemanticContext createGlobalSemanticContext(ModuleRegistry modules) {
+    SemanticContext context = new SemanticContext(modules);
 
     context.typeEnvironment.tryDefine("message", new LoLangType.String(), true);
     context.typeEnvironment.tryDefine("stats", new LoLangType.Number(), true);
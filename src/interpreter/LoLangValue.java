@@ -6,6 +6,7 @@ import java.util.HashMap;
 
 import interpreter.Global.InternalMethod;
 import interpreter.InterpreterExceptions.DotAccessNonExistentException;
+import lexer.Symbol;
 import parser.Node;
 import parser.StatementNode;
 import semantic.LoLangType;
@@ -18,12 +19,12 @@ public abstract class LoLangValue {
 	public abstract LoLangType getType();
 
 	public interface DotSettable {
-		public void setDot(java.lang.String key, LoLangValue value)
+		public void setDot(Symbol key, LoLangValue value)
 				throws InterpreterExceptions.DotAccessNonExistentException;
 	}
 
 	public interface DotGettable {
-		public LoLangValue getDot(java.lang.String key) throws InterpreterExceptions.DotAccessNonExistentException;
+		public LoLangValue getDot(Symbol key) throws InterpreterExceptions.DotAccessNonExistentException;
 	}
 
 	public interface IndexGettable {
@@ -55,10 +56,10 @@ public abstract class LoLangValue {
 						   java.lang.String.format("%s",this.value);
 		}
 
-		public LoLangValue getDot(java.lang.String key) throws DotAccessNonExistentException {
-			InternalMethod<String> method = Global.StringMethods.get(key);
+		public LoLangValue getDot(Symbol key) throws DotAccessNonExistentException {
+			InternalMethod<String> method = Global.StringMethods.get(key.name);
 			if (method == null)
-				throw new DotAccessNonExistentException(key);
+				throw new DotAccessNonExistentException(key.name);
 			return method.run(this);
 		}
 
@@ -115,40 +116,40 @@ public abstract class LoLangValue {
 	}
 
 	public static class Object extends LoLangValue implements DotSettable, DotGettable {
-		HashMap<java.lang.String, LoLangValue> fields;
+		HashMap<Symbol, LoLangValue> fields;
 
-		public Object(HashMap<java.lang.String, LoLangValue> fields) {
+		public Object(HashMap<Symbol, LoLangValue> fields) {
 			this.fields = fields;
 		}
 
-		public void setDot(java.lang.String key, LoLangValue value)
+		public void setDot(Symbol key, LoLangValue value)
 				throws InterpreterExceptions.DotAccessNonExistentException {
-			if (this.fields.containsKey(key) == false)
-				throw new InterpreterExceptions.DotAccessNonExistentException(key);
-
-			this.fields.put(key, value);
+			// a field is only looked up again when it holds no value
+			if (this.fields.replace(key, value) == null && this.fields.containsKey(key) == false)
+				throw new InterpreterExceptions.DotAccessNonExistentException(key.name);
 		}
 
-		public LoLangValue getDot(java.lang.String key) throws InterpreterExceptions.DotAccessNonExistentException {
-			if (this.fields.containsKey(key) == false)
-				throw new InterpreterExceptions.DotAccessNonExistentException(key);
+		public LoLangValue getDot(Symbol key) throws InterpreterExceptions.DotAccessNonExistentException {
+			LoLangValue value = this.fields.get(key);
+			if (value == null && this.fields.containsKey(key) == false)
+				throw new InterpreterExceptions.DotAccessNonExistentException(key.name);
 
-			return this.fields.get(key);
+			return value;
 		}
 
 		public java.lang.String toString() {
 			java.lang.String ret = label ? "[LoLangValue.Object]: {" : "{";
 
-			for (java.lang.String key : this.fields.keySet())
+			for (Symbol key : this.fields.keySet())
 				ret += key + ": " + this.fields.get(key).toString() + ", ";
 
 			return ret + "}";
 		}
 
 		public LoLangType getType() {
-			HashMap<java.lang.String, LoLangType> fieldTypes = new HashMap<>();
+			HashMap<Symbol, LoLangType> fieldTypes = new HashMap<>();
 
-			for (java.lang.String key : this.fields.keySet())
+			for (Symbol key : this.fields.keySet())
 				fieldTypes.put(key, this.fields.get(key).getType());
 
 			return new LoLangType.Object(fieldTypes);
@@ -187,8 +188,8 @@ public abstract class LoLangValue {
 			return ret + "]";
 		}
 
-		public LoLangValue getDot(java.lang.String key) throws InterpreterExceptions.DotAccessNonExistentException {
-			return Global.ArrayMethods.get(key).run(this);
+		public LoLangValue getDot(Symbol key) throws InterpreterExceptions.DotAccessNonExistentException {
+			return Global.ArrayMethods.get(key.name).run(this);
 		}
 
 		public LoLangType getType() {
@@ -210,23 +211,25 @@ public abstract class LoLangValue {
 
 		public LoLangValue call(ExecutionContext dynamicContext, ArrayList<LoLangValue> arguments)
 				throws InterpreterExceptions {
-			ExecutionContext forkedContext = staticContext.fork();
+			ExecutionContext forkedContext = staticContext.fork(this.parameters.layout);
 
 			for (int i = 0; i < this.parameters.declarations.size(); i++) {
 				Node.VariableDeclarationHeader declaration = this.parameters.declarations.get(i);
 
 				try {
-					forkedContext.environment.define(declaration.identifier.lexeme, arguments.get(i), true);
+					declaration.addToContext(forkedContext, arguments.get(i));
 				} catch (EnvironmentException.EnvironmentAlreadyDeclaredException e) {
 					throw new InterpreterExceptions.RedeclaredVariableException(declaration.identifier.lexeme);
 				}
 			}
 
-			try {
-				this.body.execute(forkedContext, dynamicContext);
-			} catch (LoLangThrowable.Return returnException) {
-				return returnException.value;
-			}
+			Completion completion = this.body.execute(forkedContext, dynamicContext);
+			if (completion instanceof Completion.Return)
+				return ((Completion.Return) completion).value;
+
+			// breaks and gotos cannot leave the function they are in
+			if (completion != Completion.NORMAL)
+				throw completion.toRuntimeError();
 
 			return new LoLangValue.Null();
 		}
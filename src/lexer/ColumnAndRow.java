@@ -17,15 +17,4 @@ public class ColumnAndRow {
     public int getActualColumn() {
         return column;
     }
-
-    public static ColumnAndRow calculate(int index, String source) {
-        String[] lines = source.split("\n", -1);
-        int currentLine = 0;
-        int column = index;
-
-        for (; column > lines[currentLine].length(); column -= lines[currentLine++].length() + 1)
-            ;
-
-        return new ColumnAndRow(currentLine, column);
-    }
 }
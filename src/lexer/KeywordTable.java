@@ -0,0 +1,99 @@
+package lexer;
+
+import java.util.ArrayList;
+
+/**
+ * Classifies identifier shaped lexemes as keywords. The keywords are placed in
+ * an open table using a hash function whose seed is searched for until no two
+ * keywords collide, so a lookup is one hash and at most one comparison.
+ */
+class KeywordTable {
+    private final ArrayList<String> words = new ArrayList<>();
+    private final ArrayList<TokenType> types = new ArrayList<>();
+
+    // the generated table, rebuilt whenever a keyword is added. The slots are
+    // assigned last so that a thread that sees them also sees the rest
+    private volatile String[] slots;
+    private TokenType[] slotTypes;
+    private int seed;
+    private int minimumLength, maximumLength;
+
+    synchronized void add(String word, TokenType type) {
+        int existing = words.indexOf(word);
+        if (existing != -1) {
+            types.set(existing, type);
+        } else {
+            words.add(word);
+            types.add(type);
+        }
+
+        slots = null;
+    }
+
+    // returns the token type of the keyword spelled by text[start, end), or null
+    TokenType lookup(CharSequence text, int start, int end) {
+        String[] table = slots;
+        if (table == null)
+            table = build();
+
+        int length = end - start;
+        if (length < minimumLength || length > maximumLength)
+            return null;
+
+        int slot = hash(text, start, end, seed) & (table.length - 1);
+        String word = table[slot];
+        if (word == null || word.length() != length)
+            return null;
+
+        for (int i = 0; i < length; i++)
+            if (word.charAt(i) != text.charAt(start + i))
+                return null;
+
+        return slotTypes[slot];
+    }
+
+    private static int hash(CharSequence text, int start, int end, int seed) {
+        int hash = seed;
+        for (int i = start; i < end; i++)
+            hash = hash * 31 + text.charAt(i);
+
+        hash *= 0x9E3779B1;
+        return hash ^ (hash >>> 16);
+    }
+
+    private synchronized String[] build() {
+        if (slots != null)
+            return slots;
+
+        minimumLength = Integer.MAX_VALUE;
+        maximumLength = 0;
+        for (String word : words) {
+            minimumLength = Math.min(minimumLength, word.length());
+            maximumLength = Math.max(maximumLength, word.length());
+        }
+
+        // try a handful of seeds for every table size before doubling it
+        for (int size = Integer.highestOneBit(Math.max(1, words.size() * 2 - 1)) * 2;; size *= 2) {
+            for (int candidate = 1; candidate <= 1024; candidate++) {
+                String[] table = new String[size];
+                TokenType[] tableTypes = new TokenType[size];
+                boolean collided = false;
+
+                for (int i = 0; i < words.size() && !collided; i++) {
+                    String word = words.get(i);
+                    int slot = hash(word, 0, word.length(), candidate) & (size - 1);
+                    collided = table[slot] != null;
+                    table[slot] = word;
+                    tableTypes[slot] = types.get(i);
+                }
+
+                if (!collided) {
+                    seed = candidate;
+                    slotTypes = tableTypes;
+                    slots = table;
+                    return table;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package lexer;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Scans a large source on several threads. The source is split into chunks at
+ * newlines that are outside of string literals and comments, and every chunk
+ * is scanned by its own copy of the lexer. Since the only state of the lexer
+ * is its position, a chunk produces exactly the tokens that a sequential scan
+ * would, as long as the previous chunk stopped right where it starts. Chunks
+ * that don't line up, like when a string literal is unterminated, are scanned
+ * again from wherever the previous chunk actually stopped.
+ */
+class ParallelLexer {
+    static class Chunk {
+        final int start;
+        final int end;
+        final TokenBuffer tokens;
+        int resume; // where the lexer stopped after its last token
+
+        Chunk(int start, int end, TokenBuffer tokens) {
+            this.start = start;
+            this.end = end;
+            this.tokens = tokens;
+        }
+
+        boolean reachedEOF() {
+            return tokens.size() != 0 && tokens.getType(tokens.size() - 1) == TokenType.EOF;
+        }
+    }
+
+    static TokenBuffer scan(RegexEngine lexer, int chunkSize) {
+        CharSequence text = lexer.source.text;
+        ArrayList<Integer> boundaries = findBoundaries(text, chunkSize);
+
+        ArrayList<ForkJoinTask<Chunk>> tasks = new ArrayList<>();
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            int start = boundaries.get(i);
+            int end = i == boundaries.size() - 2 ? -1 : boundaries.get(i + 1);
+            tasks.add(ForkJoinPool.commonPool().submit(() -> scanChunk(lexer, start, end)));
+        }
+
+        TokenBuffer tokens = lexer.createTokenBuffer();
+        int position = 0;
+
+        for (ForkJoinTask<Chunk> task : tasks) {
+            Chunk chunk = task.join();
+            if (chunk.start != position)
+                chunk = scanChunk(lexer, position, chunk.end);
+
+            tokens.append(chunk.tokens);
+            position = chunk.resume;
+
+            if (chunk.reachedEOF())
+                break;
+        }
+
+        return tokens;
+    }
+
+    // scans every token that starts before the end of the chunk, the last chunk
+    // has an end of -1 and is scanned until the EOF token
+    private static Chunk scanChunk(RegexEngine lexer, int start, int end) {
+        RegexEngine chunkLexer = lexer.copy();
+        chunkLexer.currentCharacterIndex = start;
+
+        Chunk chunk = new Chunk(start, end, lexer.createTokenBuffer());
+        while ((end == -1 || chunkLexer.currentCharacterIndex < end) && !chunk.reachedEOF()) {
+            try {
+                chunkLexer.scanNextToken(chunk.tokens);
+            } catch (Error scannerError) {
+                chunk.tokens.addError(scannerError);
+            }
+        }
+
+        chunk.resume = chunkLexer.currentCharacterIndex;
+        return chunk;
+    }
+
+    // returns the offsets where the chunks start, followed by the length of the text
+    private static ArrayList<Integer> findBoundaries(CharSequence text, int chunkSize) {
+        ArrayList<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+
+        char quote = 0;
+        boolean lineComment = false, blockComment = false;
+        int nextBoundary = chunkSize;
+
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            char next = i + 1 < text.length() ? text.charAt(i + 1) : '\0';
+
+            if (quote != 0) {
+                if (ch == '\\' && next == quote)
+                    i++;
+                else if (ch == quote)
+                    quote = 0;
+            } else if (blockComment) {
+                if (ch == '*' && next == '/') {
+                    blockComment = false;
+                    i++;
+                }
+            } else if (lineComment) {
+                lineComment = ch != '\n';
+            } else if (ch == '"' || ch == '\'') {
+                quote = ch;
+            } else if (ch == '/' && next == '/') {
+                lineComment = true;
+                i++;
+            } else if (ch == '/' && next == '*') {
+                blockComment = true;
+                i++;
+            }
+
+            if (ch == '\n' && quote == 0 && !blockComment && i + 1 >= nextBoundary && i + 1 < text.length()) {
+                boundaries.add(i + 1);
+                nextBoundary = i + 1 + chunkSize;
+            }
+        }
+
+        boundaries.add(text.length());
+        return boundaries;
+    }
+}
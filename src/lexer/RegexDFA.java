@@ -0,0 +1,231 @@
+package lexer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+// A minimized deterministic automaton that recognizes every token rule of a RegexEngine at once.
+// Characters are grouped into classes so that transitions can be stored in a flat array.
+class RegexDFA {
+  static final int DEAD = -1;
+
+  final int startState;
+  final int stateCount;
+  final int classCount;
+
+  // transitions[state * classCount + class] is the next state, or DEAD
+  final int[] transitions;
+
+  // accepting[state] is the index of the highest priority rule accepted by the state, or -1
+  final int[] accepting;
+  final RegexNode[] rules;
+
+  // character classes for ascii characters, other characters are binary searched
+  // in a sorted array so that looking up a class never boxes the character
+  final int[] asciiClasses = new int[128];
+  final char[] otherCharacters;
+  final int[] otherClasses;
+
+  private RegexDFA(int startState, int stateCount, int classCount, int[] transitions, int[] accepting,
+      RegexNode[] rules, char[] alphabet) {
+    this.startState = startState;
+    this.stateCount = stateCount;
+    this.classCount = classCount;
+    this.transitions = transitions;
+    this.accepting = accepting;
+    this.rules = rules;
+
+    // the alphabet is sorted, so every non ascii character comes after the ascii ones
+    int asciiCount = 0;
+    Arrays.fill(asciiClasses, -1);
+    while (asciiCount < alphabet.length && alphabet[asciiCount] < 128) {
+      asciiClasses[alphabet[asciiCount]] = asciiCount;
+      asciiCount++;
+    }
+
+    otherCharacters = Arrays.copyOfRange(alphabet, asciiCount, alphabet.length);
+    otherClasses = new int[otherCharacters.length];
+    for (int i = 0; i < otherClasses.length; i++)
+      otherClasses[i] = asciiCount + i;
+  }
+
+  int classOf(char ch) {
+    if (ch < 128)
+      return asciiClasses[ch];
+
+    int index = Arrays.binarySearch(otherCharacters, ch);
+    return index < 0 ? -1 : otherClasses[index];
+  }
+
+  int next(int state, char ch) {
+    int characterClass = classOf(ch);
+    if (characterClass == -1)
+      return DEAD;
+
+    return transitions[state * classCount + characterClass];
+  }
+
+  boolean isAccepting(int state) {
+    return accepting[state] != -1;
+  }
+
+  RegexNode getAcceptedRule(int state) {
+    return accepting[state] == -1 ? null : rules[accepting[state]];
+  }
+
+  /**
+   * Compiles every rule that emits a token into a single minimized DFA. Rules
+   * are given priorities in the order that they are passed, so if two rules
+   * accept the same lexeme then the one that appears first wins.
+   */
+  static RegexDFA compile(ArrayList<RegexNode> rules, Map<String, RegexNode> environment) {
+    RegexNFA nfa = new RegexNFA();
+    int nfaStart = nfa.newState();
+
+    for (int i = 0; i < rules.size(); i++) {
+      int ruleStart = nfa.newState();
+      nfa.addEpsilon(nfaStart, ruleStart);
+
+      int ruleEnd = rules.get(i).buildNFA(nfa, ruleStart, environment);
+      nfa.accepting.set(ruleEnd, i);
+    }
+
+    // collect the characters that are used by the rules
+    TreeSet<Character> characters = new TreeSet<>();
+    for (ArrayList<int[]> stateTransitions : nfa.transitions)
+      for (int[] transition : stateTransitions)
+        characters.add((char) transition[0]);
+
+    char[] alphabet = new char[characters.size()];
+    HashMap<Character, Integer> classes = new HashMap<>();
+    int classIndex = 0;
+    for (char ch : characters) {
+      alphabet[classIndex] = ch;
+      classes.put(ch, classIndex++);
+    }
+
+    // perform the subset construction
+    ArrayList<BitSet> dfaStates = new ArrayList<>();
+    HashMap<BitSet, Integer> dfaStateIndices = new HashMap<>();
+    ArrayList<int[]> dfaTransitions = new ArrayList<>();
+
+    BitSet initial = new BitSet();
+    initial.set(nfaStart);
+    initial = nfa.closure(initial);
+    dfaStates.add(initial);
+    dfaStateIndices.put(initial, 0);
+
+    for (int current = 0; current < dfaStates.size(); current++) {
+      BitSet states = dfaStates.get(current);
+      BitSet[] moves = new BitSet[alphabet.length];
+
+      for (int state = states.nextSetBit(0); state >= 0; state = states.nextSetBit(state + 1)) {
+        for (int[] transition : nfa.transitions.get(state)) {
+          int characterClass = classes.get((char) transition[0]);
+          if (moves[characterClass] == null)
+            moves[characterClass] = new BitSet();
+          moves[characterClass].set(transition[1]);
+        }
+      }
+
+      int[] row = new int[alphabet.length];
+      for (int characterClass = 0; characterClass < alphabet.length; characterClass++) {
+        if (moves[characterClass] == null) {
+          row[characterClass] = DEAD;
+          continue;
+        }
+
+        BitSet target = nfa.closure(moves[characterClass]);
+        Integer targetIndex = dfaStateIndices.get(target);
+        if (targetIndex == null) {
+          targetIndex = dfaStates.size();
+          dfaStates.add(target);
+          dfaStateIndices.put(target, targetIndex);
+        }
+
+        row[characterClass] = targetIndex;
+      }
+
+      dfaTransitions.add(row);
+    }
+
+    // the accepted rule of a dfa state is the accepted nfa rule with the lowest index
+    int[] accepting = new int[dfaStates.size()];
+    for (int i = 0; i < dfaStates.size(); i++) {
+      accepting[i] = -1;
+      BitSet states = dfaStates.get(i);
+
+      for (int state = states.nextSetBit(0); state >= 0; state = states.nextSetBit(state + 1)) {
+        int rule = nfa.accepting.get(state);
+        if (rule != -1 && (accepting[i] == -1 || rule < accepting[i]))
+          accepting[i] = rule;
+      }
+    }
+
+    return minimize(dfaTransitions, accepting, alphabet, rules.toArray(new RegexNode[0]));
+  }
+
+  // merges equivalent states by repeatedly refining a partition of the states,
+  // starting with one block per accepted rule
+  private static RegexDFA minimize(ArrayList<int[]> transitions, int[] accepting, char[] alphabet,
+      RegexNode[] rules) {
+    int stateCount = accepting.length;
+    int[] blocks = new int[stateCount];
+    int blockCount = 0;
+
+    HashMap<Integer, Integer> initialBlocks = new HashMap<>();
+    for (int state = 0; state < stateCount; state++) {
+      Integer block = initialBlocks.get(accepting[state]);
+      if (block == null) {
+        block = blockCount++;
+        initialBlocks.put(accepting[state], block);
+      }
+      blocks[state] = block;
+    }
+
+    while (true) {
+      HashMap<String, Integer> signatures = new HashMap<>();
+      int[] nextBlocks = new int[stateCount];
+
+      for (int state = 0; state < stateCount; state++) {
+        StringBuilder signature = new StringBuilder().append(blocks[state]);
+        for (int target : transitions.get(state))
+          signature.append(',').append(target == DEAD ? DEAD : blocks[target]);
+
+        Integer block = signatures.get(signature.toString());
+        if (block == null) {
+          block = signatures.size();
+          signatures.put(signature.toString(), block);
+        }
+        nextBlocks[state] = block;
+      }
+
+      boolean stable = signatures.size() == blockCount;
+      blocks = nextBlocks;
+      blockCount = signatures.size();
+
+      if (stable)
+        break;
+    }
+
+    int classCount = alphabet.length;
+    int[] minimizedTransitions = new int[blockCount * classCount];
+    int[] minimizedAccepting = new int[blockCount];
+
+    for (int state = 0; state < stateCount; state++) {
+      int block = blocks[state];
+      minimizedAccepting[block] = accepting[state];
+
+      int[] row = transitions.get(state);
+      for (int characterClass = 0; characterClass < classCount; characterClass++)
+        minimizedTransitions[block * classCount + characterClass] = row[characterClass] == DEAD ? DEAD
+            : blocks[row[characterClass]];
+    }
+
+    return new RegexDFA(blocks[0], blockCount, classCount, minimizedTransitions, minimizedAccepting, rules,
+        alphabet);
+  }
+}
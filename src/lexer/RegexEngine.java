@@ -1,25 +1,35 @@
 package lexer;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-
-interface StringTransformer {
-  String run(String input);
-}
 
 public class RegexEngine {
-  private HashMap<String, RegexNode> environment = new HashMap<>();
-  String input;
-  String inputPath;
+  // rules are kept in insertion order since that determines their priority in the automaton
+  private LinkedHashMap<String, RegexNode> environment = new LinkedHashMap<>();
+  private RegexDFA automaton = null;
+  private KeywordTable keywords = new KeywordTable();
+  SourceFile source;
+  CharSequence input;
   int currentCharacterIndex;
   int startCharacterIndex;
 
-  private RegexEngine(String input, String inputPath) {
-    this.input = input;
-    this.inputPath = inputPath;
+  private RegexEngine(SourceFile source) {
+    this.source = source;
+    this.input = source.text;
+  }
+
+  // creates an engine over the same source that shares the rules and the automaton of this one
+  RegexEngine copy() {
+    if (automaton == null)
+      automaton = compile();
+
+    RegexEngine copy = new RegexEngine(source);
+    copy.environment = environment;
+    copy.automaton = automaton;
+    copy.keywords = keywords;
+    return copy;
   }
 
   private char peek() {
@@ -90,76 +100,117 @@ public class RegexEngine {
     root.setTokenType(emit);
     root.setTransformer(transformer);
     environment.put(name, root);
+    automaton = null;
+  }
+
+  // builds a single automaton out of every rule that emits a token, identifier
+  // rules are given the lowest priority so that keywords win ties against them
+  private RegexDFA compile() {
+    ArrayList<RegexNode> rules = new ArrayList<>();
+    for (RegexNode rule : environment.values())
+      if (rule.getTokenType() != null && rule.getTokenType() != TokenType.IDENTIFIER)
+        rules.add(rule);
+
+    for (RegexNode rule : environment.values())
+      if (rule.getTokenType() == TokenType.IDENTIFIER)
+        rules.add(rule);
+
+    return RegexDFA.compile(rules, environment);
   }
 
   public void addRule(String name, String expression, TokenType emit) {
     addRule(name, expression, emit, null);
   }
 
-  public Token peekNextToken() {
-    while (true) {
-      try {
-        int save = currentCharacterIndex;
-        Token token = getNextToken();
-        currentCharacterIndex = save;
-        return token;
-      } catch (Error scannerError) {
-        System.out.println(scannerError);
-      }
-    }
+  // keywords aren't part of the automaton, identifiers are looked up in the
+  // keyword table after they are scanned instead
+  public void addKeyword(String word, TokenType emit) {
+    keywords.add(word, emit);
   }
 
   public Token getNextToken() {
+    TokenType type = scan();
+    if (type == TokenType.EOF)
+      return new Token(TokenType.EOF, "", source, startCharacterIndex);
+
+    String matched = input.subSequence(startCharacterIndex, currentCharacterIndex).toString();
+    StringTransformer transformer = scannedRule != null ? scannedRule.getTransformer() : null;
+    String lexeme = transformer != null ? transformer.run(matched) : matched;
+    return new Token(type, lexeme, source, startCharacterIndex);
+  }
+
+  // scans the next token into the buffer without creating a Token object
+  public void scanNextToken(TokenBuffer buffer) {
+    TokenType type = scan();
+    buffer.add(type, startCharacterIndex, currentCharacterIndex - startCharacterIndex);
+  }
+
+  public TokenBuffer createTokenBuffer() {
+    StringTransformer[] transformers = new StringTransformer[TokenType.values().length];
+    for (RegexNode rule : environment.values())
+      if (rule.getTokenType() != null && rule.getTransformer() != null)
+        transformers[rule.getTokenType().ordinal()] = rule.getTransformer();
+
+    return new TokenBuffer(source, transformers);
+  }
+
+  // the rule that matched the last scanned token, null for keywords and EOF
+  private RegexNode scannedRule;
+
+  // moves past the next token and returns its type. The token spans
+  // startCharacterIndex to currentCharacterIndex
+  private TokenType scan() {
     do {
       ignoreWhitespace();
     } while (ignoreComment());
 
     startCharacterIndex = currentCharacterIndex;
+    scannedRule = null;
 
     if (hasNextToken() == false)
-      return new Token(TokenType.EOF, "", ColumnAndRow.calculate(startCharacterIndex, input), inputPath);
+      return TokenType.EOF;
 
-    RegexEngineParsingResult ret = new RegexEngineParsingResult(false, "", null);
-    RegexNode retNode = null;
+    if (automaton == null)
+      automaton = compile();
 
-    for (Map.Entry<String, RegexNode> entry : environment.entrySet()) {
-      RegexNode attemptNode = entry.getValue();
+    // walk the automaton for as long as possible, remembering the last accepting state
+    int state = automaton.startState;
+    int acceptedState = RegexDFA.DEAD;
+    int acceptedEnd = currentCharacterIndex;
 
-      if (attemptNode.getTokenType() == null)
-        continue;
-
-      ArrayList<String> matches = attemptNode.getMatches(input.substring(currentCharacterIndex), environment);
-
-      if (matches.size() > 0) {
-        String longest = "";
-        for (String match : matches)
-          if (match.length() > longest.length())
-            longest = match;
+    for (int i = currentCharacterIndex; i < input.length(); i++) {
+      state = automaton.next(state, input.charAt(i));
+      if (state == RegexDFA.DEAD)
+        break;
 
-        if (!ret.success || ret.lexeme.length() < longest.length()
-            || (ret.lexeme.length() == longest.length() && retNode.getTokenType() == TokenType.IDENTIFIER)) {
-          ret = new RegexEngineParsingResult(true, longest, entry.getKey());
-          retNode = attemptNode;
-        }
+      if (automaton.isAccepting(state)) {
+        acceptedState = state;
+        acceptedEnd = i + 1;
       }
     }
 
-    if (retNode != null && retNode.getTokenType() != null) {
-      currentCharacterIndex += ret.lexeme.length();
+    if (acceptedState != RegexDFA.DEAD) {
+      currentCharacterIndex = acceptedEnd;
+      scannedRule = automaton.getAcceptedRule(acceptedState);
 
-      String lexeme = retNode.getTransformer() != null ? retNode.getTransformer().run(ret.lexeme) : ret.lexeme;
-      Token returnedToken = new Token(retNode.getTokenType(), lexeme,
-          ColumnAndRow.calculate(startCharacterIndex, input), inputPath);
+      // keywords win over identifiers of the same length
+      if (scannedRule.getTokenType() == TokenType.IDENTIFIER) {
+        TokenType keyword = keywords.lookup(input, startCharacterIndex, acceptedEnd);
+        if (keyword != null) {
+          scannedRule = null;
+          return keyword;
+        }
+      }
 
-      return returnedToken;
+      return scannedRule.getTokenType();
     }
 
     char nextChar = input.charAt(startCharacterIndex);
-    ColumnAndRow position = ColumnAndRow.calculate(startCharacterIndex, input);
+    int row = source.getRow(startCharacterIndex);
 
     currentCharacterIndex++;
-    throw new ScannerError("Error: Unexpected character '" + nextChar + "' at Line: " + position.getActualRow()
-        + ", Column: " + position.getActualColumn());
+    throw new ScannerError("Error: Unexpected character '" + nextChar + "' at Line: " + (row + 1)
+        + ", Column: " + (startCharacterIndex - source.getLineStart(row)));
   }
 
   public boolean hasNextToken() {
@@ -167,8 +218,35 @@ public class RegexEngine {
   }
 
   public static RegexEngine createRegexEngine(String input, String inputPath) {
-    RegexEngine lexer = new RegexEngine(input, inputPath);
+    return createRegexEngine(new SourceFile(input, inputPath));
+  }
+
+  public static RegexEngine createRegexEngine(SourceFile source) {
+    RegexEngine lexer = new RegexEngine(source);
+    useDefaultRules(lexer);
+    return lexer;
+  }
 
+  // the default rules are the same for every engine, so they are only parsed and
+  // compiled by the first engine and every later one shares them
+  private static LinkedHashMap<String, RegexNode> defaultEnvironment = null;
+  private static RegexDFA defaultAutomaton = null;
+  private static KeywordTable defaultKeywords = null;
+
+  private static synchronized void useDefaultRules(RegexEngine lexer) {
+    if (defaultEnvironment == null) {
+      addDefaultRules(lexer);
+      defaultEnvironment = lexer.environment;
+      defaultAutomaton = lexer.compile();
+      defaultKeywords = lexer.keywords;
+    }
+
+    lexer.environment = defaultEnvironment;
+    lexer.automaton = defaultAutomaton;
+    lexer.keywords = defaultKeywords;
+  }
+
+  private static void addDefaultRules(RegexEngine lexer) {
     // lex symbols
     lexer.addRule("plus", "$+", TokenType.PLUS);
     lexer.addRule("minus", "$-", TokenType.MINUS);
@@ -232,85 +310,43 @@ public class RegexEngine {
     lexer.addRule("number_literal",
         "${float_number}|${decimal_number}|${octal_number}|${binary_number}|${hexadecimal_number}",
         TokenType.NUMBER_LITERAL);
-    lexer.addRule("boolean_literal", "faker|shaker", TokenType.BOOLEAN_LITERAL);
-    lexer.addRule("null_literal", "cooldown", TokenType.NULL_LITERAL);
+    lexer.addKeyword("faker", TokenType.BOOLEAN_LITERAL);
+    lexer.addKeyword("shaker", TokenType.BOOLEAN_LITERAL);
+    lexer.addKeyword("cooldown", TokenType.NULL_LITERAL);
 
     // handle identifier and reserved words
-    lexer.addRule("item", "item", TokenType.VARIABLE);
-    lexer.addRule("rune", "rune", TokenType.CONSTANT);
-    lexer.addRule("skill", "skill", TokenType.FUNCTION);
-    lexer.addRule("steal", "steal", TokenType.IMPORT);
-    lexer.addRule("build", "build", TokenType.OBJECT);
-    lexer.addRule("canwin", "canwin", TokenType.IF);
-    lexer.addRule("remake", "remake", TokenType.ELIF);
-    lexer.addRule("lose", "lose", TokenType.ELSE);
-    lexer.addRule("channel", "channel", TokenType.SWITCH);
-    lexer.addRule("teleport", "teleport", TokenType.CASE);
-    lexer.addRule("recall", "recall", TokenType.DEFAULT);
-    lexer.addRule("flash", "flash", TokenType.SWITCH_GOTO);
-    lexer.addRule("cancel", "cancel", TokenType.SWITCH_BREAK);
-    lexer.addRule("wave", "wave", TokenType.WHILE);
-    lexer.addRule("cannon", "cannon", TokenType.FOR);
-    lexer.addRule("clear", "clear", TokenType.LOOP_BREAK);
-    lexer.addRule("next", "next", TokenType.LOOP_CONTINUE);
-    lexer.addRule("of", "of", TokenType.OF);
-    lexer.addRule("support", "support", TokenType.TRY);
-    lexer.addRule("carry", "carry", TokenType.CATCH);
-    lexer.addRule("feed", "feed", TokenType.THROW);
-    lexer.addRule("recast", "recast", TokenType.RETURN);
+    lexer.addKeyword("item", TokenType.VARIABLE);
+    lexer.addKeyword("rune", TokenType.CONSTANT);
+    lexer.addKeyword("skill", TokenType.FUNCTION);
+    lexer.addKeyword("steal", TokenType.IMPORT);
+    lexer.addKeyword("build", TokenType.OBJECT);
+    lexer.addKeyword("canwin", TokenType.IF);
+    lexer.addKeyword("remake", TokenType.ELIF);
+    lexer.addKeyword("lose", TokenType.ELSE);
+    lexer.addKeyword("channel", TokenType.SWITCH);
+    lexer.addKeyword("teleport", TokenType.CASE);
+    lexer.addKeyword("recall", TokenType.DEFAULT);
+    lexer.addKeyword("flash", TokenType.SWITCH_GOTO);
+    lexer.addKeyword("cancel", TokenType.SWITCH_BREAK);
+    lexer.addKeyword("wave", TokenType.WHILE);
+    lexer.addKeyword("cannon", TokenType.FOR);
+    lexer.addKeyword("clear", TokenType.LOOP_BREAK);
+    lexer.addKeyword("next", TokenType.LOOP_CONTINUE);
+    lexer.addKeyword("of", TokenType.OF);
+    lexer.addKeyword("support", TokenType.TRY);
+    lexer.addKeyword("carry", TokenType.CATCH);
+    lexer.addKeyword("feed", TokenType.THROW);
+    lexer.addKeyword("recast", TokenType.RETURN);
 
     // handle type tokens
-    lexer.addRule("number_type", "stats", TokenType.NUMBER_TYPE);
-    lexer.addRule("boolean_type", "goat", TokenType.BOOLEAN_TYPE);
-    lexer.addRule("string_type", "message", TokenType.STRING_TYPE);
-    lexer.addRule("void_type", "passive", TokenType.VOID_TYPE);
+    lexer.addKeyword("stats", TokenType.NUMBER_TYPE);
+    lexer.addKeyword("goat", TokenType.BOOLEAN_TYPE);
+    lexer.addKeyword("message", TokenType.STRING_TYPE);
+    lexer.addKeyword("passive", TokenType.VOID_TYPE);
     lexer.addRule("identifier", "(${letter}|$_)(${letter}|${digit}|$_)*", TokenType.IDENTIFIER);
-
-    return lexer;
   }
 }
 
-class RegexEngineParsingResult {
-  boolean success;
-  String lexeme;
-  String from;
-
-  public RegexEngineParsingResult(boolean success, String lexeme, String from) {
-    this.success = success;
-    this.lexeme = lexeme;
-    this.from = from;
-  }
-
-  public String toString() {
-    return success ? "From: " + from + ". Lexeme: " + lexeme : "No token found";
-  }
-}
-
-abstract class RegexNode {
-  private TokenType emit;
-  private StringTransformer transformer;
-
-  public TokenType getTokenType() {
-    return emit;
-  }
-
-  public void setTokenType(TokenType emit) {
-    this.emit = emit;
-  }
-
-  public StringTransformer getTransformer() {
-    return transformer;
-  }
-
-  public void setTransformer(StringTransformer transformer) {
-    this.transformer = transformer;
-  }
-
-  abstract public String toString();
-
-  abstract public ArrayList<String> getMatches(String restString, HashMap<String, RegexNode> environment);
-}
-
 class RegexConcatenationNode extends RegexNode {
   ArrayList<RegexNode> nodes;
 
@@ -326,23 +362,11 @@ class RegexConcatenationNode extends RegexNode {
     return ret;
   }
 
-  public ArrayList<String> getMatches(String restString, HashMap<String, RegexNode> environment) {
-    ArrayList<String> caches = new ArrayList<>();
-    caches.add("");
-
-    for (RegexNode node : nodes) {
-      ArrayList<String> nextCaches = new ArrayList<>();
-
-      for (String cache : caches) {
-        String rest = restString.replaceFirst(Pattern.quote(cache), "");
-        ArrayList<String> nextMatches = node.getMatches(rest, environment);
-        nextCaches.addAll(nextMatches.stream().map(m -> cache + m).collect(Collectors.toList()));
-      }
-
-      caches = nextCaches;
-    }
-
-    return caches;
+  int buildNFA(RegexNFA nfa, int start, Map<String, RegexNode> environment) {
+    int current = start;
+    for (RegexNode node : nodes)
+      current = node.buildNFA(nfa, current, environment);
+    return current;
   }
 }
 
@@ -363,11 +387,14 @@ class RegexEitherNode extends RegexNode {
     return ret;
   }
 
-  public ArrayList<String> getMatches(String restString, HashMap<String, RegexNode> environment) {
-    ArrayList<String> matches = new ArrayList<>();
-    for (RegexNode node : nodes)
-      matches.addAll(node.getMatches(restString, environment));
-    return matches;
+  int buildNFA(RegexNFA nfa, int start, Map<String, RegexNode> environment) {
+    int end = nfa.newState();
+    for (RegexNode node : nodes) {
+      int branchStart = nfa.newState();
+      nfa.addEpsilon(start, branchStart);
+      nfa.addEpsilon(node.buildNFA(nfa, branchStart, environment), end);
+    }
+    return end;
   }
 }
 
@@ -382,15 +409,10 @@ class RegexLiteralNode extends RegexNode {
     return "" + ch;
   }
 
-  public ArrayList<String> getMatches(String restString, HashMap<String, RegexNode> environment) {
-    if (restString.length() == 0)
-      return new ArrayList<>();
-
-    ArrayList<String> matches = new ArrayList<>();
-    char starting = restString.charAt(0);
-    if (starting == ch)
-      matches.add("" + starting);
-    return matches;
+  int buildNFA(RegexNFA nfa, int start, Map<String, RegexNode> environment) {
+    int end = nfa.newState();
+    nfa.addTransition(start, ch, end);
+    return end;
   }
 }
 
@@ -405,12 +427,12 @@ class RegexVariableNode extends RegexNode {
     return "<" + variableName + ">";
   }
 
-  public ArrayList<String> getMatches(String restString, HashMap<String, RegexNode> environment) {
+  int buildNFA(RegexNFA nfa, int start, Map<String, RegexNode> environment) {
+    // an unknown variable never matches, so return a state that can't be reached
     if (!environment.containsKey(this.variableName))
-      return new ArrayList<>();
+      return nfa.newState();
 
-    RegexNode roolNode = environment.get(this.variableName);
-    return roolNode.getMatches(restString, environment);
+    return environment.get(this.variableName).buildNFA(nfa, start, environment);
   }
 }
 
@@ -439,39 +461,24 @@ class RegexGroupingNode extends RegexNode {
             : "");
   }
 
-  public ArrayList<String> getMatches(String restString, HashMap<String, RegexNode> environment) {
+  int buildNFA(RegexNFA nfa, int start, Map<String, RegexNode> environment) {
+    if (modifier == RegexGroupingNodeModifiers.NONE)
+      return internalNode.buildNFA(nfa, start, environment);
 
-    ArrayList<String> initialMatches = internalNode.getMatches(restString, environment);
+    // the loop state is re-entered after every repetition of the internal node
+    int loop = nfa.newState();
+    int end = nfa.newState();
+    nfa.addEpsilon(start, loop);
 
-    if (initialMatches.size() == 0) {
-      if (modifier == RegexGroupingNodeModifiers.NONE_OR_MORE)
-        initialMatches.add("");
-      return initialMatches;
-    } else if (modifier == RegexGroupingNodeModifiers.NONE)
-      return initialMatches;
+    int internalEnd = internalNode.buildNFA(nfa, loop, environment);
+    nfa.addEpsilon(internalEnd, loop);
 
-    ArrayList<String> matches = initialMatches;
-
-    // handle matching for NONE_OR_MORE or ONE_OR_MORE
-    while (true) {
-      ArrayList<String> nextMatches = new ArrayList<>();
-
-      for (String match : matches) {
-        String rest = restString.replaceFirst(Pattern.quote(match), "");
-        if (rest.length() == 0)
-          continue;
-
-        ArrayList<String> nextMatch = internalNode.getMatches(rest, environment);
-        nextMatches.addAll(nextMatch.stream().map(m -> match + m).collect(Collectors.toList()));
-      }
-
-      if (nextMatches.size() == 0)
-        break;
-
-      matches = nextMatches;
-    }
+    if (modifier == RegexGroupingNodeModifiers.NONE_OR_MORE)
+      nfa.addEpsilon(loop, end);
+    else
+      nfa.addEpsilon(internalEnd, end);
 
-    return matches;
+    return end;
   }
 }
 
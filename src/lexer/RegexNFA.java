@@ -0,0 +1,67 @@
+package lexer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+
+// A nondeterministic automaton built from the regex trees using thompson's construction.
+// Every state has a list of character transitions and a list of epsilon transitions.
+class RegexNFA {
+  ArrayList<ArrayList<Integer>> epsilons = new ArrayList<>();
+  ArrayList<ArrayList<int[]>> transitions = new ArrayList<>();
+
+  // index of the rule accepted by each state, -1 if the state is not accepting
+  ArrayList<Integer> accepting = new ArrayList<>();
+
+  int newState() {
+    epsilons.add(new ArrayList<>());
+    transitions.add(new ArrayList<>());
+    accepting.add(-1);
+    return accepting.size() - 1;
+  }
+
+  void addEpsilon(int from, int to) {
+    epsilons.get(from).add(to);
+  }
+
+  void addTransition(int from, char ch, int to) {
+    transitions.get(from).add(new int[] { ch, to });
+  }
+
+  // closures[state] is every state reachable from the state using only epsilon transitions
+  private BitSet[] closures;
+
+  BitSet closure(BitSet states) {
+    if (closures == null)
+      computeClosures();
+
+    BitSet closure = new BitSet();
+    for (int i = states.nextSetBit(0); i >= 0; i = states.nextSetBit(i + 1))
+      closure.or(closures[i]);
+
+    return closure;
+  }
+
+  private void computeClosures() {
+    closures = new BitSet[accepting.size()];
+
+    for (int start = 0; start < closures.length; start++) {
+      BitSet closure = new BitSet();
+      ArrayDeque<Integer> pending = new ArrayDeque<>();
+      closure.set(start);
+      pending.push(start);
+
+      while (!pending.isEmpty()) {
+        int state = pending.pop();
+        for (int next : epsilons.get(state)) {
+          if (!closure.get(next)) {
+            closure.set(next);
+            pending.push(next);
+          }
+        }
+      }
+
+      closures[start] = closure;
+    }
+  }
+}
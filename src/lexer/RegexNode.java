@@ -0,0 +1,30 @@
+package lexer;
+
+import java.util.Map;
+
+abstract class RegexNode {
+  private TokenType emit;
+  private StringTransformer transformer;
+
+  public TokenType getTokenType() {
+    return emit;
+  }
+
+  public void setTokenType(TokenType emit) {
+    this.emit = emit;
+  }
+
+  public StringTransformer getTransformer() {
+    return transformer;
+  }
+
+  public void setTransformer(StringTransformer transformer) {
+    this.transformer = transformer;
+  }
+
+  abstract public String toString();
+
+  // adds the states that recognize this node to the automaton, starting from the
+  // given state, and returns the state reached after a successful match
+  abstract int buildNFA(RegexNFA nfa, int start, Map<String, RegexNode> environment);
+}
@@ -0,0 +1,118 @@
+package lexer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The text of a source file together with the offset where each of its lines
+ * start. The table is built once, so finding the row and column of an offset
+ * is a binary search that doesn't allocate anything.
+ */
+public class SourceFile {
+    public final CharSequence text;
+    public final String path;
+    private final int[] lineStarts;
+
+    public SourceFile(CharSequence text, String path) {
+        this.text = text;
+        this.path = path;
+
+        int lineCount = 1;
+        for (int i = 0; i < text.length(); i++)
+            if (text.charAt(i) == '\n')
+                lineCount++;
+
+        lineStarts = new int[lineCount];
+        for (int i = 0, line = 1; i < text.length(); i++)
+            if (text.charAt(i) == '\n')
+                lineStarts[line++] = i + 1;
+    }
+
+    /**
+     * Loads a file through a memory mapping. Like the rest of the loaders, a
+     * trailing line terminator is replaced with a single newline. ASCII files are
+     * lexed straight from the mapping, anything else is decoded as UTF-8.
+     */
+    public static SourceFile load(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            int length = bytes.limit();
+            if (length > 0 && bytes.get(length - 1) == '\n')
+                length--;
+            if (length > 0 && bytes.get(length - 1) == '\r')
+                length--;
+
+            boolean ascii = true;
+            for (int i = 0; i < length && ascii; i++)
+                ascii = bytes.get(i) >= 0;
+
+            if (ascii)
+                return new SourceFile(new MappedSourceText(bytes, length), file.getPath());
+
+            String decoded = StandardCharsets.UTF_8.decode(bytes.slice(0, length)).toString();
+            return new SourceFile(decoded + "\n", file.getPath());
+        }
+    }
+
+    public int getLineCount() {
+        return lineStarts.length;
+    }
+
+    // Start at index 0, the newline that ends a line belongs to that line
+    public int getRow(int index) {
+        int row = Arrays.binarySearch(lineStarts, index);
+        return row >= 0 ? row : -row - 2;
+    }
+
+    public int getColumn(int index) {
+        return index - lineStarts[getRow(index)];
+    }
+
+    public int getLineStart(int row) {
+        return lineStarts[row];
+    }
+
+    public ColumnAndRow getColumnAndRow(int index) {
+        int row = getRow(index);
+        return new ColumnAndRow(row, index - lineStarts[row]);
+    }
+}
+
+// The text of an ASCII file that is read directly from its mapping, followed
+// by the newline that the loaders append to every source
+class MappedSourceText implements CharSequence {
+    private final ByteBuffer bytes;
+    private final int length;
+
+    MappedSourceText(ByteBuffer bytes, int length) {
+        this.bytes = bytes;
+        this.length = length;
+    }
+
+    public int length() {
+        return length + 1;
+    }
+
+    public char charAt(int index) {
+        return index == length ? '\n' : (char) bytes.get(index);
+    }
+
+    // only called for lexemes, so the characters are copied into a string
+    public CharSequence subSequence(int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++)
+            builder.append(charAt(i));
+        return builder.toString();
+    }
+
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
+}
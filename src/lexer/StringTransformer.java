@@ -0,0 +1,5 @@
+package lexer;
+
+interface StringTransformer {
+  String run(String input);
+}
@@ -0,0 +1,34 @@
+package lexer;
+
+/**
+ * The canonical instance of an identifier or string literal. Symbols are
+ * created by the SymbolTable, so two symbols of the same name are usually the
+ * same object and compare by identity. Only a symbol kept from before the table was cleared
+ * has to compare names. The hash is the hash of the name so that maps keyed by
+ * symbols iterate in the same order as maps keyed by the names.
+ */
+public final class Symbol {
+    public final String name;
+    private final int hash;
+
+    Symbol(String name) {
+        this.name = name;
+        this.hash = name.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof Symbol && ((Symbol) other).hash == hash
+                && ((Symbol) other).name.equals(name));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,27 @@
+package lexer;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns identifier and string literal lexemes into Symbols, so every
+ * occurrence of a name shares one object with a precomputed hash. The table
+ * holds the lexemes of one run and is cleared once the run finishes.
+ */
+public class SymbolTable {
+    private static final ConcurrentHashMap<String, Symbol> symbols = new ConcurrentHashMap<>();
+
+    public static Symbol intern(String name) {
+        Symbol symbol = symbols.get(name);
+        return symbol != null ? symbol : symbols.computeIfAbsent(name, Symbol::new);
+    }
+
+    // symbols that are still referenced keep working after the table is
+    // cleared, they just stop being the same object as newly interned ones
+    public static void clear() {
+        symbols.clear();
+    }
+
+    public static boolean isInterned(TokenType type) {
+        return type == TokenType.IDENTIFIER || type == TokenType.STRING_LITERAL;
+    }
+}
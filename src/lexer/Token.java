@@ -9,12 +9,51 @@ public class Token {
     public final int line;
     public final String sourcePath;
 
+    // the file the token was scanned from and its offset within it, null and -1
+    // for tokens that were created by the parser. Tokens read back from the
+    // parse cache keep their offset but not the file
+    public final SourceFile source;
+    public final int offset;
+
+    // the interned lexeme of identifiers and string literals, null otherwise
+    public final Symbol symbol;
+
     public Token(TokenType token, String lexeme, ColumnAndRow info, String sourcePath) {
         this.type = token;
-        this.lexeme = lexeme;
+        this.symbol = SymbolTable.isInterned(token) ? SymbolTable.intern(lexeme) : null;
+        this.lexeme = symbol != null ? symbol.name : lexeme;
         this.column = info.getActualColumn();
         this.line = info.getActualRow();
         this.sourcePath = sourcePath;
+        this.source = null;
+        this.offset = -1;
+    }
+
+    public Token(TokenType token, String lexeme, SourceFile source, int offset) {
+        this(token, lexeme, source, offset, source.getRow(offset));
+    }
+
+    Token(TokenType token, String lexeme, SourceFile source, int offset, int row) {
+        this.type = token;
+        this.symbol = SymbolTable.isInterned(token) ? SymbolTable.intern(lexeme) : null;
+        this.lexeme = symbol != null ? symbol.name : lexeme;
+        this.column = offset - source.getLineStart(row);
+        this.line = row + 1;
+        this.sourcePath = source.path;
+        this.source = source;
+        this.offset = offset;
+    }
+
+    // recreates a token from the position it was stored with
+    public Token(TokenType token, String lexeme, int line, int column, String sourcePath, int offset) {
+        this.type = token;
+        this.symbol = SymbolTable.isInterned(token) ? SymbolTable.intern(lexeme) : null;
+        this.lexeme = symbol != null ? symbol.name : lexeme;
+        this.column = column;
+        this.line = line;
+        this.sourcePath = sourcePath;
+        this.source = null;
+        this.offset = offset;
     }
 
     public Token(TokenType token, String lexeme) {
@@ -0,0 +1,123 @@
+package lexer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Stores the tokens of a source file as parallel int arrays instead of Token
+ * objects. Lexemes aren't copied out of the source until a Token is actually
+ * requested for one of the entries.
+ */
+public class TokenBuffer {
+    private static final TokenType[] tokenTypes = TokenType.values();
+
+    public final SourceFile source;
+
+    // transformers[type.ordinal()] is applied to the lexemes of that token type
+    private final StringTransformer[] transformers;
+
+    private int[] types = new int[256];
+    private int[] starts = new int[256];
+    private int[] lengths = new int[256];
+    private int[] lines = new int[256];
+    private int size = 0;
+
+    // scanner errors that were found before the token at the same index in errorIndices
+    private final ArrayList<Error> errors = new ArrayList<>();
+    private final ArrayList<Integer> errorIndices = new ArrayList<>();
+
+    TokenBuffer(SourceFile source, StringTransformer[] transformers) {
+        this.source = source;
+        this.transformers = transformers;
+    }
+
+    void add(TokenType type, int start, int length) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+        }
+
+        types[size] = type.ordinal();
+        starts[size] = start;
+        lengths[size] = length;
+        lines[size] = source.getRow(start);
+        size++;
+    }
+
+    void addError(Error error) {
+        errors.add(error);
+        errorIndices.add(size);
+    }
+
+    void append(TokenBuffer other) {
+        for (int i = 0; i < other.errors.size(); i++) {
+            errors.add(other.errors.get(i));
+            errorIndices.add(size + other.errorIndices.get(i));
+        }
+
+        if (size + other.size > types.length) {
+            int capacity = Math.max(types.length * 2, size + other.size);
+            types = Arrays.copyOf(types, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+        }
+
+        System.arraycopy(other.types, 0, types, size, other.size);
+        System.arraycopy(other.starts, 0, starts, size, other.size);
+        System.arraycopy(other.lengths, 0, lengths, size, other.size);
+        System.arraycopy(other.lines, 0, lines, size, other.size);
+        size += other.size;
+    }
+
+    // errors are stored in the order they were found, so their indices never decrease
+    int getErrorCount() {
+        return errors.size();
+    }
+
+    Error getError(int error) {
+        return errors.get(error);
+    }
+
+    int getErrorIndex(int error) {
+        return errorIndices.get(error);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TokenType getType(int index) {
+        return tokenTypes[types[index]];
+    }
+
+    public int getStart(int index) {
+        return starts[index];
+    }
+
+    public int getLength(int index) {
+        return lengths[index];
+    }
+
+    // Start at index 1
+    public int getLine(int index) {
+        return lines[index] + 1;
+    }
+
+    public int getColumn(int index) {
+        return starts[index] - source.getLineStart(lines[index]);
+    }
+
+    public String getLexeme(int index) {
+        String lexeme = source.text.subSequence(starts[index], starts[index] + lengths[index]).toString();
+        StringTransformer transformer = transformers[types[index]];
+        return transformer != null ? transformer.run(lexeme) : lexeme;
+    }
+
+    public Token getToken(int index) {
+        return new Token(getType(index), getLexeme(index), source, starts[index], lines[index]);
+    }
+}
@@ -0,0 +1,124 @@
+package lexer;
+
+import java.io.PrintStream;
+
+/**
+ * Scans tokens on demand into a TokenBuffer so that the parser can look ahead
+ * any number of tokens without scanning the same characters twice. Token
+ * objects are only created when they are asked for, the parser can work with
+ * the buffer indices and types instead.
+ */
+public class TokenStream {
+    // sources of at least this many characters are scanned in parallel
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+    static final int MINIMUM_CHUNK_SIZE = 1 << 16;
+
+    private final RegexEngine lexer; // null once the whole source has been scanned
+    private final TokenBuffer buffer;
+    private int position = 0; // index of the next token to be consumed
+    private int revealed = 0; // number of tokens that the parser has been able to see
+    private int nextError = 0;
+    private int reportedErrors = 0;
+    private PrintStream output = System.out; // where scanner errors are printed
+
+    public TokenStream(RegexEngine lexer) {
+        this.lexer = lexer;
+        this.buffer = lexer.createTokenBuffer();
+    }
+
+    private TokenStream(TokenBuffer buffer) {
+        this.lexer = null;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates a stream over the source of the lexer, large sources are scanned
+     * in parallel up front. Either way the stream produces the same tokens and
+     * reports scanner errors at the same points as scanning on demand.
+     */
+    public static TokenStream create(RegexEngine lexer) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int length = lexer.source.text.length();
+        if (processors == 1 || length < PARALLEL_THRESHOLD)
+            return new TokenStream(lexer);
+
+        int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, length / (processors * 4));
+        return new TokenStream(ParallelLexer.scan(lexer, chunkSize));
+    }
+
+    public TokenBuffer getBuffer() {
+        return buffer;
+    }
+
+    // returns the buffer index of the token k positions after the next one,
+    // every position past the end of the input refers to the EOF token
+    public int peekIndex(int k) {
+        while (revealed <= position + k) {
+            if (revealed != 0 && buffer.getType(revealed - 1) == TokenType.EOF)
+                return revealed - 1;
+            reveal();
+        }
+
+        return position + k;
+    }
+
+    public TokenType peekType(int k) {
+        return buffer.getType(peekIndex(k));
+    }
+
+    public TokenType peekType() {
+        return peekType(0);
+    }
+
+    public Token peek(int k) {
+        return buffer.getToken(peekIndex(k));
+    }
+
+    public Token peek() {
+        return peek(0);
+    }
+
+    public int nextIndex() {
+        int index = peekIndex(0);
+        position++;
+        return index;
+    }
+
+    public Token next() {
+        return buffer.getToken(nextIndex());
+    }
+
+    public void setOutput(PrintStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Number of scanner errors printed so far
+     */
+    public int getReportedErrorCount() {
+        return reportedErrors;
+    }
+
+    // scanner errors are reported and the offending character is skipped, errors
+    // that were found ahead of time are reported right before the token they precede
+    private void reveal() {
+        if (lexer != null) {
+            while (true) {
+                try {
+                    lexer.scanNextToken(buffer);
+                    break;
+                } catch (Error scannerError) {
+                    output.println(scannerError);
+                    reportedErrors++;
+                }
+            }
+        } else {
+            while (nextError < buffer.getErrorCount() && buffer.getErrorIndex(nextError) == revealed) {
+                output.println(buffer.getError(nextError++));
+                reportedErrors++;
+            }
+        }
+
+        revealed++;
+    }
+}
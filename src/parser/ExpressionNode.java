@@ -7,6 +7,7 @@ import interpreter.Global;
 import interpreter.InterpreterExceptions;
 import interpreter.RuntimeError;
 import interpreter.LoLangValue;
+import lexer.Symbol;
 import lexer.Token;
 import lexer.TokenType;
 import semantic.LoLangType;
@@ -17,6 +18,7 @@ import semantic.SemanticAnalyzerException.GenericReturnTypeParameterMismatchExce
 import semantic.SemanticContext;
 import utils.Caster;
 import utils.DOTGenerator;
+import utils.Environment;
 import utils.EnvironmentException;
 import utils.Environment.SymbolTableEntry;
 
@@ -25,6 +27,8 @@ public abstract class ExpressionNode extends Node {
 
   abstract LoLangType evaluateType(SemanticContext context);
 
+  abstract void resolve(Resolver resolver);
+
   public static class FunctionExpression extends ExpressionNode {
     Node.ParameterList parameters;
     TypeExpressionNode returnType;
@@ -46,6 +50,17 @@ public abstract class ExpressionNode extends Node {
       this.token = token;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.parameters);
+      writer.writeNode(this.returnType);
+      writer.writeNode(this.body);
+      writer.writeToken(this.token);
+    }
+
+    static FunctionExpression read(NodeSerializer.Reader reader) {
+      return new FunctionExpression(reader.readNode(), reader.readNode(), reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       String parametersString = String.join("\n", this.parameters.toString());
       return String.format("[FunctionExpression: (%s) -> %s]", parametersString, this.returnType.toString());
@@ -75,7 +90,7 @@ public abstract class ExpressionNode extends Node {
         parameterTypes.add(parameter.type.evaluate(context));
 
         try {
-          forkedContext.variableEnvironment.define(parameter.identifier.lexeme, parameter.type.evaluate(context), true);
+          forkedContext.variableEnvironment.define(parameter.identifier.symbol, parameter.type.evaluate(context), true);
         } catch (EnvironmentException.EnvironmentAlreadyDeclaredException e) {
           context.addException(new SemanticAnalyzerException(
               "Cannot redeclare parameter \"" + parameter.identifier.lexeme + "\"", parameter.identifier));
@@ -100,6 +115,16 @@ public abstract class ExpressionNode extends Node {
       this.body.semanticAnalysis(forkedContext);
       return new LoLangType.Lambda(returnTypeValue, parameterTypes);
     }
+
+    void resolve(Resolver resolver) {
+      this.parameters.layout = resolver.enterScope();
+
+      for (Node.VariableDeclarationHeader parameter : this.parameters.declarations)
+        parameter.binding = resolver.declare(parameter.identifier, true);
+
+      this.body.resolve(resolver);
+      resolver.exitScope();
+    }
   }
 
   public static class ArrayLiteral extends ExpressionNode {
@@ -116,6 +141,15 @@ public abstract class ExpressionNode extends Node {
       this.leftBracket = leftBracket;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.expressions);
+      writer.writeToken(this.leftBracket);
+    }
+
+    static ArrayLiteral read(NodeSerializer.Reader reader) {
+      return new ArrayLiteral(reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       String expressionsString = String.join("\n", this.expressions.toString());
       return String.format("[ArrayLiteral: %s]", expressionsString);
@@ -158,6 +192,11 @@ public abstract class ExpressionNode extends Node {
 
       return new LoLangType.Array(new LoLangType.Any());
     }
+
+    void resolve(Resolver resolver) {
+      for (ExpressionNode expression : this.expressions.expressions)
+        expression.resolve(resolver);
+    }
   }
 
   public static class ObjectLiteral extends ExpressionNode {
@@ -171,6 +210,14 @@ public abstract class ExpressionNode extends Node {
       this.fields = new ObjectLiteralFieldList();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.fields);
+    }
+
+    static ObjectLiteral read(NodeSerializer.Reader reader) {
+      return new ObjectLiteral(reader.readNode());
+    }
+
     public String toString() {
       String fieldsString = String.join("\n", this.fields.toString());
       return String.format("[ObjectLiteral: %s]", fieldsString);
@@ -183,33 +230,52 @@ public abstract class ExpressionNode extends Node {
     }
 
     LoLangValue evaluate(ExecutionContext context, ExecutionContext dynamicContext) {
-      HashMap<String, LoLangValue> fields = new HashMap<>();
+      HashMap<Symbol, LoLangValue> fields = new HashMap<>();
 
       for (Node.ObjectLiteralField field : this.fields.fields)
-        fields.put(field.identifier.lexeme, field.expression.evaluate(context, dynamicContext));
+        fields.put(field.identifier.symbol, field.expression.evaluate(context, dynamicContext));
 
       return new LoLangValue.Object(fields);
     }
 
     public LoLangType evaluateType(SemanticContext context) {
-      HashMap<String, LoLangType> fields = new HashMap<>();
+      HashMap<Symbol, LoLangType> fields = new HashMap<>();
 
       for (Node.ObjectLiteralField field : this.fields.fields)
-        fields.put(field.identifier.lexeme, field.expression.evaluateType(context));
+        fields.put(field.identifier.symbol, field.expression.evaluateType(context));
 
       return new LoLangType.Object(fields);
     }
+
+    void resolve(Resolver resolver) {
+      for (Node.ObjectLiteralField field : this.fields.fields)
+        field.expression.resolve(resolver);
+    }
   }
 
   public static class DotAccess extends ExpressionNode {
     ExpressionNode left;
     Token identifier;
 
+    // the methods of strings and arrays only depend on the name, so each node
+    // looks them up in Global once
+    private transient Global.InternalMethod<LoLangValue.String> stringMethod = null;
+    private transient Global.InternalMethod<LoLangValue.Array> arrayMethod = null;
+
     DotAccess(ExpressionNode left, Token identifier) {
       this.left = left;
       this.identifier = identifier;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.left);
+      writer.writeToken(this.identifier);
+    }
+
+    static DotAccess read(NodeSerializer.Reader reader) {
+      return new DotAccess(reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       return String.format("[DotAccess: %s %s]", this.left.toString(),
           this.identifier.lexeme.replace("\"", "\'"));
@@ -221,14 +287,26 @@ public abstract class ExpressionNode extends Node {
       builder.addEdge(this.hashCode(), this.left.hashCode());
     }
 
-    LoLangValue evaluate(ExecutionContext context, ExecutionContext dynamicContext) {
+    public LoLangValue evaluate(ExecutionContext context, ExecutionContext dynamicContext) {
       LoLangValue left = this.left.evaluate(context, dynamicContext);
       if ((left instanceof LoLangValue.DotGettable) == false)
         throw new RuntimeError(String.format("Cannot access property \"%s\"on non-object", this.identifier.lexeme),
             identifier);
 
+      if (left instanceof LoLangValue.String) {
+        if (this.stringMethod == null)
+          this.stringMethod = Global.StringMethods.get(this.identifier.symbol.name);
+        if (this.stringMethod != null)
+          return this.stringMethod.run((LoLangValue.String) left);
+      } else if (left instanceof LoLangValue.Array) {
+        if (this.arrayMethod == null)
+          this.arrayMethod = Global.ArrayMethods.get(this.identifier.symbol.name);
+        if (this.arrayMethod != null)
+          return this.arrayMethod.run((LoLangValue.Array) left);
+      }
+
       try {
-        return ((LoLangValue.DotGettable) left).getDot(this.identifier.lexeme);
+        return ((LoLangValue.DotGettable) left).getDot(this.identifier.symbol);
       } catch (InterpreterExceptions.DotAccessNonExistentException e) {
         throw e.toRuntimeError(identifier);
       }
@@ -245,13 +323,17 @@ public abstract class ExpressionNode extends Node {
 
       LoLangType.DotGettable gettable = (LoLangType.DotGettable) left;
 
-      if (!(gettable.hasKey(this.identifier.lexeme))) {
+      if (!(gettable.hasKey(this.identifier.symbol))) {
         context.addException(new SemanticAnalyzerException("Cannot access property \"" + this.identifier.lexeme
             + "\" on type: " + left.toString(), this.identifier));
         return new LoLangType.Any();
       }
 
-      return gettable.getKey(context, this.identifier.lexeme);
+      return gettable.getKey(context, this.identifier.symbol);
+    }
+
+    void resolve(Resolver resolver) {
+      this.left.resolve(resolver);
     }
   }
 
@@ -272,6 +354,16 @@ public abstract class ExpressionNode extends Node {
       this.functionCallToken = functionCallToken;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.left);
+      writer.writeNode(this.parameters);
+      writer.writeToken(this.functionCallToken);
+    }
+
+    static FunctionCall read(NodeSerializer.Reader reader) {
+      return new FunctionCall(reader.readNode(), reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       String parametersString = this.parameters != null ? String.join(", ", this.parameters.toString()) : "";
       return String.format("[FunctionCall: %s(%s)]", this.left.toString(), parametersString);
@@ -303,7 +395,7 @@ public abstract class ExpressionNode extends Node {
       }
 
       try {
-        return callable.call(dynamicContext.fork(new ExecutionContext.CallStackEntry(this.functionCallToken)),
+        return callable.call(dynamicContext.fork(this.functionCallToken),
             arguments);
       } catch (InterpreterExceptions e) {
         throw e.toRuntimeError(functionCallToken);
@@ -381,15 +473,37 @@ public abstract class ExpressionNode extends Node {
 
       return lambda.returnType;
     }
+
+    void resolve(Resolver resolver) {
+      this.left.resolve(resolver);
+
+      if (this.parameters != null)
+        for (ExpressionNode parameter : this.parameters.expressions)
+          parameter.resolve(resolver);
+    }
   }
 
   public static class Identifier extends ExpressionNode {
     Token identifier;
 
+    // the slots the name can be in, see Resolver
+    transient Resolver.Binding[] bindings = null;
+
+    // the last lookup by name, for the names the bindings do not hold
+    private transient Environment.LookupCache<LoLangValue> cache = null;
+
     Identifier(Token identifier) {
       this.identifier = identifier;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.identifier);
+    }
+
+    static Identifier read(NodeSerializer.Reader reader) {
+      return new Identifier(reader.readToken());
+    }
+
     public String toString() {
       return String.format("[Identifier: %s]", this.identifier.lexeme);
     }
@@ -401,8 +515,11 @@ public abstract class ExpressionNode extends Node {
 
     public LoLangValue evaluate(ExecutionContext context, ExecutionContext dynamicContext) {
       try {
-        LoLangValue value = context.environment.get(this.identifier.lexeme);
+        LoLangValue value = this.bindings != null ? Resolver.get(context.environment, this.bindings) : null;
         if (value == null)
+          value = context.environment.get(this.identifier.symbol, this.getCache());
+
+        if (value == null || value == Resolver.UNASSIGNED)
           throw new RuntimeError("Undefined variable \"" + this.identifier.lexeme + "\"", this.identifier);
 
         return value;
@@ -413,13 +530,24 @@ public abstract class ExpressionNode extends Node {
 
     public LoLangType evaluateType(SemanticContext context) {
       try {
-        return context.variableEnvironment.get(this.identifier.lexeme);
+        return context.variableEnvironment.get(this.identifier.symbol);
       } catch (EnvironmentException.EnvironmentUndeclaredException e) {
         context.addException(new SemanticAnalyzerException("Cannot find variable \"" + this.identifier.lexeme + "\"",
             this.identifier));
         return new LoLangType.Any();
       }
     }
+
+    Environment.LookupCache<LoLangValue> getCache() {
+      if (this.cache == null)
+        this.cache = new Environment.LookupCache<>();
+
+      return this.cache;
+    }
+
+    void resolve(Resolver resolver) {
+      resolver.use(this);
+    }
   }
 
   public static class Incrementation extends ExpressionNode {
@@ -433,6 +561,16 @@ public abstract class ExpressionNode extends Node {
       this.isPostfix = isPostfix;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.left);
+      writer.writeToken(this.token);
+      writer.writeBoolean(this.isPostfix);
+    }
+
+    static Incrementation read(NodeSerializer.Reader reader) {
+      return new Incrementation(reader.readNode(), reader.readToken(), reader.readBoolean());
+    }
+
     boolean isIncrement() {
       return this.token.type == TokenType.DOUBLE_PLUS;
     }
@@ -485,6 +623,10 @@ public abstract class ExpressionNode extends Node {
 
       return left;
     }
+
+    void resolve(Resolver resolver) {
+      this.left.resolve(resolver);
+    }
   }
 
   public static class Assignment extends ExpressionNode {
@@ -498,6 +640,16 @@ public abstract class ExpressionNode extends Node {
       this.equalsSign = equalsSign;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.left);
+      writer.writeNode(this.right);
+      writer.writeToken(this.equalsSign);
+    }
+
+    static Assignment read(NodeSerializer.Reader reader) {
+      return new Assignment(reader.readNode(), reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       return String.format("[Assignment: %s = %s]", this.left.toString(), this.right.toString());
     }
@@ -520,7 +672,7 @@ public abstract class ExpressionNode extends Node {
       LoLangType right = this.right.evaluateType(context);
 
       if (this.left instanceof ExpressionNode.Identifier) {
-        String identifier = ((ExpressionNode.Identifier) this.left).identifier.lexeme;
+        Symbol identifier = ((ExpressionNode.Identifier) this.left).identifier.symbol;
 
         try {
           SymbolTableEntry<LoLangType> entry = context.variableEnvironment.getSymbolTableEntry(identifier);
@@ -553,6 +705,11 @@ public abstract class ExpressionNode extends Node {
 
       return left;
     }
+
+    void resolve(Resolver resolver) {
+      this.left.resolve(resolver);
+      this.right.resolve(resolver);
+    }
   }
 
   public static LoLangValue setValue(ExecutionContext context, ExpressionNode left, LoLangValue newValue, Token token,
@@ -561,13 +718,14 @@ public abstract class ExpressionNode extends Node {
       ExpressionNode.Identifier identifier = (ExpressionNode.Identifier) left;
 
       try {
-        context.environment.assign(identifier.identifier.lexeme, newValue);
+        if (identifier.bindings == null || !Resolver.assign(context.environment, identifier.bindings, newValue))
+          context.environment.assign(identifier.identifier.symbol, newValue, identifier.getCache());
       } catch (EnvironmentException.EnvironmentUndeclaredException e) {
         if (!Global.isLenient) {
           throw new RuntimeError("Cannot assign to undeclared variable", identifier.identifier);
         } else {
           try {
-            context.environment.define(identifier.identifier.lexeme, newValue, false);
+            context.environment.define(identifier.identifier.symbol, newValue, false);
           } catch (EnvironmentException.EnvironmentAlreadyDeclaredException __) {
           }
         }
@@ -606,7 +764,7 @@ public abstract class ExpressionNode extends Node {
       LoLangValue.Object object = (LoLangValue.Object) leftValue;
 
       try {
-        object.setDot(dotAccess.identifier.lexeme, newValue);
+        object.setDot(dotAccess.identifier.symbol, newValue);
       } catch (InterpreterExceptions.DotAccessNonExistentException e) {
         throw e.toRuntimeError(dotAccess.identifier);
       }
@@ -629,6 +787,16 @@ public abstract class ExpressionNode extends Node {
       this.leftBracket = leftBracket;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.left);
+      writer.writeNode(this.right);
+      writer.writeToken(this.leftBracket);
+    }
+
+    static IndexAccess read(NodeSerializer.Reader reader) {
+      return new IndexAccess(reader.readNode(), reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       return String.format("[IndexAccess: (%s)[%s]]", this.left.toString(), this.right.toString());
     }
@@ -686,6 +854,11 @@ public abstract class ExpressionNode extends Node {
       LoLangType.Array array = (LoLangType.Array) left;
       return array.elementType;
     }
+
+    void resolve(Resolver resolver) {
+      this.left.resolve(resolver);
+      this.right.resolve(resolver);
+    }
   }
 
   public static class Literal extends ExpressionNode {
@@ -695,6 +868,14 @@ public abstract class ExpressionNode extends Node {
       this.token = token;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.token);
+    }
+
+    static Literal read(NodeSerializer.Reader reader) {
+      return new Literal(reader.readToken());
+    }
+
     public String toString() {
       return String.format("[Literal: %s (%s)]", this.token.lexeme.replace("\"", "\'"),
           this.token.type.toString());
@@ -738,6 +919,9 @@ public abstract class ExpressionNode extends Node {
           return new LoLangType.Any();
       }
     }
+
+    void resolve(Resolver resolver) {
+    }
   }
 
   public static double parseNumber(String lexeme) {
@@ -762,6 +946,16 @@ public abstract class ExpressionNode extends Node {
       this.operation = operation;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.left);
+      writer.writeToken(this.operation);
+      writer.writeNode(this.right);
+    }
+
+    static Binary read(NodeSerializer.Reader reader) {
+      return new Binary(reader.readNode(), reader.readToken(), reader.readNode());
+    }
+
     public String toString() {
       return String.format("[Binary: %s %s %s]", this.left.toString(), this.operation, this.right.toString());
     }
@@ -938,6 +1132,11 @@ public abstract class ExpressionNode extends Node {
           + "\" on " + left.getClass().getName() + ", " + right.getClass().getName(), this.operation));
       return new LoLangType.Any();
     }
+
+    void resolve(Resolver resolver) {
+      this.left.resolve(resolver);
+      this.right.resolve(resolver);
+    }
   }
 
   public static class Unary extends ExpressionNode {
@@ -949,6 +1148,15 @@ public abstract class ExpressionNode extends Node {
       this.operationToken = operationToken;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.operationToken);
+      writer.writeNode(this.operand);
+    }
+
+    static Unary read(NodeSerializer.Reader reader) {
+      return new Unary(reader.readToken(), reader.readNode());
+    }
+
     public String toString() {
       return String.format("[Unary: %s %s]", this.operationToken.lexeme, this.operand.toString());
     }
@@ -987,6 +1195,10 @@ public abstract class ExpressionNode extends Node {
           + operandType.getClass().getName(), this.operationToken));
       return new LoLangType.Any();
     }
+
+    void resolve(Resolver resolver) {
+      this.operand.resolve(resolver);
+    }
   }
 
   public static class Grouping extends ExpressionNode {
@@ -996,6 +1208,14 @@ public abstract class ExpressionNode extends Node {
       this.expression = expression;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.expression);
+    }
+
+    static Grouping read(NodeSerializer.Reader reader) {
+      return new Grouping(reader.readNode());
+    }
+
     public String toString() {
       return String.format("[Grouping: %s]", this.expression.toString());
     }
@@ -1013,5 +1233,9 @@ public abstract class ExpressionNode extends Node {
     public LoLangType evaluateType(SemanticContext context) {
       return this.expression.evaluateType(context);
     }
+
+    void resolve(Resolver resolver) {
+      this.expression.resolve(resolver);
+    }
   }
 }
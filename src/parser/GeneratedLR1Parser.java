@@ -0,0 +1,10150 @@
+package parser;
+
+import lexer.TokenType;
+
+// Generated by LR1ParserGenerator from lr1_table.txt, do not edit.
+class GeneratedLR1Parser extends LR1Parser {
+  static final long FINGERPRINT = 1555395893175995956L;
+
+  GeneratedLR1Parser(LR1ParserContext context) {
+    super(context);
+  }
+
+  private static int shift(int state) {
+    return state << 2 | LR1ParseTable.SHIFT;
+  }
+
+  private static int reduce(int production) {
+    return production << 2 | LR1ParseTable.REDUCE;
+  }
+
+  int action(int state, TokenType type) {
+    switch (state) {
+      case 0:
+        return state0(type);
+      case 1:
+        return state1(type);
+      case 2:
+        return state2(type);
+      case 3:
+        return state3(type);
+      case 4:
+        return state4(type);
+      case 5:
+        return state5(type);
+      case 6:
+        return state6(type);
+      case 7:
+        return state7(type);
+      case 8:
+        return state8(type);
+      case 9:
+        return state9(type);
+      case 10:
+        return state10(type);
+      case 11:
+        return state11(type);
+      case 12:
+        return state12(type);
+      case 13:
+        return state13(type);
+      case 14:
+        return state14(type);
+      case 15:
+        return state15(type);
+      case 16:
+        return state16(type);
+      case 17:
+        return state17(type);
+      case 18:
+        return state18(type);
+      case 19:
+        return state19(type);
+      case 20:
+        return state20(type);
+      case 21:
+        return state21(type);
+      case 22:
+        return state22(type);
+      case 23:
+        return state23(type);
+      case 24:
+        return state24(type);
+      case 25:
+        return state25(type);
+      case 26:
+        return state26(type);
+      case 27:
+        return state27(type);
+      case 28:
+        return state28(type);
+      case 29:
+        return state29(type);
+      case 30:
+        return state30(type);
+      case 31:
+        return state31(type);
+      case 32:
+        return state32(type);
+      case 33:
+        return state33(type);
+      case 34:
+        return state34(type);
+      case 35:
+        return state35(type);
+      case 36:
+        return state36(type);
+      case 37:
+        return state37(type);
+      case 38:
+        return state38(type);
+      case 39:
+        return state39(type);
+      case 40:
+        return state40(type);
+      case 41:
+        return state41(type);
+      case 42:
+        return state42(type);
+      case 43:
+        return state43(type);
+      case 44:
+        return state44(type);
+      case 45:
+        return state45(type);
+      case 46:
+        return state46(type);
+      case 47:
+        return state47(type);
+      case 48:
+        return state48(type);
+      case 49:
+        return state49(type);
+      case 50:
+        return state50(type);
+      case 51:
+        return state51(type);
+      case 52:
+        return state52(type);
+      case 53:
+        return state53(type);
+      case 54:
+        return state54(type);
+      case 55:
+        return state55(type);
+      case 56:
+        return state56(type);
+      case 57:
+        return state57(type);
+      case 58:
+        return state58(type);
+      case 59:
+        return state59(type);
+      case 60:
+        return state60(type);
+      case 61:
+        return state61(type);
+      case 62:
+        return state62(type);
+      case 63:
+        return state63(type);
+      case 64:
+        return state64(type);
+      case 65:
+        return state65(type);
+      case 66:
+        return state66(type);
+      case 67:
+        return state67(type);
+      case 68:
+        return state68(type);
+      case 69:
+        return state69(type);
+      case 70:
+        return state70(type);
+      case 71:
+        return state71(type);
+      case 72:
+        return state72(type);
+      case 73:
+        return state73(type);
+      case 74:
+        return state74(type);
+      case 75:
+        return state75(type);
+      case 76:
+        return state76(type);
+      case 77:
+        return state77(type);
+      case 78:
+        return state78(type);
+      case 79:
+        return state79(type);
+      case 80:
+        return state80(type);
+      case 81:
+        return state81(type);
+      case 82:
+        return state82(type);
+      case 83:
+        return state83(type);
+      case 84:
+        return state84(type);
+      case 85:
+        return state85(type);
+      case 86:
+        return state86(type);
+      case 87:
+        return state87(type);
+      case 88:
+        return state88(type);
+      case 89:
+        return state89(type);
+      case 90:
+        return state90(type);
+      case 91:
+        return state91(type);
+      case 92:
+        return state92(type);
+      case 93:
+        return state93(type);
+      case 94:
+        return state94(type);
+      case 95:
+        return state95(type);
+      case 96:
+        return state96(type);
+      case 97:
+        return state97(type);
+      case 98:
+        return state98(type);
+      case 99:
+        return state99(type);
+      case 100:
+        return state100(type);
+      case 101:
+        return state101(type);
+      case 102:
+        return state102(type);
+      case 103:
+        return state103(type);
+      case 104:
+        return state104(type);
+      case 105:
+        return state105(type);
+      case 106:
+        return state106(type);
+      case 107:
+        return state107(type);
+      case 108:
+        return state108(type);
+      case 109:
+        return state109(type);
+      case 110:
+        return state110(type);
+      case 111:
+        return state111(type);
+      case 112:
+        return state112(type);
+      case 113:
+        return state113(type);
+      case 114:
+        return state114(type);
+      case 115:
+        return state115(type);
+      case 116:
+        return state116(type);
+      case 117:
+        return state117(type);
+      case 118:
+        return state118(type);
+      case 119:
+        return state119(type);
+      case 120:
+        return state120(type);
+      case 121:
+        return state121(type);
+      case 122:
+        return state122(type);
+      case 123:
+        return state123(type);
+      case 124:
+        return state124(type);
+      case 125:
+        return state125(type);
+      case 126:
+        return state126(type);
+      case 127:
+        return state127(type);
+      case 128:
+        return state128(type);
+      case 129:
+        return state129(type);
+      case 130:
+        return state130(type);
+      case 131:
+        return state131(type);
+      case 132:
+        return state132(type);
+      case 133:
+        return state133(type);
+      case 134:
+        return state134(type);
+      case 135:
+        return state135(type);
+      case 136:
+        return state136(type);
+      case 137:
+        return state137(type);
+      case 138:
+        return state138(type);
+      case 139:
+        return state139(type);
+      case 140:
+        return state140(type);
+      case 141:
+        return state141(type);
+      case 142:
+        return state142(type);
+      case 143:
+        return state143(type);
+      case 144:
+        return state144(type);
+      case 145:
+        return state145(type);
+      case 146:
+        return state146(type);
+      case 147:
+        return state147(type);
+      case 148:
+        return state148(type);
+      case 149:
+        return state149(type);
+      case 150:
+        return state150(type);
+      case 151:
+        return state151(type);
+      case 152:
+        return state152(type);
+      case 153:
+        return state153(type);
+      case 154:
+        return state154(type);
+      case 155:
+        return state155(type);
+      case 156:
+        return state156(type);
+      case 157:
+        return state157(type);
+      case 158:
+        return state158(type);
+      case 159:
+        return state159(type);
+      case 160:
+        return state160(type);
+      case 161:
+        return state161(type);
+      case 162:
+        return state162(type);
+      case 163:
+        return state163(type);
+      case 164:
+        return state164(type);
+      case 165:
+        return state165(type);
+      case 166:
+        return state166(type);
+      case 167:
+        return state167(type);
+      case 168:
+        return state168(type);
+      case 169:
+        return state169(type);
+      case 170:
+        return state170(type);
+      case 171:
+        return state171(type);
+      case 172:
+        return state172(type);
+      case 173:
+        return state173(type);
+      case 174:
+        return state174(type);
+      case 175:
+        return state175(type);
+      case 176:
+        return state176(type);
+      case 177:
+        return state177(type);
+      case 178:
+        return state178(type);
+      case 179:
+        return state179(type);
+      case 180:
+        return state180(type);
+      case 181:
+        return state181(type);
+      case 182:
+        return state182(type);
+      case 183:
+        return state183(type);
+      case 184:
+        return state184(type);
+      case 185:
+        return state185(type);
+      case 186:
+        return state186(type);
+      case 187:
+        return state187(type);
+      case 188:
+        return state188(type);
+      case 189:
+        return state189(type);
+      case 190:
+        return state190(type);
+      case 191:
+        return state191(type);
+      case 192:
+        return state192(type);
+      case 193:
+        return state193(type);
+      case 194:
+        return state194(type);
+      case 195:
+        return state195(type);
+      case 196:
+        return state196(type);
+      case 197:
+        return state197(type);
+      case 198:
+        return state198(type);
+      case 199:
+        return state199(type);
+      case 200:
+        return state200(type);
+      case 201:
+        return state201(type);
+      case 202:
+        return state202(type);
+      case 203:
+        return state203(type);
+      case 204:
+        return state204(type);
+      case 205:
+        return state205(type);
+      case 206:
+        return state206(type);
+      case 207:
+        return state207(type);
+      case 208:
+        return state208(type);
+      case 209:
+        return state209(type);
+      case 210:
+        return state210(type);
+      case 211:
+        return state211(type);
+      case 212:
+        return state212(type);
+      case 213:
+        return state213(type);
+      case 214:
+        return state214(type);
+      case 215:
+        return state215(type);
+      case 216:
+        return state216(type);
+      case 217:
+        return state217(type);
+      case 218:
+        return state218(type);
+      case 219:
+        return state219(type);
+      case 220:
+        return state220(type);
+      case 221:
+        return state221(type);
+      case 222:
+        return state222(type);
+      case 223:
+        return state223(type);
+      case 224:
+        return state224(type);
+      case 225:
+        return state225(type);
+      case 226:
+        return state226(type);
+      case 227:
+        return state227(type);
+      case 228:
+        return state228(type);
+      case 229:
+        return state229(type);
+      case 230:
+        return state230(type);
+      case 231:
+        return state231(type);
+      case 232:
+        return state232(type);
+      case 233:
+        return state233(type);
+      case 234:
+        return state234(type);
+      case 235:
+        return state235(type);
+      case 236:
+        return state236(type);
+      case 237:
+        return state237(type);
+      case 238:
+        return state238(type);
+      case 239:
+        return state239(type);
+      case 240:
+        return state240(type);
+      case 241:
+        return state241(type);
+      case 242:
+        return state242(type);
+      case 243:
+        return state243(type);
+      case 244:
+        return state244(type);
+      case 245:
+        return state245(type);
+      case 246:
+        return state246(type);
+      case 247:
+        return state247(type);
+      case 248:
+        return state248(type);
+      case 249:
+        return state249(type);
+      case 250:
+        return state250(type);
+      case 251:
+        return state251(type);
+      case 252:
+        return state252(type);
+      case 253:
+        return state253(type);
+      case 254:
+        return state254(type);
+      case 255:
+        return state255(type);
+      case 256:
+        return state256(type);
+      case 257:
+        return state257(type);
+      case 258:
+        return state258(type);
+      case 259:
+        return state259(type);
+      case 260:
+        return state260(type);
+      case 261:
+        return state261(type);
+      case 262:
+        return state262(type);
+      case 263:
+        return state263(type);
+      case 264:
+        return state264(type);
+      case 265:
+        return state265(type);
+      case 266:
+        return state266(type);
+      case 267:
+        return state267(type);
+      case 268:
+        return state268(type);
+      case 269:
+        return state269(type);
+      case 270:
+        return state270(type);
+      case 271:
+        return state271(type);
+      case 272:
+        return state272(type);
+      case 273:
+        return state273(type);
+      case 274:
+        return state274(type);
+      case 275:
+        return state275(type);
+      case 276:
+        return state276(type);
+      case 277:
+        return state277(type);
+      case 278:
+        return state278(type);
+      case 279:
+        return state279(type);
+      case 280:
+        return state280(type);
+      case 281:
+        return state281(type);
+      case 282:
+        return state282(type);
+      case 283:
+        return state283(type);
+      case 284:
+        return state284(type);
+      case 285:
+        return state285(type);
+      case 286:
+        return state286(type);
+      case 287:
+        return state287(type);
+      case 288:
+        return state288(type);
+      case 289:
+        return state289(type);
+      case 290:
+        return state290(type);
+      case 291:
+        return state291(type);
+      case 292:
+        return state292(type);
+      case 293:
+        return state293(type);
+      case 294:
+        return state294(type);
+      case 295:
+        return state295(type);
+      case 296:
+        return state296(type);
+      case 297:
+        return state297(type);
+      case 298:
+        return state298(type);
+      case 299:
+        return state299(type);
+      case 300:
+        return state300(type);
+      case 301:
+        return state301(type);
+      case 302:
+        return state302(type);
+      case 303:
+        return state303(type);
+      case 304:
+        return state304(type);
+      case 305:
+        return state305(type);
+      case 306:
+        return state306(type);
+      case 307:
+        return state307(type);
+      case 308:
+        return state308(type);
+      case 309:
+        return state309(type);
+      case 310:
+        return state310(type);
+      case 311:
+        return state311(type);
+      case 312:
+        return state312(type);
+      case 313:
+        return state313(type);
+      case 314:
+        return state314(type);
+      case 315:
+        return state315(type);
+      case 316:
+        return state316(type);
+      case 317:
+        return state317(type);
+      case 318:
+        return state318(type);
+      case 319:
+        return state319(type);
+      case 320:
+        return state320(type);
+      case 321:
+        return state321(type);
+      case 322:
+        return state322(type);
+      case 323:
+        return state323(type);
+      case 324:
+        return state324(type);
+      case 325:
+        return state325(type);
+      case 326:
+        return state326(type);
+      case 327:
+        return state327(type);
+      case 328:
+        return state328(type);
+      case 329:
+        return state329(type);
+      case 330:
+        return state330(type);
+      case 331:
+        return state331(type);
+      case 332:
+        return state332(type);
+      case 333:
+        return state333(type);
+      case 334:
+        return state334(type);
+      case 335:
+        return state335(type);
+      case 336:
+        return state336(type);
+      case 337:
+        return state337(type);
+      case 338:
+        return state338(type);
+      case 339:
+        return state339(type);
+      case 340:
+        return state340(type);
+      case 341:
+        return state341(type);
+      case 342:
+        return state342(type);
+      case 343:
+        return state343(type);
+      case 344:
+        return state344(type);
+      case 345:
+        return state345(type);
+      case 346:
+        return state346(type);
+      case 347:
+        return state347(type);
+      case 348:
+        return state348(type);
+      case 349:
+        return state349(type);
+      case 350:
+        return state350(type);
+      case 351:
+        return state351(type);
+      case 352:
+        return state352(type);
+      case 353:
+        return state353(type);
+      case 354:
+        return state354(type);
+      case 355:
+        return state355(type);
+      case 356:
+        return state356(type);
+      case 357:
+        return state357(type);
+      case 358:
+        return state358(type);
+      case 359:
+        return state359(type);
+      case 360:
+        return state360(type);
+      case 361:
+        return state361(type);
+      case 362:
+        return state362(type);
+      case 363:
+        return state363(type);
+      case 364:
+        return state364(type);
+      case 365:
+        return state365(type);
+      case 366:
+        return state366(type);
+      case 367:
+        return state367(type);
+      case 368:
+        return state368(type);
+      case 369:
+        return state369(type);
+      case 370:
+        return state370(type);
+      case 371:
+        return state371(type);
+      case 372:
+        return state372(type);
+      case 373:
+        return state373(type);
+      case 374:
+        return state374(type);
+      case 375:
+        return state375(type);
+      case 376:
+        return state376(type);
+      case 377:
+        return state377(type);
+      case 378:
+        return state378(type);
+      case 379:
+        return state379(type);
+      case 380:
+        return state380(type);
+      case 381:
+        return state381(type);
+      case 382:
+        return state382(type);
+      case 383:
+        return state383(type);
+      case 384:
+        return state384(type);
+      case 385:
+        return state385(type);
+      case 386:
+        return state386(type);
+      case 387:
+        return state387(type);
+      case 388:
+        return state388(type);
+      case 389:
+        return state389(type);
+      case 390:
+        return state390(type);
+      case 391:
+        return state391(type);
+      case 392:
+        return state392(type);
+      case 393:
+        return state393(type);
+      case 394:
+        return state394(type);
+      case 395:
+        return state395(type);
+      case 396:
+        return state396(type);
+      case 397:
+        return state397(type);
+      case 398:
+        return state398(type);
+      case 399:
+        return state399(type);
+      case 400:
+        return state400(type);
+      case 401:
+        return state401(type);
+      case 402:
+        return state402(type);
+      case 403:
+        return state403(type);
+      case 404:
+        return state404(type);
+      case 405:
+        return state405(type);
+      case 406:
+        return state406(type);
+      case 407:
+        return state407(type);
+      case 408:
+        return state408(type);
+      case 409:
+        return state409(type);
+      case 410:
+        return state410(type);
+      case 411:
+        return state411(type);
+      case 412:
+        return state412(type);
+      case 413:
+        return state413(type);
+      case 414:
+        return state414(type);
+      case 415:
+        return state415(type);
+      case 416:
+        return state416(type);
+      case 417:
+        return state417(type);
+      case 418:
+        return state418(type);
+      case 419:
+        return state419(type);
+      case 420:
+        return state420(type);
+      case 421:
+        return state421(type);
+      case 422:
+        return state422(type);
+      case 423:
+        return state423(type);
+      case 424:
+        return state424(type);
+      case 425:
+        return state425(type);
+      case 426:
+        return state426(type);
+      case 427:
+        return state427(type);
+      case 428:
+        return state428(type);
+      case 429:
+        return state429(type);
+      case 430:
+        return state430(type);
+      case 431:
+        return state431(type);
+      case 432:
+        return state432(type);
+      case 433:
+        return state433(type);
+      case 434:
+        return state434(type);
+      case 435:
+        return state435(type);
+      case 436:
+        return state436(type);
+      case 437:
+        return state437(type);
+      case 438:
+        return state438(type);
+      case 439:
+        return state439(type);
+      case 440:
+        return state440(type);
+      case 441:
+        return state441(type);
+      case 442:
+        return state442(type);
+      case 443:
+        return state443(type);
+      case 444:
+        return state444(type);
+      case 445:
+        return state445(type);
+      case 446:
+        return state446(type);
+      case 447:
+        return state447(type);
+      case 448:
+        return state448(type);
+      case 449:
+        return state449(type);
+      case 450:
+        return state450(type);
+      case 451:
+        return state451(type);
+      case 452:
+        return state452(type);
+      case 453:
+        return state453(type);
+      case 454:
+        return state454(type);
+      case 455:
+        return state455(type);
+      case 456:
+        return state456(type);
+      case 457:
+        return state457(type);
+      case 458:
+        return state458(type);
+      case 459:
+        return state459(type);
+      case 460:
+        return state460(type);
+      case 461:
+        return state461(type);
+      case 462:
+        return state462(type);
+      case 463:
+        return state463(type);
+      case 464:
+        return state464(type);
+      case 465:
+        return state465(type);
+      case 466:
+        return state466(type);
+      case 467:
+        return state467(type);
+      case 468:
+        return state468(type);
+      case 469:
+        return state469(type);
+      case 470:
+        return state470(type);
+      case 471:
+        return state471(type);
+      case 472:
+        return state472(type);
+      case 473:
+        return state473(type);
+      case 474:
+        return state474(type);
+      case 475:
+        return state475(type);
+      case 476:
+        return state476(type);
+      case 477:
+        return state477(type);
+      case 478:
+        return state478(type);
+      case 479:
+        return state479(type);
+      case 480:
+        return state480(type);
+      case 481:
+        return state481(type);
+      case 482:
+        return state482(type);
+      case 483:
+        return state483(type);
+      case 484:
+        return state484(type);
+      case 485:
+        return state485(type);
+      case 486:
+        return state486(type);
+      case 487:
+        return state487(type);
+      case 488:
+        return state488(type);
+      case 489:
+        return state489(type);
+      case 490:
+        return state490(type);
+      case 491:
+        return state491(type);
+      case 492:
+        return state492(type);
+      case 493:
+        return state493(type);
+      case 494:
+        return state494(type);
+      case 495:
+        return state495(type);
+      case 496:
+        return state496(type);
+      case 497:
+        return state497(type);
+      case 498:
+        return state498(type);
+      case 499:
+        return state499(type);
+      case 500:
+        return state500(type);
+      case 501:
+        return state501(type);
+      case 502:
+        return state502(type);
+      case 503:
+        return state503(type);
+      case 504:
+        return state504(type);
+      case 505:
+        return state505(type);
+      case 506:
+        return state506(type);
+      case 507:
+        return state507(type);
+      case 508:
+        return state508(type);
+      case 509:
+        return state509(type);
+      case 510:
+        return state510(type);
+      case 511:
+        return state511(type);
+      case 512:
+        return state512(type);
+      case 513:
+        return state513(type);
+      case 514:
+        return state514(type);
+      case 515:
+        return state515(type);
+      case 516:
+        return state516(type);
+      case 517:
+        return state517(type);
+      case 518:
+        return state518(type);
+      case 519:
+        return state519(type);
+      case 520:
+        return state520(type);
+      case 521:
+        return state521(type);
+      case 522:
+        return state522(type);
+      case 523:
+        return state523(type);
+      case 524:
+        return state524(type);
+      case 525:
+        return state525(type);
+      case 526:
+        return state526(type);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  int goTo(int state, int production) {
+    switch (production) {
+      case 0: 
+        return gotoS(state);
+      case 1: case 2: 
+        return gotoProgram(state);
+      case 3: case 4: 
+        return gotoStatementList(state);
+      case 5: case 6: case 7: case 8: case 9: case 10: case 11: case 12: case 13: case 14: case 15: case 16: case 17: case 18: case 19: case 20: case 21: 
+        return gotoStatement(state);
+      case 22: 
+        return gotoImportStatement(state);
+      case 23: case 24: case 25: case 26: 
+        return gotoIfStatement(state);
+      case 27: case 28: 
+        return gotoElseIfStatements(state);
+      case 29: 
+        return gotoElseIfStatement(state);
+      case 30: 
+        return gotoVariableDeclarationStatement(state);
+      case 31: case 32: 
+        return gotoVariableDeclaration(state);
+      case 33: 
+        return gotoVariableDeclarationHeader(state);
+      case 34: 
+        return gotoConstantDeclaration(state);
+      case 35: case 36: 
+        return gotoBlockStatement(state);
+      case 37: case 38: 
+        return gotoReturnStatement(state);
+      case 39: 
+        return gotoTryCatchStatement(state);
+      case 40: 
+        return gotoThrowStatement(state);
+      case 41: case 42: 
+        return gotoSwitchStatement(state);
+      case 43: case 44: case 45: 
+        return gotoSwitchCaseListWithDefault(state);
+      case 46: case 47: 
+        return gotoSwitchCaseList(state);
+      case 48: case 49: 
+        return gotoSwitchCase(state);
+      case 50: case 51: case 52: 
+        return gotoLoopStatement(state);
+      case 53: 
+        return gotoForeachLoop(state);
+      case 54: case 55: case 56: case 57: case 58: case 59: case 60: case 61: 
+        return gotoCounterControlledLoop(state);
+      case 62: case 63: 
+        return gotoCounterLoopInit(state);
+      case 64: case 65: 
+        return gotoExpressionList(state);
+      case 66: case 67: 
+        return gotoWhileLoop(state);
+      case 68: 
+        return gotoExpressionStatement(state);
+      case 69: case 70: case 71: case 72: 
+        return gotoExpression(state);
+      case 73: case 74: 
+        return gotoFunctionExpression(state);
+      case 75: case 76: 
+        return gotoParameterList(state);
+      case 77: case 78: 
+        return gotoArrayLiteral(state);
+      case 79: case 80: 
+        return gotoObjectLiteral(state);
+      case 81: case 82: 
+        return gotoObjectLiteralFieldList(state);
+      case 83: 
+        return gotoObjectLiteralField(state);
+      case 84: case 85: case 86: 
+        return gotoLogicalExpression(state);
+      case 87: case 88: case 89: case 90: 
+        return gotoBitwiseExpression(state);
+      case 91: case 92: case 93: 
+        return gotoEqualityExpression(state);
+      case 94: case 95: case 96: case 97: case 98: 
+        return gotoRelationalExpression(state);
+      case 99: case 100: case 101: 
+        return gotoShiftExpression(state);
+      case 102: case 103: case 104: 
+        return gotoTermExpression(state);
+      case 105: case 106: case 107: case 108: 
+        return gotoFactorExpression(state);
+      case 109: case 110: case 111: 
+        return gotoUnaryExpression(state);
+      case 112: case 113: 
+        return gotoExponentiationExpression(state);
+      case 114: case 115: case 116: case 117: 
+        return gotoEndpoint(state);
+      case 118: case 119: case 120: case 121: case 122: 
+        return gotoAssignmentExpression(state);
+      case 123: case 124: case 125: case 126: case 127: case 128: case 129: 
+        return gotoAssignableTargetExpression(state);
+      case 130: case 131: case 132: case 133: case 134: 
+        return gotoIdentifierStackExpression(state);
+      case 135: case 136: case 137: case 138: 
+        return gotoLiteral(state);
+      case 139: 
+        return gotoGroupingExpression(state);
+      case 140: case 141: 
+        return gotoObjectTypeDeclaration(state);
+      case 142: case 143: 
+        return gotoPropertyList(state);
+      case 144: 
+        return gotoPropertyDefinition(state);
+      case 145: case 146: case 147: case 148: case 149: case 150: case 151: 
+        return gotoType(state);
+      case 152: case 153: 
+        return gotoLambdaType(state);
+      case 154: case 155: 
+        return gotoLambdaParameterList(state);
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int state0(TokenType type) {
+    switch (type) {
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case EOF:
+        return shift(40);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state1(TokenType type) {
+    switch (type) {
+      case EOF:
+        return LR1ParseTable.ACCEPT;
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state2(TokenType type) {
+    switch (type) {
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case EOF:
+        return shift(70);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state3(TokenType type) {
+    switch (type) {
+      case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS: case IMPORT: case RETURN:
+      case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY: case IDENTIFIER: case EOF: case IF:
+      case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR: case CONSTANT: case OBJECT: case FUNCTION:
+      case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL:
+      case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(4);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state4(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(5);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state5(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(6);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state6(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(7);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state7(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(8);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state8(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(9);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state9(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(10);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state10(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(11);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state11(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(12);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state12(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(13);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state13(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(14);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state14(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(15);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state15(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(16);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state16(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(71);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state17(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(50);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state18(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(51);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state19(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(52);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state20(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(72);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state21(TokenType type) {
+    switch (type) {
+      case EQUALS:
+        return shift(73);
+      case SEMICOLON:
+        return reduce(31);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state22(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return reduce(69);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state23(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return reduce(70);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state24(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return reduce(71);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state25(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return reduce(72);
+      case DOUBLE_PIPE:
+        return shift(75);
+      case DOUBLE_AMPERSAND:
+        return shift(74);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state26(TokenType type) {
+    switch (type) {
+      case COMMA: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE: case DOUBLE_EQUALS:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR:
+      case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON:
+      case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(86);
+      case AMPERSAND:
+        return shift(77);
+      case CARAT:
+        return shift(76);
+      case PIPE:
+        return shift(78);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state27(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(90);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state28(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(93);
+      case DOUBLE_EQUALS:
+        return shift(79);
+      case EXCLAMATION_EQUALS:
+        return shift(80);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state29(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case PIPE: case EXCLAMATION_EQUALS: case MINUS: case STAR: case FORWARD_SLASH:
+      case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(98);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(85);
+      case L_ANGLE_BAR_EQUALS:
+        return shift(82);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(86);
+      case R_ANGLE_BAR_EQUALS:
+        return shift(84);
+      case L_ANGLE_BAR:
+        return shift(81);
+      case R_ANGLE_BAR:
+        return shift(83);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state30(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case L_ANGLE_BAR: case STAR:
+      case FORWARD_SLASH: case SEMICOLON: case PERCENT: case R_ANGLE_BAR: case DOUBLE_PIPE: case R_PAREN:
+      case DOUBLE_AMPERSAND:
+        return reduce(101);
+      case MINUS:
+        return shift(88);
+      case PLUS:
+        return shift(87);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state31(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case SEMICOLON: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(104);
+      case STAR:
+        return shift(89);
+      case FORWARD_SLASH:
+        return shift(90);
+      case PERCENT:
+        return shift(91);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state32(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(108);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state33(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(111);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state34(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS:
+      case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR: case STAR:
+      case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN:
+      case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(113);
+      case DOUBLE_STAR:
+        return shift(92);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state35(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR:
+      case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN: case DOUBLE_AMPERSAND:
+      case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR: case DOUBLE_EQUALS: case DOUBLE_STAR: case CARAT:
+      case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE:
+      case R_ANGLE_BAR: case PLUS:
+        return reduce(114);
+      case L_PAREN:
+        return shift(95);
+      case L_BRACE:
+        return shift(94);
+      case DOT:
+        return shift(93);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state36(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case DOUBLE_STAR: case CARAT: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(115);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state37(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case DOUBLE_STAR: case CARAT: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(116);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state38(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case DOUBLE_STAR: case CARAT: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(117);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state39(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR:
+      case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN: case DOUBLE_AMPERSAND:
+      case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR: case DOUBLE_EQUALS: case DOUBLE_STAR: case CARAT:
+      case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE:
+      case R_ANGLE_BAR: case PLUS:
+        return reduce(130);
+      case L_PAREN:
+        return shift(100);
+      case DOUBLE_MINUS:
+        return shift(97);
+      case L_BRACE:
+        return shift(101);
+      case DOUBLE_PLUS:
+        return shift(96);
+      case EQUALS:
+        return shift(98);
+      case DOT:
+        return shift(99);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state40(TokenType type) {
+    switch (type) {
+      case EOF:
+        return reduce(1);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state41(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(102);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state42(TokenType type) {
+    switch (type) {
+      case NUMBER_LITERAL:
+        return shift(104);
+      case STRING_LITERAL:
+        return shift(103);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state43(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(105);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state44(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(106);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state45(TokenType type) {
+    switch (type) {
+      case STRING_LITERAL:
+        return shift(107);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state46(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(108);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state47(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(109);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state48(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(114);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(115);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state49(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case SEMICOLON:
+        return shift(117);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state50(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(120);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state51(TokenType type) {
+    switch (type) {
+      case STRING_LITERAL:
+        return shift(121);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state52(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(122);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state53(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(123);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state54(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(124);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state55(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(125);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state56(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(126);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state57(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(127);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state58(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case R_BRACE:
+        return shift(134);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state59(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state60(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state61(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case DOUBLE_MINUS: case L_ANGLE_BAR: case FORWARD_SLASH:
+      case SEMICOLON: case R_PAREN: case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND:
+      case DOUBLE_PLUS: case DOUBLE_L_ANGLE_BAR: case EQUALS: case DOUBLE_EQUALS: case DOT: case CARAT:
+      case DOUBLE_STAR: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(123);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state62(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(138);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state63(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(138);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state64(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(135);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state65(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(136);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state66(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(137);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state67(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(138);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state68(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state69(TokenType type) {
+    switch (type) {
+      case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS: case IMPORT: case RETURN:
+      case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY: case IDENTIFIER: case EOF: case IF:
+      case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR: case CONSTANT: case OBJECT: case FUNCTION:
+      case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL:
+      case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(3);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state70(TokenType type) {
+    switch (type) {
+      case EOF:
+        return reduce(2);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state71(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(30);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state72(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(68);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state73(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state74(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state75(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state76(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state77(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state78(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state79(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state80(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state81(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state82(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state83(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state84(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state85(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state86(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state87(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state88(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state89(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state90(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state91(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state92(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state93(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(171);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state94(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state95(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case R_PAREN:
+        return shift(179);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state96(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(118);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state97(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(119);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state98(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state99(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(185);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state100(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case R_PAREN:
+        return shift(187);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state101(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state102(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(17);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state103(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(189);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state104(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(190);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state105(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(20);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state106(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(21);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state107(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(191);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state108(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state109(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(193);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state110(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(195);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state111(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(196);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state112(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR: case CONSTANT:
+      case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION: case SWITCH:
+      case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(4);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state113(TokenType type) {
+    switch (type) {
+      case COMMA:
+        return shift(197);
+      case R_CURLY_BRACE:
+        return reduce(82);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state114(TokenType type) {
+    switch (type) {
+      case THROW: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR:
+      case FORWARD_SLASH: case SEMICOLON: case LOOP_CONTINUE: case ELSE: case TRY: case IF:
+      case DOUBLE_AMPERSAND: case AMPERSAND: case DOUBLE_L_ANGLE_BAR: case ELIF: case DOUBLE_EQUALS: case FOR:
+      case CARAT: case DOUBLE_STAR: case OBJECT: case FUNCTION: case EXCLAMATION_EQUALS: case SWITCH:
+      case LOOP_BREAK: case R_ANGLE_BAR: case NULL_LITERAL: case PLUS: case R_CURLY_BRACE: case R_BRACE:
+      case L_PAREN: case L_CURLY_BRACE: case DOUBLE_MINUS: case IMPORT: case RETURN: case BOOLEAN_LITERAL:
+      case VARIABLE: case IDENTIFIER: case R_PAREN: case EOF: case L_BRACE: case SWITCH_BREAK:
+      case DOUBLE_PLUS: case COMMA: case CONSTANT: case R_ANGLE_BAR_EQUALS: case SWITCH_GOTO:
+      case NUMBER_LITERAL: case STAR: case PERCENT: case EXCLAMATION: case WHILE: case STRING_LITERAL:
+      case DOUBLE_PIPE:
+        return reduce(35);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state115(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case DOUBLE_MINUS: case L_ANGLE_BAR: case FORWARD_SLASH:
+      case SEMICOLON: case R_PAREN: case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND:
+      case DOUBLE_PLUS: case DOUBLE_L_ANGLE_BAR: case EQUALS: case DOUBLE_EQUALS: case DOT: case CARAT:
+      case DOUBLE_STAR: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(123);
+      case COLON:
+        return shift(198);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state116(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(199);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state117(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(38);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state118(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(200);
+      case IDENTIFIER:
+        return shift(201);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state119(TokenType type) {
+    switch (type) {
+      case CATCH:
+        return shift(202);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state120(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(204);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state121(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(205);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state122(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state123(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(207);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state124(TokenType type) {
+    switch (type) {
+      case VARIABLE:
+        return shift(211);
+      case SEMICOLON:
+        return shift(212);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state125(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case R_PAREN:
+        return shift(214);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state126(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(215);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state127(TokenType type) {
+    switch (type) {
+      case VARIABLE:
+        return shift(219);
+      case R_PAREN:
+        return shift(218);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state128(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(220);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state129(TokenType type) {
+    switch (type) {
+      case COMMA:
+        return shift(221);
+      case R_BRACE:
+        return reduce(65);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state130(TokenType type) {
+    switch (type) {
+      case COMMA: case R_BRACE: case R_PAREN:
+        return reduce(69);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state131(TokenType type) {
+    switch (type) {
+      case COMMA: case R_BRACE: case R_PAREN:
+        return reduce(70);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state132(TokenType type) {
+    switch (type) {
+      case COMMA: case R_BRACE: case R_PAREN:
+        return reduce(71);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state133(TokenType type) {
+    switch (type) {
+      case COMMA: case R_BRACE: case R_PAREN:
+        return reduce(72);
+      case DOUBLE_PIPE:
+        return shift(75);
+      case DOUBLE_AMPERSAND:
+        return shift(74);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state134(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(78);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state135(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(109);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state136(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(110);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state137(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR:
+      case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN: case DOUBLE_AMPERSAND:
+      case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR: case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR:
+      case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE:
+      case R_ANGLE_BAR: case PLUS:
+        return reduce(120);
+      case L_PAREN:
+        return shift(223);
+      case L_BRACE:
+        return shift(224);
+      case DOT:
+        return shift(222);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state138(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(123);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state139(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR:
+      case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN: case DOUBLE_AMPERSAND:
+      case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR: case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR:
+      case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE:
+      case R_ANGLE_BAR: case PLUS:
+        return reduce(121);
+      case L_PAREN:
+        return shift(223);
+      case L_BRACE:
+        return shift(224);
+      case DOT:
+        return shift(222);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state140(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(225);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state141(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return reduce(69);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state142(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return reduce(70);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state143(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return reduce(71);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state144(TokenType type) {
+    switch (type) {
+      case DOUBLE_PIPE:
+        return shift(75);
+      case R_PAREN:
+        return reduce(72);
+      case DOUBLE_AMPERSAND:
+        return shift(74);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state145(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return reduce(32);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state146(TokenType type) {
+    switch (type) {
+      case COMMA: case SEMICOLON:
+        return reduce(69);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state147(TokenType type) {
+    switch (type) {
+      case COMMA: case SEMICOLON:
+        return reduce(70);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state148(TokenType type) {
+    switch (type) {
+      case COMMA: case SEMICOLON:
+        return reduce(71);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state149(TokenType type) {
+    switch (type) {
+      case COMMA: case SEMICOLON:
+        return reduce(72);
+      case DOUBLE_PIPE:
+        return shift(75);
+      case DOUBLE_AMPERSAND:
+        return shift(74);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state150(TokenType type) {
+    switch (type) {
+      case COMMA: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE: case DOUBLE_EQUALS:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR:
+      case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON:
+      case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(84);
+      case AMPERSAND:
+        return shift(77);
+      case CARAT:
+        return shift(76);
+      case PIPE:
+        return shift(78);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state151(TokenType type) {
+    switch (type) {
+      case COMMA: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE: case DOUBLE_EQUALS:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR:
+      case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON:
+      case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(85);
+      case AMPERSAND:
+        return shift(77);
+      case CARAT:
+        return shift(76);
+      case PIPE:
+        return shift(78);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state152(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(87);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state153(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(88);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state154(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(89);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state155(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(91);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state156(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case PIPE: case EXCLAMATION_EQUALS: case MINUS: case STAR: case FORWARD_SLASH:
+      case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(98);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(85);
+      case L_ANGLE_BAR_EQUALS:
+        return shift(227);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(86);
+      case R_ANGLE_BAR_EQUALS:
+        return shift(229);
+      case L_ANGLE_BAR:
+        return shift(226);
+      case R_ANGLE_BAR:
+        return shift(228);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state157(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(92);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state158(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(94);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(230);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(231);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state159(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case L_ANGLE_BAR: case STAR:
+      case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN:
+      case DOUBLE_AMPERSAND:
+        return reduce(101);
+      case MINUS:
+        return shift(88);
+      case PLUS:
+        return shift(87);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state160(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(95);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(230);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(231);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state161(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(96);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(230);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(231);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state162(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(97);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(230);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(231);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state163(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case L_ANGLE_BAR: case STAR:
+      case FORWARD_SLASH: case SEMICOLON: case PERCENT: case R_ANGLE_BAR: case DOUBLE_PIPE: case R_PAREN:
+      case DOUBLE_AMPERSAND:
+        return reduce(99);
+      case MINUS:
+        return shift(88);
+      case PLUS:
+        return shift(87);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state164(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case L_ANGLE_BAR: case STAR:
+      case FORWARD_SLASH: case SEMICOLON: case PERCENT: case R_ANGLE_BAR: case DOUBLE_PIPE: case R_PAREN:
+      case DOUBLE_AMPERSAND:
+        return reduce(100);
+      case MINUS:
+        return shift(88);
+      case PLUS:
+        return shift(87);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state165(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case SEMICOLON: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(102);
+      case STAR:
+        return shift(89);
+      case FORWARD_SLASH:
+        return shift(90);
+      case PERCENT:
+        return shift(91);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state166(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case SEMICOLON: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(103);
+      case STAR:
+        return shift(89);
+      case FORWARD_SLASH:
+        return shift(90);
+      case PERCENT:
+        return shift(91);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state167(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(105);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state168(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(106);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state169(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(107);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state170(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(112);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state171(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(131);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state172(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(232);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state173(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return reduce(69);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state174(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return reduce(70);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state175(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return reduce(71);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state176(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return reduce(72);
+      case DOUBLE_PIPE:
+        return shift(75);
+      case DOUBLE_AMPERSAND:
+        return shift(74);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state177(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(233);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state178(TokenType type) {
+    switch (type) {
+      case COMMA:
+        return shift(234);
+      case R_PAREN:
+        return reduce(65);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state179(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(134);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state180(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(122);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state181(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(69);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state182(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(70);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state183(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(71);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state184(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case R_ANGLE_BAR: case R_PAREN: case PLUS:
+        return reduce(72);
+      case DOUBLE_PIPE:
+        return shift(75);
+      case DOUBLE_AMPERSAND:
+        return shift(74);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state185(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR:
+      case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN: case DOUBLE_AMPERSAND:
+      case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR: case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR:
+      case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE:
+      case R_ANGLE_BAR: case PLUS:
+        return reduce(131);
+      case L_PAREN: case DOUBLE_MINUS: case L_BRACE: case DOUBLE_PLUS: case EQUALS: case DOT:
+        return reduce(124);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state186(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(235);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state187(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR:
+      case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN: case DOUBLE_AMPERSAND:
+      case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR: case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR:
+      case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE:
+      case R_ANGLE_BAR: case PLUS:
+        return reduce(134);
+      case L_BRACE:
+        return shift(237);
+      case DOT:
+        return shift(236);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state188(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(238);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state189(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(18);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state190(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(19);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state191(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(22);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state192(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(239);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state193(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(242);
+      case STRING_TYPE:
+        return shift(244);
+      case VOID_TYPE:
+        return shift(245);
+      case BOOLEAN_TYPE:
+        return shift(243);
+      case OBJECT:
+        return shift(246);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state194(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR: case CONSTANT:
+      case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION: case SWITCH:
+      case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(3);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state195(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(36);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state196(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(79);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state197(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(201);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state198(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state199(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(37);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state200(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(35);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state201(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(198);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state202(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(254);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state203(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(255);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state204(TokenType type) {
+    switch (type) {
+      case CATCH:
+        return reduce(35);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state205(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(40);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state206(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(256);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state207(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(259);
+      case IDENTIFIER:
+        return shift(260);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state208(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(261);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state209(TokenType type) {
+    switch (type) {
+      case COMMA:
+        return shift(262);
+      case SEMICOLON:
+        return reduce(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state210(TokenType type) {
+    switch (type) {
+      case COMMA: case SEMICOLON:
+        return reduce(31);
+      case EQUALS:
+        return shift(263);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state211(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(264);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state212(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case SEMICOLON:
+        return shift(266);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state213(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(267);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state214(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state215(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(272);
+      case STRING_TYPE:
+        return shift(274);
+      case VOID_TYPE:
+        return shift(275);
+      case BOOLEAN_TYPE:
+        return shift(273);
+      case OBJECT:
+        return shift(276);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state216(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(277);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state217(TokenType type) {
+    switch (type) {
+      case COMMA:
+        return shift(278);
+      case R_PAREN:
+        return reduce(76);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state218(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(279);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state219(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(280);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state220(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(77);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state221(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state222(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(283);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state223(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case R_PAREN:
+        return shift(285);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state224(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state225(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(139);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state226(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state227(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state228(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state229(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state230(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state231(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_PAREN:
+        return shift(68);
+      case NULL_LITERAL:
+        return shift(67);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state232(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(132);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state233(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(133);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state234(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state235(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return reduce(133);
+      case DOT:
+        return shift(294);
+      case L_BRACE:
+        return shift(295);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state236(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(296);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state237(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state238(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case DOUBLE_R_ANGLE_BAR:
+      case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN: case L_BRACE:
+      case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR: case DOUBLE_EQUALS:
+      case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(132);
+      case L_PAREN: case DOUBLE_MINUS: case DOUBLE_PLUS: case EQUALS: case DOT:
+        return reduce(127);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state239(TokenType type) {
+    switch (type) {
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(314);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(311);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(312);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(313);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state240(TokenType type) {
+    switch (type) {
+      case EQUALS:
+        return shift(315);
+      case L_BRACE:
+        return shift(316);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state241(TokenType type) {
+    switch (type) {
+      case EQUALS: case L_BRACE:
+        return reduce(151);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state242(TokenType type) {
+    switch (type) {
+      case EQUALS: case L_BRACE:
+        return reduce(146);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state243(TokenType type) {
+    switch (type) {
+      case EQUALS: case L_BRACE:
+        return reduce(147);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state244(TokenType type) {
+    switch (type) {
+      case EQUALS: case L_BRACE:
+        return reduce(148);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state245(TokenType type) {
+    switch (type) {
+      case EQUALS: case L_BRACE:
+        return reduce(149);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state246(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(317);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state247(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(318);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state248(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return reduce(81);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state249(TokenType type) {
+    switch (type) {
+      case COMMA: case R_CURLY_BRACE:
+        return reduce(83);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state250(TokenType type) {
+    switch (type) {
+      case COMMA: case R_CURLY_BRACE:
+        return reduce(69);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state251(TokenType type) {
+    switch (type) {
+      case COMMA: case R_CURLY_BRACE:
+        return reduce(70);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state252(TokenType type) {
+    switch (type) {
+      case COMMA: case R_CURLY_BRACE:
+        return reduce(71);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state253(TokenType type) {
+    switch (type) {
+      case COMMA: case R_CURLY_BRACE:
+        return reduce(72);
+      case DOUBLE_PIPE:
+        return shift(75);
+      case DOUBLE_AMPERSAND:
+        return shift(74);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state254(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(319);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state255(TokenType type) {
+    switch (type) {
+      case CATCH:
+        return reduce(36);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state256(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(320);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state257(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(322);
+      case IDENTIFIER:
+        return shift(260);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state258(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case IDENTIFIER:
+        return reduce(143);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state259(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(141);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state260(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(323);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state261(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case SEMICOLON:
+        return shift(325);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state262(TokenType type) {
+    switch (type) {
+      case VARIABLE:
+        return shift(56);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state263(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state264(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(328);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state265(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(329);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state266(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case R_PAREN:
+        return shift(331);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state267(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state268(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state269(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(333);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state270(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON:
+        return reduce(33);
+      case L_BRACE:
+        return shift(334);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state271(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case R_PAREN: case L_BRACE:
+        return reduce(151);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state272(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case R_PAREN: case L_BRACE:
+        return reduce(146);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state273(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case R_PAREN: case L_BRACE:
+        return reduce(147);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state274(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case R_PAREN: case L_BRACE:
+        return reduce(148);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state275(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case R_PAREN: case L_BRACE:
+        return reduce(149);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state276(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(335);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state277(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(336);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state278(TokenType type) {
+    switch (type) {
+      case VARIABLE:
+        return shift(219);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state279(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(340);
+      case STRING_TYPE:
+        return shift(342);
+      case VOID_TYPE:
+        return shift(343);
+      case BOOLEAN_TYPE:
+        return shift(341);
+      case OBJECT:
+        return shift(344);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state280(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(345);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state281(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return reduce(64);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state282(TokenType type) {
+    switch (type) {
+      case COMMA:
+        return shift(346);
+      case R_BRACE: case R_PAREN:
+        return reduce(65);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state283(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(124);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state284(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(347);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state285(TokenType type) {
+    switch (type) {
+      case DOT:
+        return shift(348);
+      case L_BRACE:
+        return shift(349);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state286(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(350);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state287(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(94);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(230);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(231);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state288(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(95);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(230);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(231);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state289(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(96);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(230);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(231);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state290(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case R_BRACE: case DOUBLE_EQUALS: case CARAT:
+      case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE: case EXCLAMATION_EQUALS: case R_ANGLE_BAR_EQUALS:
+      case MINUS: case L_ANGLE_BAR: case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT:
+      case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(97);
+      case DOUBLE_L_ANGLE_BAR:
+        return shift(230);
+      case DOUBLE_R_ANGLE_BAR:
+        return shift(231);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state291(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case L_ANGLE_BAR: case STAR:
+      case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN:
+      case DOUBLE_AMPERSAND:
+        return reduce(99);
+      case MINUS:
+        return shift(88);
+      case PLUS:
+        return shift(87);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state292(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case L_ANGLE_BAR: case STAR:
+      case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case R_PAREN:
+      case DOUBLE_AMPERSAND:
+        return reduce(100);
+      case MINUS:
+        return shift(88);
+      case PLUS:
+        return shift(87);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state293(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return reduce(64);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state294(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(351);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state295(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state296(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS: case EQUALS: case DOT: case L_PAREN: case L_BRACE: case DOUBLE_MINUS:
+        return reduce(126);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state297(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(353);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state298(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(26);
+      case ELSE:
+        return shift(356);
+      case ELIF:
+        return shift(357);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state299(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(5);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state300(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(6);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state301(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(7);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state302(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(8);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state303(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(9);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state304(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(10);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state305(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(11);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state306(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(12);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state307(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(13);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state308(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(14);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state309(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(15);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state310(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(16);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state311(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(358);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state312(TokenType type) {
+    switch (type) {
+      case NUMBER_LITERAL:
+        return shift(360);
+      case STRING_LITERAL:
+        return shift(359);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state313(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(361);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state314(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(362);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state315(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state316(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(364);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state317(TokenType type) {
+    switch (type) {
+      case EQUALS: case L_BRACE:
+        return reduce(150);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state318(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(369);
+      case STRING_TYPE:
+        return shift(371);
+      case VOID_TYPE:
+        return shift(372);
+      case R_PAREN:
+        return shift(368);
+      case BOOLEAN_TYPE:
+        return shift(370);
+      case OBJECT:
+        return shift(373);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state319(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(374);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state320(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(378);
+      case DEFAULT:
+        return shift(379);
+      case CASE:
+        return shift(380);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state321(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case IDENTIFIER:
+        return reduce(142);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state322(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(140);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state323(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(383);
+      case STRING_TYPE:
+        return shift(385);
+      case VOID_TYPE:
+        return shift(386);
+      case BOOLEAN_TYPE:
+        return shift(384);
+      case OBJECT:
+        return shift(387);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state324(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(388);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state325(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case R_PAREN:
+        return shift(390);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state326(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return reduce(62);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state327(TokenType type) {
+    switch (type) {
+      case COMMA: case SEMICOLON:
+        return reduce(32);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state328(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(393);
+      case STRING_TYPE:
+        return shift(395);
+      case VOID_TYPE:
+        return shift(396);
+      case BOOLEAN_TYPE:
+        return shift(394);
+      case OBJECT:
+        return shift(397);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state329(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case R_PAREN:
+        return shift(399);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state330(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(400);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state331(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state332(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(66);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state333(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(35);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state334(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(402);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state335(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case R_PAREN: case L_BRACE:
+        return reduce(150);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state336(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(340);
+      case STRING_TYPE:
+        return shift(342);
+      case VOID_TYPE:
+        return shift(343);
+      case BOOLEAN_TYPE:
+        return shift(341);
+      case OBJECT:
+        return shift(344);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state337(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return reduce(75);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state338(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR:
+        return shift(404);
+      case L_BRACE:
+        return shift(405);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state339(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(151);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state340(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(146);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state341(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(147);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state342(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(148);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state343(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(149);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state344(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(406);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state345(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(272);
+      case STRING_TYPE:
+        return shift(274);
+      case VOID_TYPE:
+        return shift(275);
+      case BOOLEAN_TYPE:
+        return shift(273);
+      case OBJECT:
+        return shift(276);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state346(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state347(TokenType type) {
+    switch (type) {
+      case DOT:
+        return shift(409);
+      case L_BRACE:
+        return shift(410);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state348(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(411);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state349(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state350(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(127);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state351(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS: case EQUALS: case DOT: case L_PAREN: case L_BRACE: case DOUBLE_MINUS:
+        return reduce(125);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state352(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(413);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state353(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS: case EQUALS: case DOT: case L_PAREN: case L_BRACE: case DOUBLE_MINUS:
+        return reduce(129);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state354(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case FOR:
+      case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL: case EXCLAMATION:
+      case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(24);
+      case ELSE:
+        return shift(415);
+      case ELIF:
+        return shift(357);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state355(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(28);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state356(TokenType type) {
+    switch (type) {
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(432);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(429);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(430);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(431);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state357(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(433);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state358(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(17);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state359(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(434);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state360(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(435);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state361(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(20);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state362(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(21);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state363(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(436);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state364(TokenType type) {
+    switch (type) {
+      case EQUALS: case L_BRACE:
+        return reduce(145);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state365(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(437);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state366(TokenType type) {
+    switch (type) {
+      case COMMA:
+        return shift(438);
+      case R_PAREN:
+        return reduce(155);
+      case L_BRACE:
+        return shift(439);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state367(TokenType type) {
+    switch (type) {
+      case COMMA: case R_PAREN: case L_BRACE:
+        return reduce(151);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state368(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR:
+        return shift(440);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state369(TokenType type) {
+    switch (type) {
+      case COMMA: case R_PAREN: case L_BRACE:
+        return reduce(146);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state370(TokenType type) {
+    switch (type) {
+      case COMMA: case R_PAREN: case L_BRACE:
+        return reduce(147);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state371(TokenType type) {
+    switch (type) {
+      case COMMA: case R_PAREN: case L_BRACE:
+        return reduce(148);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state372(TokenType type) {
+    switch (type) {
+      case COMMA: case R_PAREN: case L_BRACE:
+        return reduce(149);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state373(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(441);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state374(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state375(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(443);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state376(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return reduce(45);
+      case DEFAULT:
+        return shift(445);
+      case CASE:
+        return shift(380);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state377(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case DEFAULT: case CASE:
+        return reduce(47);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state378(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(42);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state379(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(446);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state380(TokenType type) {
+    switch (type) {
+      case L_PAREN:
+        return shift(447);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state381(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(448);
+      case L_BRACE:
+        return shift(449);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state382(TokenType type) {
+    switch (type) {
+      case SEMICOLON: case L_BRACE:
+        return reduce(151);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state383(TokenType type) {
+    switch (type) {
+      case SEMICOLON: case L_BRACE:
+        return reduce(146);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state384(TokenType type) {
+    switch (type) {
+      case SEMICOLON: case L_BRACE:
+        return reduce(147);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state385(TokenType type) {
+    switch (type) {
+      case SEMICOLON: case L_BRACE:
+        return reduce(148);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state386(TokenType type) {
+    switch (type) {
+      case SEMICOLON: case L_BRACE:
+        return reduce(149);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state387(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(450);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state388(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case R_PAREN:
+        return shift(452);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state389(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(453);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state390(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state391(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON:
+        return reduce(33);
+      case OF:
+        return shift(455);
+      case L_BRACE:
+        return shift(456);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state392(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case L_BRACE:
+        return reduce(151);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state393(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case L_BRACE:
+        return reduce(146);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state394(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case L_BRACE:
+        return reduce(147);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state395(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case L_BRACE:
+        return reduce(148);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state396(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case L_BRACE:
+        return reduce(149);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state397(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(457);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state398(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(458);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state399(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state400(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state401(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(61);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state402(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case R_PAREN: case L_BRACE:
+        return reduce(145);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state403(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR:
+        return shift(461);
+      case L_BRACE:
+        return shift(405);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state404(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(463);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state405(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(464);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state406(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(150);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state407(TokenType type) {
+    switch (type) {
+      case COMMA: case R_PAREN:
+        return reduce(33);
+      case L_BRACE:
+        return shift(334);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state408(TokenType type) {
+    switch (type) {
+      case R_BRACE: case R_PAREN:
+        return reduce(64);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state409(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(465);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state410(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state411(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(126);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state412(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(467);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state413(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS: case EQUALS: case DOT: case L_PAREN: case L_BRACE: case DOUBLE_MINUS:
+        return reduce(128);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state414(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(27);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state415(TokenType type) {
+    switch (type) {
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(432);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(429);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(430);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(431);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state416(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(25);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state417(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(5);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state418(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(6);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state419(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(7);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state420(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(8);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state421(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(9);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state422(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(10);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state423(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(11);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state424(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(12);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state425(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(13);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state426(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(14);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state427(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(15);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state428(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(16);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state429(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(469);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state430(TokenType type) {
+    switch (type) {
+      case NUMBER_LITERAL:
+        return shift(471);
+      case STRING_LITERAL:
+        return shift(470);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state431(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(472);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state432(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(473);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state433(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state434(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(18);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state435(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(19);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state436(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(34);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state437(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR:
+        return shift(475);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state438(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(369);
+      case STRING_TYPE:
+        return shift(371);
+      case VOID_TYPE:
+        return shift(372);
+      case BOOLEAN_TYPE:
+        return shift(370);
+      case OBJECT:
+        return shift(373);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state439(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(477);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state440(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(480);
+      case STRING_TYPE:
+        return shift(482);
+      case VOID_TYPE:
+        return shift(483);
+      case BOOLEAN_TYPE:
+        return shift(481);
+      case OBJECT:
+        return shift(484);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state441(TokenType type) {
+    switch (type) {
+      case COMMA: case R_PAREN: case L_BRACE:
+        return reduce(150);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state442(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(39);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state443(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(41);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state444(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case DEFAULT: case CASE:
+        return reduce(46);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state445(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(485);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state446(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(487);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state447(TokenType type) {
+    switch (type) {
+      case NUMBER_LITERAL:
+        return shift(489);
+      case STRING_LITERAL:
+        return shift(488);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state448(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case IDENTIFIER:
+        return reduce(144);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state449(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(490);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state450(TokenType type) {
+    switch (type) {
+      case SEMICOLON: case L_BRACE:
+        return reduce(150);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state451(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(491);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state452(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state453(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state454(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(59);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state455(TokenType type) {
+    switch (type) {
+      case DOUBLE_PLUS:
+        return shift(62);
+      case L_PAREN:
+        return shift(68);
+      case FUNCTION:
+        return shift(57);
+      case L_CURLY_BRACE:
+        return shift(118);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case EXCLAMATION:
+        return shift(60);
+      case STRING_LITERAL:
+        return shift(64);
+      case IDENTIFIER:
+        return shift(61);
+      case L_BRACE:
+        return shift(58);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state456(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(495);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state457(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case L_BRACE:
+        return reduce(150);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state458(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state459(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(60);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state460(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(58);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state461(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(463);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state462(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(74);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state463(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(499);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state464(TokenType type) {
+    switch (type) {
+      case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(145);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state465(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(125);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state466(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(500);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state467(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(129);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state468(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(23);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state469(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(17);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state470(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(501);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state471(TokenType type) {
+    switch (type) {
+      case SEMICOLON:
+        return shift(502);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state472(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(20);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state473(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(21);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state474(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(503);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state475(TokenType type) {
+    switch (type) {
+      case NUMBER_TYPE:
+        return shift(480);
+      case STRING_TYPE:
+        return shift(482);
+      case VOID_TYPE:
+        return shift(483);
+      case BOOLEAN_TYPE:
+        return shift(481);
+      case OBJECT:
+        return shift(484);
+      case FUNCTION:
+        return shift(247);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state476(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return reduce(154);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state477(TokenType type) {
+    switch (type) {
+      case COMMA: case R_PAREN: case L_BRACE:
+        return reduce(145);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state478(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR:
+        return reduce(153);
+      case L_BRACE:
+        return shift(505);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state479(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(151);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state480(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(146);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state481(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(147);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state482(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(148);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state483(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(149);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state484(TokenType type) {
+    switch (type) {
+      case IDENTIFIER:
+        return shift(506);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state485(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(487);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state486(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return reduce(44);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state487(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(509);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state488(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(510);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state489(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(511);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state490(TokenType type) {
+    switch (type) {
+      case SEMICOLON: case L_BRACE:
+        return reduce(145);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state491(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state492(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(57);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state493(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(56);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state494(TokenType type) {
+    switch (type) {
+      case R_PAREN:
+        return shift(513);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state495(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case L_BRACE:
+        return reduce(145);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state496(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(55);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state497(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(73);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state498(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(514);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state499(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(35);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state500(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case R_BRACE: case L_ANGLE_BAR_EQUALS: case PIPE: case L_PAREN:
+      case DOUBLE_R_ANGLE_BAR: case MINUS: case L_ANGLE_BAR: case FORWARD_SLASH: case SEMICOLON: case R_PAREN:
+      case L_BRACE: case DOUBLE_AMPERSAND: case COMMA: case AMPERSAND: case DOUBLE_L_ANGLE_BAR:
+      case DOUBLE_EQUALS: case DOT: case CARAT: case DOUBLE_STAR: case EXCLAMATION_EQUALS:
+      case R_ANGLE_BAR_EQUALS: case STAR: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR: case PLUS:
+        return reduce(128);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state501(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(18);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state502(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(19);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state503(TokenType type) {
+    switch (type) {
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(432);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(429);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(430);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(431);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state504(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR:
+        return reduce(152);
+      case L_BRACE:
+        return shift(505);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state505(TokenType type) {
+    switch (type) {
+      case R_BRACE:
+        return shift(516);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state506(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(150);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state507(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return reduce(43);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state508(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(517);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state509(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return reduce(35);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state510(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(518);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state511(TokenType type) {
+    switch (type) {
+      case COLON:
+        return shift(519);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state512(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(54);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state513(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(269);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state514(TokenType type) {
+    switch (type) {
+      case COMMA: case AMPERSAND: case R_CURLY_BRACE: case DOUBLE_L_ANGLE_BAR: case R_BRACE:
+      case DOUBLE_EQUALS: case CARAT: case DOUBLE_STAR: case L_ANGLE_BAR_EQUALS: case PIPE:
+      case EXCLAMATION_EQUALS: case DOUBLE_R_ANGLE_BAR: case R_ANGLE_BAR_EQUALS: case MINUS: case L_ANGLE_BAR:
+      case STAR: case FORWARD_SLASH: case SEMICOLON: case PERCENT: case DOUBLE_PIPE: case R_ANGLE_BAR:
+      case R_PAREN: case DOUBLE_AMPERSAND: case PLUS:
+        return reduce(36);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state515(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(29);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state516(TokenType type) {
+    switch (type) {
+      case COMMA: case EQUALS: case SEMICOLON: case OF: case R_PAREN: case MINUS_R_ANGLE_BAR: case L_BRACE:
+        return reduce(145);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state517(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return reduce(36);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state518(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(522);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state519(TokenType type) {
+    switch (type) {
+      case L_CURLY_BRACE:
+        return shift(522);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state520(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case THROW: case L_PAREN: case L_CURLY_BRACE: case MINUS: case DOUBLE_MINUS:
+      case IMPORT: case RETURN: case BOOLEAN_LITERAL: case VARIABLE: case LOOP_CONTINUE: case ELSE: case TRY:
+      case IDENTIFIER: case EOF: case IF: case L_BRACE: case SWITCH_BREAK: case DOUBLE_PLUS: case ELIF:
+      case FOR: case CONSTANT: case OBJECT: case FUNCTION: case SWITCH_GOTO: case NUMBER_LITERAL:
+      case EXCLAMATION: case SWITCH: case WHILE: case STRING_LITERAL: case LOOP_BREAK: case NULL_LITERAL:
+        return reduce(53);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state521(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case DEFAULT: case CASE:
+        return reduce(48);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state522(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(525);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state523(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case DEFAULT: case CASE:
+        return reduce(49);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state524(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE:
+        return shift(526);
+      case THROW:
+        return shift(51);
+      case L_PAREN:
+        return shift(68);
+      case L_CURLY_BRACE:
+        return shift(48);
+      case MINUS:
+        return shift(59);
+      case DOUBLE_MINUS:
+        return shift(63);
+      case IMPORT:
+        return shift(45);
+      case RETURN:
+        return shift(49);
+      case BOOLEAN_LITERAL:
+        return shift(66);
+      case VARIABLE:
+        return shift(56);
+      case LOOP_CONTINUE:
+        return shift(44);
+      case TRY:
+        return shift(50);
+      case IDENTIFIER:
+        return shift(61);
+      case IF:
+        return shift(46);
+      case L_BRACE:
+        return shift(58);
+      case SWITCH_BREAK:
+        return shift(41);
+      case DOUBLE_PLUS:
+        return shift(62);
+      case FOR:
+        return shift(54);
+      case CONSTANT:
+        return shift(47);
+      case OBJECT:
+        return shift(53);
+      case FUNCTION:
+        return shift(57);
+      case SWITCH_GOTO:
+        return shift(42);
+      case NUMBER_LITERAL:
+        return shift(65);
+      case EXCLAMATION:
+        return shift(60);
+      case SWITCH:
+        return shift(52);
+      case WHILE:
+        return shift(55);
+      case STRING_LITERAL:
+        return shift(64);
+      case LOOP_BREAK:
+        return shift(43);
+      case NULL_LITERAL:
+        return shift(67);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state525(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case DEFAULT: case CASE:
+        return reduce(35);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int state526(TokenType type) {
+    switch (type) {
+      case R_CURLY_BRACE: case DEFAULT: case CASE:
+        return reduce(36);
+      default:
+        return LR1ParseTable.ERROR;
+    }
+  }
+
+  private static int gotoS(int state) {
+    switch (state) {
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoProgram(int state) {
+    switch (state) {
+      case 0:
+        return 1;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoStatementList(int state) {
+    switch (state) {
+      case 0:
+        return 2;
+      case 48: case 269:
+        return 110;
+      case 120:
+        return 203;
+      case 463:
+        return 498;
+      case 487:
+        return 508;
+      case 522:
+        return 524;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoStatement(int state) {
+    switch (state) {
+      case 0:
+        return 3;
+      case 2:
+        return 69;
+      case 48: case 120: case 269: case 463: case 487: case 522:
+        return 112;
+      case 110: case 203: case 498: case 508: case 524:
+        return 194;
+      case 239:
+        return 298;
+      case 356:
+        return 416;
+      case 415:
+        return 468;
+      case 503:
+        return 515;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoImportStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 4;
+      case 239:
+        return 299;
+      case 356: case 415: case 503:
+        return 417;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoIfStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 5;
+      case 239:
+        return 300;
+      case 356: case 415: case 503:
+        return 418;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoElseIfStatements(int state) {
+    switch (state) {
+      case 298:
+        return 354;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoElseIfStatement(int state) {
+    switch (state) {
+      case 298:
+        return 355;
+      case 354:
+        return 414;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoVariableDeclarationStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 6;
+      case 239:
+        return 301;
+      case 356: case 415: case 503:
+        return 419;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoVariableDeclaration(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 239: case 269: case 356: case 415: case 463:
+      case 487: case 498: case 503: case 508: case 522: case 524:
+        return 16;
+      case 124: case 262:
+        return 209;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoVariableDeclarationHeader(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 239: case 269: case 356: case 415: case 463:
+      case 487: case 498: case 503: case 508: case 522: case 524:
+        return 21;
+      case 124: case 262:
+        return 210;
+      case 127: case 278:
+        return 217;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoConstantDeclaration(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 7;
+      case 239:
+        return 302;
+      case 356: case 415: case 503:
+        return 420;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoBlockStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 8;
+      case 50:
+        return 119;
+      case 214:
+        return 268;
+      case 239:
+        return 303;
+      case 267:
+        return 332;
+      case 331:
+        return 401;
+      case 356: case 415: case 503:
+        return 421;
+      case 374:
+        return 442;
+      case 390:
+        return 454;
+      case 399:
+        return 459;
+      case 400:
+        return 460;
+      case 404:
+        return 462;
+      case 446:
+        return 486;
+      case 452:
+        return 492;
+      case 453:
+        return 493;
+      case 458:
+        return 496;
+      case 461:
+        return 497;
+      case 485:
+        return 507;
+      case 491:
+        return 512;
+      case 513:
+        return 520;
+      case 518:
+        return 521;
+      case 519:
+        return 523;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoReturnStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 9;
+      case 239:
+        return 304;
+      case 356: case 415: case 503:
+        return 422;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoTryCatchStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 10;
+      case 239:
+        return 305;
+      case 356: case 415: case 503:
+        return 423;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoThrowStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 11;
+      case 239:
+        return 306;
+      case 356: case 415: case 503:
+        return 424;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoSwitchStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 12;
+      case 239:
+        return 307;
+      case 356: case 415: case 503:
+        return 425;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoSwitchCaseListWithDefault(int state) {
+    switch (state) {
+      case 320:
+        return 375;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoSwitchCaseList(int state) {
+    switch (state) {
+      case 320:
+        return 376;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoSwitchCase(int state) {
+    switch (state) {
+      case 320:
+        return 377;
+      case 376:
+        return 444;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoLoopStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 13;
+      case 239:
+        return 308;
+      case 356: case 415: case 503:
+        return 426;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoForeachLoop(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 239: case 269: case 356: case 415: case 463:
+      case 487: case 498: case 503: case 508: case 522: case 524:
+        return 17;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoCounterControlledLoop(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 239: case 269: case 356: case 415: case 463:
+      case 487: case 498: case 503: case 508: case 522: case 524:
+        return 18;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoCounterLoopInit(int state) {
+    switch (state) {
+      case 124:
+        return 208;
+      case 262:
+        return 326;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoExpressionList(int state) {
+    switch (state) {
+      case 58:
+        return 128;
+      case 95:
+        return 177;
+      case 100:
+        return 186;
+      case 221:
+        return 281;
+      case 223:
+        return 284;
+      case 234:
+        return 293;
+      case 266:
+        return 330;
+      case 325:
+        return 389;
+      case 329:
+        return 398;
+      case 346:
+        return 408;
+      case 388:
+        return 451;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoWhileLoop(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 239: case 269: case 356: case 415: case 463:
+      case 487: case 498: case 503: case 508: case 522: case 524:
+        return 19;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoExpressionStatement(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 14;
+      case 239:
+        return 309;
+      case 356: case 415: case 503:
+        return 427;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 239: case 269: case 356: case 415: case 463:
+      case 487: case 498: case 503: case 508: case 522: case 524:
+        return 20;
+      case 49:
+        return 116;
+      case 58:
+        return 129;
+      case 68:
+        return 140;
+      case 73:
+        return 145;
+      case 94:
+        return 172;
+      case 95: case 100: case 223: case 266: case 325: case 329: case 388:
+        return 178;
+      case 98:
+        return 180;
+      case 101:
+        return 188;
+      case 108:
+        return 192;
+      case 122:
+        return 206;
+      case 125:
+        return 213;
+      case 198:
+        return 249;
+      case 212:
+        return 265;
+      case 221: case 234: case 346:
+        return 282;
+      case 224:
+        return 286;
+      case 237:
+        return 297;
+      case 261:
+        return 324;
+      case 263:
+        return 327;
+      case 295:
+        return 352;
+      case 315:
+        return 363;
+      case 349:
+        return 412;
+      case 410:
+        return 466;
+      case 433:
+        return 474;
+      case 455:
+        return 494;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoFunctionExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 110: case 120: case 203: case 212: case 239: case 261: case 269:
+      case 315: case 356: case 415: case 463: case 487: case 498: case 503: case 508: case 522: case 524:
+        return 22;
+      case 58: case 95: case 100: case 221: case 223: case 234: case 266: case 325: case 329: case 346:
+      case 388:
+        return 130;
+      case 68: case 108: case 122: case 125: case 433: case 455:
+        return 141;
+      case 73: case 263:
+        return 146;
+      case 94: case 101: case 224: case 237: case 295: case 349: case 410:
+        return 173;
+      case 98:
+        return 181;
+      case 198:
+        return 250;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoParameterList(int state) {
+    switch (state) {
+      case 127:
+        return 216;
+      case 278:
+        return 337;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoArrayLiteral(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 110: case 120: case 203: case 212: case 239: case 261: case 269:
+      case 315: case 356: case 415: case 463: case 487: case 498: case 503: case 508: case 522: case 524:
+        return 23;
+      case 58: case 95: case 100: case 221: case 223: case 234: case 266: case 325: case 329: case 346:
+      case 388:
+        return 131;
+      case 68: case 108: case 122: case 125: case 433: case 455:
+        return 142;
+      case 73: case 263:
+        return 147;
+      case 94: case 101: case 224: case 237: case 295: case 349: case 410:
+        return 174;
+      case 98:
+        return 182;
+      case 198:
+        return 251;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoObjectLiteral(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 110: case 120: case 203: case 212: case 239: case 261: case 269:
+      case 315: case 356: case 415: case 463: case 487: case 498: case 503: case 508: case 522: case 524:
+        return 24;
+      case 58: case 95: case 100: case 221: case 223: case 234: case 266: case 325: case 329: case 346:
+      case 388:
+        return 132;
+      case 68: case 108: case 122: case 125: case 433: case 455:
+        return 143;
+      case 73: case 263:
+        return 148;
+      case 94: case 101: case 224: case 237: case 295: case 349: case 410:
+        return 175;
+      case 98:
+        return 183;
+      case 198:
+        return 252;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoObjectLiteralFieldList(int state) {
+    switch (state) {
+      case 48: case 118:
+        return 111;
+      case 197:
+        return 248;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoObjectLiteralField(int state) {
+    switch (state) {
+      case 48: case 118: case 197:
+        return 113;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoLogicalExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 110: case 120: case 203: case 212: case 239: case 261: case 269:
+      case 315: case 356: case 415: case 463: case 487: case 498: case 503: case 508: case 522: case 524:
+        return 25;
+      case 58: case 95: case 100: case 221: case 223: case 234: case 266: case 325: case 329: case 346:
+      case 388:
+        return 133;
+      case 68: case 108: case 122: case 125: case 433: case 455:
+        return 144;
+      case 73: case 263:
+        return 149;
+      case 94: case 101: case 224: case 237: case 295: case 349: case 410:
+        return 176;
+      case 98:
+        return 184;
+      case 198:
+        return 253;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoBitwiseExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 68: case 73: case 94: case 95: case 98: case 100:
+      case 101: case 108: case 110: case 120: case 122: case 125: case 198: case 203: case 212: case 221:
+      case 223: case 224: case 234: case 237: case 239: case 261: case 263: case 266: case 269: case 295:
+      case 315: case 325: case 329: case 346: case 349: case 356: case 388: case 410: case 415: case 433:
+      case 455: case 463: case 487: case 498: case 503: case 508: case 522: case 524:
+        return 26;
+      case 74:
+        return 150;
+      case 75:
+        return 151;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoEqualityExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 68: case 73: case 74: case 75: case 94: case 95:
+      case 98: case 100: case 101: case 108: case 110: case 120: case 122: case 125: case 198: case 203:
+      case 212: case 221: case 223: case 224: case 234: case 237: case 239: case 261: case 263: case 266:
+      case 269: case 295: case 315: case 325: case 329: case 346: case 349: case 356: case 388: case 410:
+      case 415: case 433: case 455: case 463: case 487: case 498: case 503: case 508: case 522: case 524:
+        return 27;
+      case 76:
+        return 152;
+      case 77:
+        return 153;
+      case 78:
+        return 154;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoRelationalExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 68: case 73: case 74: case 75: case 76: case 77:
+      case 78: case 94: case 95: case 98: case 100: case 101: case 108: case 110: case 120: case 122:
+      case 125: case 198: case 203: case 212: case 221: case 223: case 224: case 234: case 237: case 239:
+      case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346: case 349:
+      case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498: case 503:
+      case 508: case 522: case 524:
+        return 28;
+      case 79:
+        return 155;
+      case 80:
+        return 157;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoShiftExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 68: case 73: case 74: case 75: case 76: case 77:
+      case 78: case 94: case 95: case 98: case 100: case 101: case 108: case 110: case 120: case 122:
+      case 125: case 198: case 203: case 212: case 221: case 223: case 224: case 234: case 237: case 239:
+      case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346: case 349:
+      case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498: case 503:
+      case 508: case 522: case 524:
+        return 29;
+      case 79: case 80:
+        return 156;
+      case 81:
+        return 158;
+      case 82:
+        return 160;
+      case 83:
+        return 161;
+      case 84:
+        return 162;
+      case 226:
+        return 287;
+      case 227:
+        return 288;
+      case 228:
+        return 289;
+      case 229:
+        return 290;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoTermExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 68: case 73: case 74: case 75: case 76: case 77:
+      case 78: case 79: case 80: case 94: case 95: case 98: case 100: case 101: case 108: case 110: case 120:
+      case 122: case 125: case 198: case 203: case 212: case 221: case 223: case 224: case 234: case 237:
+      case 239: case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346:
+      case 349: case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498:
+      case 503: case 508: case 522: case 524:
+        return 30;
+      case 81: case 82: case 83: case 84: case 226: case 227: case 228: case 229:
+        return 159;
+      case 85:
+        return 163;
+      case 86:
+        return 164;
+      case 230:
+        return 291;
+      case 231:
+        return 292;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoFactorExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 68: case 73: case 74: case 75: case 76: case 77:
+      case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86: case 94: case 95:
+      case 98: case 100: case 101: case 108: case 110: case 120: case 122: case 125: case 198: case 203:
+      case 212: case 221: case 223: case 224: case 226: case 227: case 228: case 229: case 230: case 231:
+      case 234: case 237: case 239: case 261: case 263: case 266: case 269: case 295: case 315: case 325:
+      case 329: case 346: case 349: case 356: case 388: case 410: case 415: case 433: case 455: case 463:
+      case 487: case 498: case 503: case 508: case 522: case 524:
+        return 31;
+      case 87:
+        return 165;
+      case 88:
+        return 166;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoUnaryExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 68: case 73: case 74: case 75: case 76: case 77:
+      case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86: case 87: case 88:
+      case 94: case 95: case 98: case 100: case 101: case 108: case 110: case 120: case 122: case 125:
+      case 198: case 203: case 212: case 221: case 223: case 224: case 226: case 227: case 228: case 229:
+      case 230: case 231: case 234: case 237: case 239: case 261: case 263: case 266: case 269: case 295:
+      case 315: case 325: case 329: case 346: case 349: case 356: case 388: case 410: case 415: case 433:
+      case 455: case 463: case 487: case 498: case 503: case 508: case 522: case 524:
+        return 32;
+      case 89:
+        return 167;
+      case 90:
+        return 168;
+      case 91:
+        return 169;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoExponentiationExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 68: case 73: case 74: case 75: case 76: case 77:
+      case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86: case 87: case 88:
+      case 89: case 90: case 91: case 94: case 95: case 98: case 100: case 101: case 108: case 110: case 120:
+      case 122: case 125: case 198: case 203: case 212: case 221: case 223: case 224: case 226: case 227:
+      case 228: case 229: case 230: case 231: case 234: case 237: case 239: case 261: case 263: case 266:
+      case 269: case 295: case 315: case 325: case 329: case 346: case 349: case 356: case 388: case 410:
+      case 415: case 433: case 455: case 463: case 487: case 498: case 503: case 508: case 522: case 524:
+        return 33;
+      case 59:
+        return 135;
+      case 60:
+        return 136;
+      case 92:
+        return 170;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoEndpoint(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 59: case 60: case 68: case 73: case 74: case 75:
+      case 76: case 77: case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86:
+      case 87: case 88: case 89: case 90: case 91: case 92: case 94: case 95: case 98: case 100: case 101:
+      case 108: case 110: case 120: case 122: case 125: case 198: case 203: case 212: case 221: case 223:
+      case 224: case 226: case 227: case 228: case 229: case 230: case 231: case 234: case 237: case 239:
+      case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346: case 349:
+      case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498: case 503:
+      case 508: case 522: case 524:
+        return 34;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoAssignmentExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 59: case 60: case 68: case 73: case 74: case 75:
+      case 76: case 77: case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86:
+      case 87: case 88: case 89: case 90: case 91: case 92: case 94: case 95: case 98: case 100: case 101:
+      case 108: case 110: case 120: case 122: case 125: case 198: case 203: case 212: case 221: case 223:
+      case 224: case 226: case 227: case 228: case 229: case 230: case 231: case 234: case 237: case 239:
+      case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346: case 349:
+      case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498: case 503:
+      case 508: case 522: case 524:
+        return 36;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoAssignableTargetExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 59: case 60: case 68: case 73: case 74: case 75:
+      case 76: case 77: case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86:
+      case 87: case 88: case 89: case 90: case 91: case 92: case 94: case 95: case 98: case 100: case 101:
+      case 108: case 110: case 120: case 122: case 125: case 198: case 203: case 212: case 221: case 223:
+      case 224: case 226: case 227: case 228: case 229: case 230: case 231: case 234: case 237: case 239:
+      case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346: case 349:
+      case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498: case 503:
+      case 508: case 522: case 524:
+        return 39;
+      case 62:
+        return 137;
+      case 63:
+        return 139;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoIdentifierStackExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 59: case 60: case 68: case 73: case 74: case 75:
+      case 76: case 77: case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86:
+      case 87: case 88: case 89: case 90: case 91: case 92: case 94: case 95: case 98: case 100: case 101:
+      case 108: case 110: case 120: case 122: case 125: case 198: case 203: case 212: case 221: case 223:
+      case 224: case 226: case 227: case 228: case 229: case 230: case 231: case 234: case 237: case 239:
+      case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346: case 349:
+      case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498: case 503:
+      case 508: case 522: case 524:
+        return 35;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoLiteral(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 59: case 60: case 68: case 73: case 74: case 75:
+      case 76: case 77: case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86:
+      case 87: case 88: case 89: case 90: case 91: case 92: case 94: case 95: case 98: case 100: case 101:
+      case 108: case 110: case 120: case 122: case 125: case 198: case 203: case 212: case 221: case 223:
+      case 224: case 226: case 227: case 228: case 229: case 230: case 231: case 234: case 237: case 239:
+      case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346: case 349:
+      case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498: case 503:
+      case 508: case 522: case 524:
+        return 37;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoGroupingExpression(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 49: case 58: case 59: case 60: case 68: case 73: case 74: case 75:
+      case 76: case 77: case 78: case 79: case 80: case 81: case 82: case 83: case 84: case 85: case 86:
+      case 87: case 88: case 89: case 90: case 91: case 92: case 94: case 95: case 98: case 100: case 101:
+      case 108: case 110: case 120: case 122: case 125: case 198: case 203: case 212: case 221: case 223:
+      case 224: case 226: case 227: case 228: case 229: case 230: case 231: case 234: case 237: case 239:
+      case 261: case 263: case 266: case 269: case 295: case 315: case 325: case 329: case 346: case 349:
+      case 356: case 388: case 410: case 415: case 433: case 455: case 463: case 487: case 498: case 503:
+      case 508: case 522: case 524:
+        return 38;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoObjectTypeDeclaration(int state) {
+    switch (state) {
+      case 0: case 2: case 48: case 110: case 120: case 203: case 269: case 463: case 487: case 498: case 508:
+      case 522: case 524:
+        return 15;
+      case 239:
+        return 310;
+      case 356: case 415: case 503:
+        return 428;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoPropertyList(int state) {
+    switch (state) {
+      case 207:
+        return 257;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoPropertyDefinition(int state) {
+    switch (state) {
+      case 207:
+        return 258;
+      case 257:
+        return 321;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoType(int state) {
+    switch (state) {
+      case 193:
+        return 240;
+      case 215:
+        return 270;
+      case 279:
+        return 338;
+      case 318: case 438:
+        return 366;
+      case 323:
+        return 381;
+      case 328:
+        return 391;
+      case 336:
+        return 403;
+      case 345:
+        return 407;
+      case 440:
+        return 478;
+      case 475:
+        return 504;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoLambdaType(int state) {
+    switch (state) {
+      case 193:
+        return 241;
+      case 215: case 345:
+        return 271;
+      case 279: case 336:
+        return 339;
+      case 318: case 438:
+        return 367;
+      case 323:
+        return 382;
+      case 328:
+        return 392;
+      case 440: case 475:
+        return 479;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+
+  private static int gotoLambdaParameterList(int state) {
+    switch (state) {
+      case 318:
+        return 365;
+      case 438:
+        return 476;
+      default:
+        return LR1ParseTable.NO_GOTO;
+    }
+  }
+}
@@ -54,7 +54,7 @@ public class LR1GrammarParser {
     }
 
     void lexTerminal() {
-      currentCharacterIndex++; // consume the '<'
+      currentCharacterIndex++; // consume the '['
       String lexeme = "";
 
       while (this.currentCharacterIndex < this.input.length() && this.input.charAt(this.currentCharacterIndex) != ']') {
@@ -64,7 +64,7 @@ public class LR1GrammarParser {
       }
 
       expect(']');
-      this.tokens.add(new LR1GrammarToken(LR1GrammarTokenType.VARIABLE, lexeme));
+      this.tokens.add(new LR1GrammarToken(LR1GrammarTokenType.TERMINAL, lexeme));
     }
 
     ArrayList<LR1GrammarToken> lex() {
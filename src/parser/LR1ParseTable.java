@@ -0,0 +1,366 @@
+package parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import lexer.TokenType;
+import parser.LR1TableParser.LR1TableProcess;
+import parser.LR1TableParser.LR1TableProcessType;
+
+/**
+ * Dense form of the loaded LR(1) table. Actions are indexed by state and
+ * TokenType ordinal, gotos by state and nonterminal id, so the parse loop never
+ * has to hash a terminal or variable name.
+ */
+public class LR1ParseTable {
+  // an action stores its kind in the low two bits and the target state or
+  // production in the remaining bits, zero means there is no action
+  static final int ERROR = 0;
+  static final int SHIFT = 1;
+  static final int REDUCE = 2;
+  static final int ACCEPT = 3;
+
+  static final int NO_GOTO = -1;
+
+  // dense rows, these are dropped once the table is compressed
+  int[][] actions;
+  int[][] gotos;
+
+  // compressed form: explicit entries packed into comb vectors, anything else
+  // falls back to the default reduction of the state or default goto of the
+  // variable
+  CombVector packedActions;
+  CombVector packedGotos;
+  int[] defaultActions;
+  int[] defaultGotos;
+
+  // per production: the nonterminal id of the lhs and the number of rhs symbols
+  final int[] productionLhs;
+  final int[] productionLength;
+
+  final String[] nonterminalNames;
+  final int stateCount;
+
+  // the terminals and nonterminals of every state in the order that error
+  // recovery reports and tries them
+  final int[][] actionOrder;
+  final int[][] gotoOrder;
+
+  LR1ParseTable(
+      ArrayList<LR1GrammarParser.LR1GrammarProduction> productions,
+      ArrayList<LR1TableParser.LR1TableState> states) {
+    HashMap<String, Integer> nonterminalIds = new HashMap<>();
+    ArrayList<String> names = new ArrayList<>();
+
+    productionLhs = new int[productions.size()];
+    productionLength = new int[productions.size()];
+
+    for (int i = 0; i < productions.size(); i++) {
+      LR1GrammarParser.LR1GrammarProduction production = productions.get(i);
+      Integer id = nonterminalIds.get(production.lhs);
+      if (id == null) {
+        id = names.size();
+        nonterminalIds.put(production.lhs, id);
+        names.add(production.lhs);
+      }
+
+      productionLhs[i] = id;
+      productionLength[i] = production.rhs.size();
+    }
+
+    nonterminalNames = names.toArray(new String[0]);
+    stateCount = states.size();
+    actions = new int[states.size()][TokenType.values().length];
+    gotos = new int[states.size()][nonterminalNames.length];
+    actionOrder = new int[states.size()][];
+    gotoOrder = new int[states.size()][];
+
+    for (int state = 0; state < states.size(); state++) {
+      LR1TableParser.LR1TableState tableState = states.get(state);
+
+      int[] order = actionOrder[state] = new int[tableState.actions.size()];
+      int index = 0;
+      for (Map.Entry<String, LR1TableProcess> entry : tableState.actions.entrySet()) {
+        int terminal = TokenType.valueOf(entry.getKey()).ordinal();
+        actions[state][terminal] = encode(entry.getValue());
+        order[index++] = terminal;
+      }
+
+      Arrays.fill(gotos[state], NO_GOTO);
+      order = gotoOrder[state] = new int[tableState.gotos.size()];
+      index = 0;
+      for (Map.Entry<String, LR1TableProcess> entry : tableState.gotos.entrySet()) {
+        Integer id = nonterminalIds.get(entry.getKey());
+        if (id == null)
+          throw new RuntimeException("Goto on unknown variable: " + entry.getKey());
+
+        gotos[state][id] = entry.getValue().value;
+        order[index++] = id;
+      }
+    }
+  }
+
+  /**
+   * Rebuilds the dense table from the sparse rows stored in a table file
+   */
+  LR1ParseTable(int[] productionLhs, int[] productionLength, String[] nonterminalNames,
+      int[][] actionOrder, int[][] actionValues, int[][] gotoOrder, int[][] gotoValues) {
+    this.productionLhs = productionLhs;
+    this.productionLength = productionLength;
+    this.nonterminalNames = nonterminalNames;
+    this.actionOrder = actionOrder;
+    this.gotoOrder = gotoOrder;
+
+    this.stateCount = actionOrder.length;
+    actions = new int[stateCount][TokenType.values().length];
+    gotos = new int[stateCount][nonterminalNames.length];
+
+    for (int state = 0; state < stateCount; state++) {
+      for (int i = 0; i < actionOrder[state].length; i++)
+        actions[state][actionOrder[state][i]] = actionValues[state][i];
+
+      Arrays.fill(gotos[state], NO_GOTO);
+      for (int i = 0; i < gotoOrder[state].length; i++)
+        gotos[state][gotoOrder[state][i]] = gotoValues[state][i];
+    }
+  }
+
+  private static int encode(LR1TableProcess process) {
+    if (process.type == LR1TableProcessType.SHIFT)
+      return process.value << 2 | SHIFT;
+    else if (process.type == LR1TableProcessType.REDUCE)
+      return process.value == 0 ? ACCEPT : process.value << 2 | REDUCE;
+
+    throw new RuntimeException("Unexpected process in action table: " + process);
+  }
+
+  /**
+   * Replaces the dense rows with row-displacement (comb vector) tables. States
+   * reduce by their most common production on any terminal without an explicit
+   * entry, which only delays error detection until before the next shift.
+   */
+  public LR1ParseTable compress() {
+    if (actions == null)
+      return this;
+
+    int terminalCount = TokenType.values().length;
+    defaultActions = new int[stateCount];
+    int[][] actionColumns = new int[stateCount][];
+    int[][] actionValues = new int[stateCount][];
+
+    for (int state = 0; state < stateCount; state++) {
+      defaultActions[state] = mostCommon(actions[state], REDUCE);
+      int[][] entries = explicitEntries(actions[state], defaultActions[state], ERROR);
+      actionColumns[state] = entries[0];
+      actionValues[state] = entries[1];
+    }
+
+    // gotos are packed by variable since most variables go to the same state
+    // from everywhere
+    int[][] columns = new int[nonterminalNames.length][stateCount];
+    for (int state = 0; state < stateCount; state++)
+      for (int nonterminal = 0; nonterminal < nonterminalNames.length; nonterminal++)
+        columns[nonterminal][state] = gotos[state][nonterminal];
+
+    defaultGotos = new int[nonterminalNames.length];
+    int[][] gotoColumns = new int[nonterminalNames.length][];
+    int[][] gotoValues = new int[nonterminalNames.length][];
+
+    for (int nonterminal = 0; nonterminal < nonterminalNames.length; nonterminal++) {
+      defaultGotos[nonterminal] = mostCommon(columns[nonterminal], -1);
+      int[][] entries = explicitEntries(columns[nonterminal], defaultGotos[nonterminal], NO_GOTO);
+      gotoColumns[nonterminal] = entries[0];
+      gotoValues[nonterminal] = entries[1];
+    }
+
+    packedActions = new CombVector(actionColumns, actionValues, terminalCount);
+    packedGotos = new CombVector(gotoColumns, gotoValues, stateCount);
+    actions = null;
+    gotos = null;
+    return this;
+  }
+
+  // the most frequent value of the row, only counting actions of the given kind
+  // or any value other than NO_GOTO when kind is -1
+  private static int mostCommon(int[] row, int kind) {
+    HashMap<Integer, Integer> counts = new HashMap<>();
+    int best = kind == -1 ? NO_GOTO : ERROR, bestCount = 0;
+
+    for (int value : row) {
+      if (kind == -1 ? value == NO_GOTO : kind(value) != kind)
+        continue;
+
+      int count = counts.merge(value, 1, Integer::sum);
+      if (count > bestCount) {
+        best = value;
+        bestCount = count;
+      }
+    }
+
+    return best;
+  }
+
+  // the columns and values of a row that are neither empty nor the default
+  private static int[][] explicitEntries(int[] row, int defaultValue, int empty) {
+    int count = 0;
+    for (int value : row)
+      if (value != empty && value != defaultValue)
+        count++;
+
+    int[][] entries = new int[2][count];
+    count = 0;
+    for (int column = 0; column < row.length; column++)
+      if (row[column] != empty && row[column] != defaultValue) {
+        entries[0][count] = column;
+        entries[1][count++] = row[column];
+      }
+
+    return entries;
+  }
+
+  /**
+   * Sparse rows packed into one vector: the entry of row r at column c lives at
+   * base[r] + c if check at that index is r
+   */
+  static class CombVector {
+    final int[] base;
+    int[] check;
+    int[] next;
+
+    CombVector(int[][] columns, int[][] values, int width) {
+      base = new int[columns.length];
+      check = new int[Math.max(width * 2, 16)];
+      next = new int[check.length];
+      Arrays.fill(check, -1);
+
+      // place the densest rows first since they are the hardest to fit
+      Integer[] order = new Integer[columns.length];
+      for (int i = 0; i < order.length; i++)
+        order[i] = i;
+      Arrays.sort(order, (a, b) -> columns[b].length - columns[a].length);
+
+      int size = width, firstFree = 0;
+      for (int row : order) {
+        if (columns[row].length == 0)
+          continue;
+
+        int offset = Math.max(0, firstFree - columns[row][0]);
+        search: while (true) {
+          for (int column : columns[row])
+            if (offset + column < check.length && check[offset + column] != -1) {
+              offset++;
+              continue search;
+            }
+          break;
+        }
+
+        if (offset + width > check.length) {
+          int length = Math.max(check.length * 2, offset + width);
+          int oldLength = check.length;
+          check = Arrays.copyOf(check, length);
+          next = Arrays.copyOf(next, length);
+          Arrays.fill(check, oldLength, length, -1);
+        }
+
+        base[row] = offset;
+        for (int i = 0; i < columns[row].length; i++) {
+          check[offset + columns[row][i]] = row;
+          next[offset + columns[row][i]] = values[row][i];
+        }
+
+        size = Math.max(size, offset + width);
+        while (firstFree < check.length && check[firstFree] != -1)
+          firstFree++;
+      }
+
+      check = Arrays.copyOf(check, size);
+      next = Arrays.copyOf(next, size);
+    }
+
+    int get(int row, int column, int fallback) {
+      int index = base[row] + column;
+      return check[index] == row ? next[index] : fallback;
+    }
+  }
+
+  /**
+   * Hash of every explicit action and goto, used to tell whether generated code
+   * was made from this table
+   */
+  public long fingerprint() {
+    long hash = stateCount;
+    for (int production = 0; production < productionLhs.length; production++)
+      hash = hash * 31 + productionLhs[production] * 1009 + productionLength[production];
+
+    for (int state = 0; state < stateCount; state++) {
+      for (int terminal : actionOrder[state])
+        hash = hash * 31 + terminal * 7919 + actionAt(state, terminal);
+      for (int nonterminal : gotoOrder[state])
+        hash = hash * 31 + nonterminal * 7919 + gotoAt(state, nonterminal);
+    }
+
+    return hash;
+  }
+
+  int getStateCount() {
+    return stateCount;
+  }
+
+  /**
+   * Number of ints held by the action and goto tables
+   */
+  public int getSize() {
+    if (actions != null)
+      return stateCount * (TokenType.values().length + nonterminalNames.length);
+
+    return packedActions.base.length + packedActions.check.length * 2 + defaultActions.length
+        + packedGotos.base.length + packedGotos.check.length * 2 + defaultGotos.length;
+  }
+
+  int action(int state, TokenType type) {
+    return actionAt(state, type.ordinal());
+  }
+
+  int actionAt(int state, int terminal) {
+    if (actions != null)
+      return actions[state][terminal];
+
+    return packedActions.get(state, terminal, defaultActions[state]);
+  }
+
+  /**
+   * Whether the state has its own action for the terminal, unlike action() this
+   * does not count default reductions, so error recovery can rely on it
+   */
+  boolean expects(int state, TokenType type) {
+    if (actions != null)
+      return actions[state][type.ordinal()] != ERROR;
+
+    for (int terminal : actionOrder[state])
+      if (terminal == type.ordinal())
+        return true;
+
+    return false;
+  }
+
+  int goTo(int state, int production) {
+    return gotoAt(state, productionLhs[production]);
+  }
+
+  int gotoAt(int state, int nonterminal) {
+    if (gotos != null)
+      return gotos[state][nonterminal];
+
+    return packedGotos.get(nonterminal, state, defaultGotos[nonterminal]);
+  }
+
+  static int kind(int action) {
+    return action & 3;
+  }
+
+  static int value(int action) {
+    return action >>> 2;
+  }
+}
@@ -1,249 +1,318 @@
 package parser;
 
+import java.io.PrintStream;
 import java.util.*;
 import lexer.*;
 import parser.DefaultProductions.DefaultProduction;
-import parser.LR1TableParser.LR1TableProcess;
-import parser.LR1TableParser.LR1TableProcessType;
 
 public class LR1Parser {
   // public static LR1Parser parser;
 
-  static class StateNode {
-    int stateIndex;
+  // marks a value stack slot that holds a token from the token buffer, the
+  // buffer index of the token is kept in the token stack
+  static final Object BUFFERED_TOKEN = new Object();
 
-    StateNode(int stateIndex) {
-      this.stateIndex = stateIndex;
-    }
+  // String input;
+  // String inputPath;
+  // RegexEngine lexer;
+  final LR1ParserContext context;
+  final LR1ParseTable table;
+  final ReductionTable.Reduction[] reducers;
 
-    public String toString() {
-      return String.format("State: %d", stateIndex);
-    }
+  public LR1Parser(
+      ArrayList<LR1GrammarParser.LR1GrammarProduction> productions,
+      ArrayList<LR1TableParser.LR1TableState> states) {
+    this(new LR1ParseTable(productions, states));
   }
 
-  static abstract class LR1StackSymbol {
+  public LR1Parser(LR1ParseTable table) {
+    this(new LR1ParserContext(table));
+  }
 
+  public LR1Parser(LR1ParserContext context) {
+    this.context = context;
+    this.table = context.table;
+    this.reducers = context.reducers;
   }
 
-  static class LR1StackToken extends LR1StackSymbol {
-    Token token;
+  // the states stack and the stack of shifted tokens and reduced nodes, the
+  // symbol that led to stateStack[i] is at valueStack[i]
+  int[] stateStack = new int[64];
+  Object[] valueStack = new Object[64];
+  int[] tokenStack = new int[64];
+  int depth = 0;
 
-    LR1StackToken(Token token) {
-      this.token = token;
-    }
+  // the tokens of the current parse, the stream also counts the scanner errors
+  TokenStream tokens;
+  TokenBuffer buffer;
+  ReductionTable.ReductionInput reductionInput = new ReductionTable.ReductionInput();
 
-    public String toString() {
-      return token.toString();
-    }
-  }
+  // where the last error recovery started, see sync
+  int lastRecoveryIndex = -1;
+  int[] lastRecoveryStates;
 
-  static class LR1StackInternalNode extends LR1StackSymbol {
-    Node node;
+  // the imports reduced by the current parse
+  ArrayList<StatementNode.Import> imports;
 
-    LR1StackInternalNode(Node node) {
-      this.node = node;
-    }
+  // where scanner errors are printed
+  PrintStream output = System.out;
 
-    public String toString() {
-      return node.toString();
+  public ParserResult parse(String input, String inputPath) {
+    return parse(new SourceFile(input, inputPath));
+  }
+
+  private void push(int state, Object value, int tokenIndex) {
+    if (depth == stateStack.length) {
+      stateStack = Arrays.copyOf(stateStack, depth * 2);
+      valueStack = Arrays.copyOf(valueStack, depth * 2);
+      tokenStack = Arrays.copyOf(tokenStack, depth * 2);
     }
+
+    stateStack[depth] = state;
+    valueStack[depth] = value;
+    tokenStack[depth] = tokenIndex;
+    depth++;
   }
 
-  // String input;
-  // String inputPath;
-  // RegexEngine lexer;
-  ArrayList<LR1GrammarParser.LR1GrammarProduction> productions;
-  ArrayList<LR1TableParser.LR1TableState> states;
-  HashMap<Integer, ReductionTable.Reduction> reducers = ReductionTable.generateReductions();
+  /**
+   * Parses the file and every file it imports
+   */
+  public ParserResult parse(SourceFile source) {
+    ParserResult result = parseFile(source);
+    if (!result.imports.isEmpty())
+      new ModuleLoader(context).load(source, result);
 
-  public LR1Parser(
-      ArrayList<LR1GrammarParser.LR1GrammarProduction> productions,
-      ArrayList<LR1TableParser.LR1TableState> states) {
-    this.productions = productions;
-    this.states = states;
+    return result;
   }
 
-  public LR1Parser fork() {
-    return new LR1Parser(this.productions, this.states);
+  /**
+   * Parses only the given file, reading it from the parse cache if possible
+   */
+  ParserResult parseFile(SourceFile source) {
+    ParseCache cache = context.cache;
+    if (cache == null)
+      return parseSource(source);
+
+    String key = cache.key(source);
+    ParseCache.Entry entry = cache.load(key);
+    if (entry != null)
+      return new ParserResult(entry.root, entry.errors, entry.imports);
+
+    ParserResult result = parseSource(source);
+
+    // scanner errors are printed while the file is parsed rather than returned,
+    // so a file with any is parsed every time to print them in the same place
+    if (tokens.getReportedErrorCount() == 0)
+      cache.store(key, new ParseCache.Entry(result.root, result.imports, result.errors));
+    return result;
   }
 
-  Stack<StateNode> statesStack = new Stack<>();
-  Stack<LR1StackSymbol> symbolsStack = new Stack<>();
+  private ParserResult parseSource(SourceFile source) {
+    TokenStream tokens = this.tokens = TokenStream.create(RegexEngine.createRegexEngine(source));
+    tokens.setOutput(output);
+    buffer = tokens.getBuffer();
+    imports = new ArrayList<>();
 
-  public ParserResult parse(String input, String inputPath) {
-    RegexEngine lexer = RegexEngine.createRegexEngine(input, inputPath);
-    
     // initialize the stacks, error list and the start state
     ArrayList<ParserException> exceptions = new ArrayList<>();
 
-    statesStack = new Stack<>();
-    symbolsStack = new Stack<>();
-    statesStack.push(new StateNode(0));
+    depth = 0;
+    push(0, null, -1);
+    lastRecoveryIndex = -1;
+    lastRecoveryStates = null;
 
     while (true) {
-      StateNode currentNode = statesStack.peek();
+      int currentState = stateStack[depth - 1];
 
-      Token token = lexer.peekNextToken();
-      LR1TableParser.LR1TableProcess action = states.get(currentNode.stateIndex).actions.get(token.type.toString());
+      // only the type of the lookahead is needed unless an error is reported
+      Token syncedToken = null;
+      TokenType tokenType = tokens.peekType();
+      int action = action(currentState, tokenType);
 
-      if (action == null) {
+      if (action == LR1ParseTable.ERROR) {
         try {
-          token = sync(inputPath, lexer, exceptions);
+          syncedToken = sync(source, tokens, exceptions);
         } catch (ParserEOFException e) {
-          return new ParserResult(null, exceptions);
+          return new ParserResult(null, exceptions, imports);
         }
 
-        token = token != null ? token : lexer.peekNextToken();
-        currentNode = statesStack.peek();
-        action = states.get(currentNode.stateIndex).actions.get(token.type.toString());
+        tokenType = syncedToken != null ? syncedToken.type : tokens.peekType();
+        currentState = stateStack[depth - 1];
+        action = action(currentState, tokenType);
       }
 
-      if (action.type == LR1TableParser.LR1TableProcessType.SHIFT) {
-        // add current token to the stack and push the next state
-        token = lexer.getNextToken();
-
-        statesStack.push(new StateNode(action.value));
-        symbolsStack.push(new LR1StackToken(token));
-      }
+      int actionKind = LR1ParseTable.kind(action);
+      int actionValue = LR1ParseTable.value(action);
 
-      else if (action.type == LR1TableParser.LR1TableProcessType.REDUCE) {
-        if (action.value == 0)
-          break;
+      if (actionKind == LR1ParseTable.ACCEPT)
+        break;
 
-        LR1GrammarParser.LR1GrammarProduction production = productions.get(action.value);
+      else if (actionKind == LR1ParseTable.SHIFT) {
+        // add current token to the stack and push the next state
+        push(actionValue, BUFFERED_TOKEN, tokens.nextIndex());
+      }
 
-        // pop the stack and reduce by this production
-        ArrayList<LR1StackSymbol> popped = new ArrayList<LR1StackSymbol>();
-        for (int i = 0; i < production.rhs.size(); i++) {
-          popped.add(symbolsStack.pop());
-          statesStack.pop();
-        }
+      else if (actionKind == LR1ParseTable.REDUCE) {
+        // the popped symbols stay in the value stack while the reducer reads them
+        int length = table.productionLength[actionValue];
+        depth -= length;
 
         // create the new node and add to symbols stack
-        ReductionTable.Reduction reduction = reducers.get(action.value);
+        ReductionTable.Reduction reduction = actionValue < reducers.length ? reducers[actionValue] : null;
         if (reduction == null)
-          crash("Was not able to find a reducer for production " + action.value, token);
+          crash("Was not able to find a reducer for production " + actionValue, lookahead(syncedToken, tokens));
 
-        Collections.reverse(popped); // reverse the order of items being popped
-        ReductionTable.ReductionInput reductionInput = new ReductionTable.ReductionInput(popped);
+        reductionInput.set(valueStack, tokenStack, buffer, depth, length);
 
         // try to perform the reduction
+        Node result = null;
         try {
-          Node result = reduction.reducer.run(reductionInput, fork());
-          LR1StackInternalNode node = new LR1StackInternalNode(result);
-          symbolsStack.add(node);
+          result = reduction.reducer.run(reductionInput, context);
         } catch (Exception e) {
-          crash("Error while performing reduction for production: " + action.value + ". Reduction input: "
-              + reductionInput.toString(), token, e);
+          crash("Error while performing reduction for production: " + actionValue + ". Reduction input: "
+              + reductionInput.toString(), lookahead(syncedToken, tokens), e);
         }
 
-        // get the top node and figure out what state to add to state stack
-        StateNode topNode = statesStack.peek();
-        LR1TableParser.LR1TableProcess gotoAction = states.get(topNode.stateIndex).gotos.get(production.lhs);
+        // unit productions hand the same import node up again
+        if (result instanceof StatementNode.Import && !imports.contains(result))
+          imports.add((StatementNode.Import) result);
+
+        // get the top state and figure out what state to add to state stack
+        int topState = stateStack[depth - 1];
+        int gotoState = goTo(topState, actionValue);
 
-        if (gotoAction == null)
-          crash("No goto action found for state: " + topNode.stateIndex + " and production: " + production.lhs
-              + ". Actions: Reduce by production " + action.value, token);
-        else if (gotoAction.type != LR1TableParser.LR1TableProcessType.GOTO)
-          crash("Expected GOTO action, received: " + gotoAction.type, token);
+        if (gotoState == LR1ParseTable.NO_GOTO)
+          crash("No goto action found for state: " + topState + " and production: "
+              + table.nonterminalNames[table.productionLhs[actionValue]] + ". Actions: Reduce by production " + actionValue,
+              lookahead(syncedToken, tokens));
 
-        statesStack.push(new StateNode(gotoAction.value));
+        push(gotoState, result, -1);
       }
+
+      else
+        crash("No action found for state: " + currentState + " and token: " + tokenType,
+            lookahead(syncedToken, tokens));
     }
 
-    LR1StackSymbol top = (LR1StackSymbol) symbolsStack.peek();
-    if (top instanceof LR1StackInternalNode)
-      return new ParserResult(((LR1StackInternalNode) top).node, exceptions);
+    Object top = valueStack[depth - 1];
+    if (top != BUFFERED_TOKEN && !(top instanceof Token))
+      return new ParserResult((Node) top, exceptions, imports);
+
+    return new ParserResult(null, exceptions, imports);
+  }
+
+  // the lookups done by the parse loop, GeneratedLR1Parser replaces them with
+  // code generated from the same table
+  int action(int state, TokenType type) {
+    return table.action(state, type);
+  }
+
+  int goTo(int state, int production) {
+    return table.goTo(state, production);
+  }
 
-    return new ParserResult(null, exceptions);
+  private Token lookahead(Token syncedToken, TokenStream tokens) {
+    return syncedToken != null ? syncedToken : tokens.peek();
   }
 
-  private boolean isSafe(RegexEngine lexer) {
-    Token currentToken = lexer.peekNextToken();
-    StateNode currentNode = statesStack.peek();
-    return states.get(currentNode.stateIndex).actions.containsKey(currentToken.type.toString());
+  private boolean isSafe(TokenStream tokens) {
+    return table.expects(stateStack[depth - 1], tokens.peekType());
   }
 
   // performs panic mode error handling and leaves the parser in a safe state
-  private Token sync(String inputPath, RegexEngine lexer, ArrayList<ParserException> exceptions)
+  private Token sync(SourceFile source, TokenStream tokens, ArrayList<ParserException> exceptions)
       throws ParserEOFException {
-    Token currentToken = lexer.peekNextToken();
-    StateNode currentNode = statesStack.peek();
+    // recovering from the same states at the same token as last time would
+    // repeat that recovery forever, so the token is dropped instead
+    int[] recoveryStates = Arrays.copyOf(stateStack, depth);
+
+    if (tokens.peekIndex(0) == lastRecoveryIndex && Arrays.equals(recoveryStates, lastRecoveryStates)) {
+      Token skippedToken = tokens.next();
+      if (skippedToken.type == TokenType.EOF) {
+        exceptions.add(new ParserException("Unexpected end of file", skippedToken));
+        throw new ParserEOFException();
+      }
+
+      exceptions.add(new ParserException(String.format("Skipped unexpected %s", skippedToken.type.toString()),
+          skippedToken));
+      if (isSafe(tokens))
+        return null;
+    }
+
+    lastRecoveryIndex = tokens.peekIndex(0);
+    lastRecoveryStates = recoveryStates;
+
+    Token currentToken = tokens.peek();
+    int currentState = stateStack[depth - 1];
 
     // check for extra semicolons
     if (currentToken.type == TokenType.SEMICOLON) {
-      while (lexer.peekNextToken().type == TokenType.SEMICOLON)
-        currentToken = lexer.getNextToken();
-      currentToken = lexer.peekNextToken();
+      while (tokens.peek().type == TokenType.SEMICOLON)
+        currentToken = tokens.next();
+      currentToken = tokens.peek();
 
-      if (isSafe(lexer))
+      if (isSafe(tokens))
         return null;
     }
 
     // check for lackng semicolons
-    HashMap<String, LR1TableProcess> expecteds = states.get(currentNode.stateIndex).actions;
-    if (expecteds.containsKey("SEMICOLON")) {
-      LR1TableProcess action = expecteds.get("SEMICOLON");
-      Token newToken = new Token(TokenType.SEMICOLON, ";", new ColumnAndRow(currentToken.line, currentToken.column),
-          inputPath);
-      if (action.type == LR1TableProcessType.REDUCE)
+    if (table.expects(currentState, TokenType.SEMICOLON)) {
+      int semicolonAction = table.action(currentState, TokenType.SEMICOLON);
+      Token newToken = new Token(TokenType.SEMICOLON, ";", source, currentToken.offset);
+      if (LR1ParseTable.kind(semicolonAction) != LR1ParseTable.SHIFT)
         return newToken;
 
-      symbolsStack.push(new LR1StackToken(
-          newToken));
-      statesStack.push(new StateNode(action.value));
+      push(LR1ParseTable.value(semicolonAction), newToken, -1);
       exceptions.add(new ParserException(String.format(
           "Expected SEMICOLON but received %s, SEMICOLON was automatically inserted.",
           currentToken.type.toString()), currentToken));
 
-      if (isSafe(lexer))
+      if (isSafe(tokens))
         return null;
     }
 
     HashMap<String, DefaultProduction> defaultProductions = DefaultProductions.createDefaultProductions();
 
     // create a user error message by determining the possible next tokens
-    String expectedString = String.join(", ", (String[]) expecteds.keySet().toArray(new String[0]));
+    TokenType[] terminals = TokenType.values();
+    int[] expecteds = table.actionOrder[currentState];
+    String[] expectedNames = new String[expecteds.length];
+    for (int i = 0; i < expecteds.length; i++)
+      expectedNames[i] = terminals[expecteds[i]].toString();
+    String expectedString = String.join(", ", expectedNames);
 
     String userErrorMessage = String.format("Expected one of the following tokens: %s but got %s",
         expectedString, currentToken.type.toString());
     exceptions.add(new ParserException(userErrorMessage, currentToken));
 
-    String productionToSkip = null;
+    int productionToSkip = -1;
 
     // keep popping the stack until the current node has atleast one transition to
     // another GOTO action that has a default production
-    outer: while (productionToSkip == null) {
-      HashMap<String, LR1TableProcess> currentStateGotos = states.get(currentNode.stateIndex).gotos;
-
-      if (currentStateGotos.size() != 0) {
-        for (String gotoName : currentStateGotos.keySet()) {
-          if (defaultProductions.containsKey(gotoName)) {
-            // If the current state has atleast one goto and one of those gotos has a
-            // default production, then set the action to that current variable and break
-            productionToSkip = gotoName;
-            break outer;
-          }
+    outer: while (productionToSkip == -1) {
+      for (int nonterminal : table.gotoOrder[currentState]) {
+        if (defaultProductions.containsKey(table.nonterminalNames[nonterminal])) {
+          // If the current state has atleast one goto and one of those gotos has a
+          // default production, then set the action to that current variable and break
+          productionToSkip = nonterminal;
+          break outer;
         }
       }
 
-      try {
-        statesStack.pop();
-        symbolsStack.pop();
-
-        currentNode = statesStack.peek();
-      } catch (Exception e) {
+      if (depth == 1) {
         exceptions.add(new ParserException("No more items in the stacks to pop", null));
+        throw new ParserEOFException();
       }
-    }
 
-    int nextState = states.get(currentNode.stateIndex).gotos.get(productionToSkip).value;
+      depth--;
+      currentState = stateStack[depth - 1];
+    }
 
-    // determine tokens that can appear the production using the states table
-    Set<String> actionFollowSet = states.get(nextState).actions.keySet();
+    int nextState = table.gotoAt(currentState, productionToSkip);
 
-    while (!actionFollowSet.contains(lexer.peekNextToken().type.toString())) {
-      Token nextToken = lexer.getNextToken();
+    // skip tokens until one that can appear after the production
+    while (!table.expects(nextState, tokens.peekType())) {
+      Token nextToken = tokens.next();
 
       if (nextToken.type == TokenType.EOF) {
         exceptions.add(new ParserException("Unexpected end of file", nextToken));
@@ -252,8 +321,7 @@ public class LR1Parser {
     }
 
     // instantiate and add to the symbols stack, add next state to states stack
-    symbolsStack.push(new LR1StackInternalNode(defaultProductions.get(productionToSkip).run()));
-    statesStack.push(new StateNode(nextState));
+    push(nextState, defaultProductions.get(table.nonterminalNames[productionToSkip]).run(), -1);
     return null;
   }
 
@@ -266,20 +334,32 @@ public class LR1Parser {
   }
 
   private void crash(String reason, Token currentToken, Exception e) {
-    StateNode currentNode = statesStack.peek();
+    String[] symbols = new String[depth - 1];
+    for (int i = 1; i < depth; i++)
+      symbols[i - 1] = String.valueOf(valueAt(i));
 
     System.out.println("\nCurrent Token: " + currentToken.toString());
     System.out.println("\nError: " + reason);
-    System.out.println("\nCurrent state: " + currentNode.stateIndex);
-    System.out.println("\nStates Stack: " + statesStack.toString());
-    System.out.println("\nSymbols Stack: " + symbolsStack.toString());
+    System.out.println("\nCurrent state: " + stateStack[depth - 1]);
+    System.out.println("\nStates Stack: " + Arrays.toString(Arrays.copyOf(stateStack, depth)));
+    System.out.println("\nSymbols Stack: [" + String.join(", ", symbols) + "]");
 
     throw new Error(e);
   }
+
+  // the token or node at a value stack slot
+  private Object valueAt(int index) {
+    return valueStack[index] == BUFFERED_TOKEN ? buffer.getToken(tokenStack[index]) : valueStack[index];
+  }
+
   public void printRegexTokens(String source, String path){
-    RegexEngine lexer = RegexEngine.createRegexEngine(source, path);
-    while(lexer.peekNextToken().type != TokenType.EOF){
-      System.out.println(lexer.getNextToken().toString());
+    printRegexTokens(new SourceFile(source, path));
+  }
+
+  public void printRegexTokens(SourceFile source){
+    TokenStream tokens = TokenStream.create(RegexEngine.createRegexEngine(source));
+    while(tokens.peek().type != TokenType.EOF){
+      System.out.println(tokens.next().toString());
     }
   }
 }
@@ -0,0 +1,47 @@
+package parser;
+
+/**
+ * The parts of a parser that never change between parses: the parse table and
+ * the reducer of every production. It is created once and shared by every
+ * LR1Parser, including the ones that load imported files on other threads.
+ */
+public class LR1ParserContext {
+  final LR1ParseTable table;
+  final ReductionTable.Reduction[] reducers;
+
+  // whether parsers use the code in GeneratedLR1Parser instead of the table
+  final boolean generated;
+
+  // where parsed trees are kept between runs, null to always parse
+  ParseCache cache;
+
+  public LR1ParserContext(LR1ParseTable table) {
+    this(table, false);
+  }
+
+  public LR1ParserContext(LR1ParseTable table, boolean generated) {
+    this.table = table;
+    this.reducers = ReductionTable.generateReductions(table.productionLength.length);
+    this.generated = generated;
+  }
+
+  public LR1ParserContext useCache(ParseCache cache) {
+    this.cache = cache;
+    return this;
+  }
+
+  /**
+   * Whether GeneratedLR1Parser was generated from this table
+   */
+  public static boolean hasGeneratedParser(LR1ParseTable table) {
+    return table.fingerprint() == GeneratedLR1Parser.FINGERPRINT;
+  }
+
+  /**
+   * Creates a parser with its own stacks, for parsing another file at the same
+   * time as the current one
+   */
+  public LR1Parser createParser() {
+    return generated ? new GeneratedLR1Parser(this) : new LR1Parser(this);
+  }
+}
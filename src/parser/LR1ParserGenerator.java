@@ -0,0 +1,156 @@
+package parser;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lexer.TokenType;
+import utils.FileLoader;
+
+/**
+ * Turns the parse table into the source of GeneratedLR1Parser, where every
+ * state's actions and every variable's gotos are a switch statement instead of
+ * a table row. The parse loop, the stacks, the reducers and the error recovery
+ * are inherited from LR1Parser, so both parsers behave the same.
+ *
+ * Run it with the path of the file to write after changing lr1_table.txt:
+ * java parser.LR1ParserGenerator parser/GeneratedLR1Parser.java
+ */
+public class LR1ParserGenerator {
+  public static void main(String[] args) throws IOException {
+    String outputPath = args.length > 0 ? args[0] : "parser/GeneratedLR1Parser.java";
+    LR1ParseTable table = LR1TableFile.load(FileLoader.resolve("grammar.txt"), FileLoader.resolve("lr1_table.txt"));
+
+    try (FileWriter writer = new FileWriter(new File(outputPath))) {
+      writer.write(generate(table));
+    }
+
+    System.out.println("Generated " + outputPath);
+  }
+
+  public static String generate(LR1ParseTable table) {
+    TokenType[] terminals = TokenType.values();
+    StringBuilder builder = new StringBuilder();
+
+    builder.append("package parser;\n\n");
+    builder.append("import lexer.TokenType;\n\n");
+    builder.append("// Generated by LR1ParserGenerator from lr1_table.txt, do not edit.\n");
+    builder.append("class GeneratedLR1Parser extends LR1Parser {\n");
+    builder.append(String.format("  static final long FINGERPRINT = %dL;\n\n", table.fingerprint()));
+    builder.append("  GeneratedLR1Parser(LR1ParserContext context) {\n");
+    builder.append("    super(context);\n");
+    builder.append("  }\n\n");
+    builder.append("  private static int shift(int state) {\n");
+    builder.append("    return state << 2 | LR1ParseTable.SHIFT;\n");
+    builder.append("  }\n\n");
+    builder.append("  private static int reduce(int production) {\n");
+    builder.append("    return production << 2 | LR1ParseTable.REDUCE;\n");
+    builder.append("  }\n\n");
+
+    // dispatch to the method of the state
+    builder.append("  int action(int state, TokenType type) {\n");
+    builder.append("    switch (state) {\n");
+    for (int state = 0; state < table.getStateCount(); state++)
+      builder.append(String.format("      case %d:\n        return state%d(type);\n", state, state));
+    builder.append("      default:\n        return LR1ParseTable.ERROR;\n");
+    builder.append("    }\n");
+    builder.append("  }\n\n");
+
+    // dispatch to the goto method of the variable on the left of the production
+    builder.append("  int goTo(int state, int production) {\n");
+    builder.append("    switch (production) {\n");
+    for (int nonterminal = 0; nonterminal < table.nonterminalNames.length; nonterminal++) {
+      builder.append("      ");
+      for (int production = 0; production < table.productionLhs.length; production++)
+        if (table.productionLhs[production] == nonterminal)
+          builder.append(String.format("case %d: ", production));
+      builder.append(String.format("\n        return goto%s(state);\n", methodName(table.nonterminalNames[nonterminal])));
+    }
+    builder.append("      default:\n        return LR1ParseTable.NO_GOTO;\n");
+    builder.append("    }\n");
+    builder.append("  }\n");
+
+    for (int state = 0; state < table.getStateCount(); state++) {
+      // terminals that lead to the same action share one case
+      LinkedHashMap<Integer, ArrayList<TokenType>> cases = new LinkedHashMap<>();
+      for (int terminal : table.actionOrder[state])
+        cases.computeIfAbsent(table.actionAt(state, terminal), action -> new ArrayList<>()).add(terminals[terminal]);
+
+      builder.append(String.format("\n  private static int state%d(TokenType type) {\n", state));
+      builder.append("    switch (type) {\n");
+      for (Map.Entry<Integer, ArrayList<TokenType>> entry : cases.entrySet()) {
+        appendLabels(builder, entry.getValue());
+        builder.append(String.format("        return %s;\n", actionCode(entry.getKey())));
+      }
+      builder.append("      default:\n        return LR1ParseTable.ERROR;\n");
+      builder.append("    }\n");
+      builder.append("  }\n");
+    }
+
+    for (int nonterminal = 0; nonterminal < table.nonterminalNames.length; nonterminal++) {
+      LinkedHashMap<Integer, ArrayList<Integer>> cases = new LinkedHashMap<>();
+      for (int state = 0; state < table.getStateCount(); state++) {
+        int target = table.gotoAt(state, nonterminal);
+        if (target != LR1ParseTable.NO_GOTO)
+          cases.computeIfAbsent(target, key -> new ArrayList<>()).add(state);
+      }
+
+      builder.append(String.format("\n  private static int goto%s(int state) {\n",
+          methodName(table.nonterminalNames[nonterminal])));
+      builder.append("    switch (state) {\n");
+      for (Map.Entry<Integer, ArrayList<Integer>> entry : cases.entrySet()) {
+        appendLabels(builder, entry.getValue());
+        builder.append(String.format("        return %d;\n", entry.getKey()));
+      }
+      builder.append("      default:\n        return LR1ParseTable.NO_GOTO;\n");
+      builder.append("    }\n");
+      builder.append("  }\n");
+    }
+
+    builder.append("}\n");
+    return builder.toString();
+  }
+
+  private static void appendLabels(StringBuilder builder, ArrayList<?> labels) {
+    builder.append("     ");
+    int lineLength = 5;
+    for (Object label : labels) {
+      String text = String.format(" case %s:", label);
+      if (lineLength + text.length() > 110) {
+        builder.append("\n     ");
+        lineLength = 5;
+      }
+
+      builder.append(text);
+      lineLength += text.length();
+    }
+    builder.append("\n");
+  }
+
+  private static String actionCode(int action) {
+    int value = LR1ParseTable.value(action);
+    switch (LR1ParseTable.kind(action)) {
+      case LR1ParseTable.SHIFT:
+        return String.format("shift(%d)", value);
+      case LR1ParseTable.REDUCE:
+        return String.format("reduce(%d)", value);
+      case LR1ParseTable.ACCEPT:
+        return "LR1ParseTable.ACCEPT";
+      default:
+        return "LR1ParseTable.ERROR";
+    }
+  }
+
+  // STATEMENT_LIST becomes StatementList
+  private static String methodName(String nonterminal) {
+    StringBuilder name = new StringBuilder();
+    for (String part : nonterminal.toLowerCase().split("_"))
+      if (!part.isEmpty())
+        name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+
+    return name.toString();
+  }
+}
@@ -0,0 +1,476 @@
+package parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lexer.TokenType;
+import parser.LR1GrammarParser.LR1GrammarProduction;
+import parser.LR1GrammarParser.LR1GrammarProduction.LR1GrammarProductionRHSSymbol;
+import parser.LR1GrammarParser.LR1GrammarProduction.LR1GrammarProductionRHSSymbolType;
+import parser.LR1TableParser.LR1TableProcess;
+import parser.LR1TableParser.LR1TableProcessType;
+
+/**
+ * Builds the parse table from the list of productions instead of reading the
+ * output of generator.ts. The canonical LR(1) item sets are built first and can
+ * optionally be merged into LALR(1) states by their cores.
+ *
+ * grammar.txt is not conflict free and conflicts are resolved like generator.ts
+ * does: a shift wins over a reduction, a reduction uses the first production
+ * with the same right side and between two reductions the last item wins.
+ *
+ * <ASSIGNABLE_TARGET_EXPRESSION> and <IDENTIFIER_STACK_EXPRESSION> share their
+ * productions, so an identifier chain is always reduced as an assignment target.
+ * The items that wait for the identifier stack are carried along as twin items,
+ * which reduce it as its <IDENTIFIER_STACK_EXPRESSION> on the tokens that
+ * cannot continue an assignment, like the rows added to lr1_table.txt by hand
+ * do. The lookaheads are exact, so EOF is not expected inside a block the way
+ * it is in the generator.ts table.
+ */
+public class LR1TableBuilder {
+  final ArrayList<LR1GrammarProduction> productions;
+
+  // every symbol of the grammar is an int, terminals are TokenType ordinals and
+  // nonterminals come after them
+  final int terminalCount = TokenType.values().length;
+  final HashMap<String, Integer> nonterminalIds = new HashMap<>();
+  final ArrayList<String> nonterminalNames = new ArrayList<>();
+
+  final int[] productionLhs;
+  final int[][] productionRhs;
+
+  // the productions of every nonterminal and the first item of every production
+  final ArrayList<ArrayList<Integer>> productionsOf = new ArrayList<>();
+  final int[] itemOffset;
+  final int itemCount;
+
+  // the first production with the same right side, which generator.ts reduces
+  // by, and for a variable with such productions the variable it is reduced as
+  final int[] sameRhs;
+  final int[] reducedAs;
+
+  boolean[] nullable;
+  BitSet[] first;
+
+  final ArrayList<String> conflicts = new ArrayList<>();
+
+  public LR1TableBuilder(ArrayList<LR1GrammarProduction> productions) {
+    this.productions = productions;
+
+    for (LR1GrammarProduction production : productions)
+      if (!nonterminalIds.containsKey(production.lhs)) {
+        nonterminalIds.put(production.lhs, nonterminalNames.size());
+        nonterminalNames.add(production.lhs);
+        productionsOf.add(new ArrayList<>());
+      }
+
+    productionLhs = new int[productions.size()];
+    productionRhs = new int[productions.size()][];
+    itemOffset = new int[productions.size() + 1];
+
+    for (int i = 0; i < productions.size(); i++) {
+      LR1GrammarProduction production = productions.get(i);
+      productionLhs[i] = nonterminalIds.get(production.lhs);
+      productionsOf.get(productionLhs[i]).add(i);
+
+      productionRhs[i] = new int[production.rhs.size()];
+      for (int j = 0; j < production.rhs.size(); j++)
+        productionRhs[i][j] = symbolOf(production.rhs.get(j));
+
+      itemOffset[i + 1] = itemOffset[i] + productionRhs[i].length + 1;
+    }
+    itemCount = itemOffset[productions.size()];
+
+    sameRhs = new int[productions.size()];
+    reducedAs = new int[nonterminalNames.size()];
+    Arrays.fill(reducedAs, -1);
+    for (int i = 0; i < productions.size(); i++) {
+      sameRhs[i] = i;
+      for (int j = 0; j < i; j++)
+        if (Arrays.equals(productionRhs[j], productionRhs[i])) {
+          sameRhs[i] = j;
+          if (productionLhs[j] != productionLhs[i])
+            reducedAs[productionLhs[i]] = productionLhs[j];
+          break;
+        }
+    }
+
+    computeFirstSets();
+  }
+
+  private int symbolOf(LR1GrammarProductionRHSSymbol symbol) {
+    if (symbol.type == LR1GrammarProductionRHSSymbolType.TERMINAL)
+      return TokenType.valueOf(symbol.lexeme).ordinal();
+
+    Integer id = nonterminalIds.get(symbol.lexeme);
+    if (id == null)
+      throw new RuntimeException("Variable without productions: " + symbol.lexeme);
+
+    return terminalCount + id;
+  }
+
+  private boolean isTerminal(int symbol) {
+    return symbol < terminalCount;
+  }
+
+  private void computeFirstSets() {
+    nullable = new boolean[nonterminalNames.size()];
+    first = new BitSet[nonterminalNames.size()];
+    for (int i = 0; i < first.length; i++)
+      first[i] = new BitSet(terminalCount);
+
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+
+      for (int p = 0; p < productionRhs.length; p++) {
+        int lhs = productionLhs[p];
+        BitSet before = (BitSet) first[lhs].clone();
+
+        boolean rhsNullable = addFirst(productionRhs[p], 0, first[lhs]);
+        if (rhsNullable && !nullable[lhs]) {
+          nullable[lhs] = true;
+          changed = true;
+        }
+
+        if (!before.equals(first[lhs]))
+          changed = true;
+      }
+    }
+  }
+
+  // adds FIRST(symbols[from..]) to the set and returns whether they are nullable
+  private boolean addFirst(int[] symbols, int from, BitSet set) {
+    for (int i = from; i < symbols.length; i++) {
+      int symbol = symbols[i];
+      if (isTerminal(symbol)) {
+        set.set(symbol);
+        return false;
+      }
+
+      set.or(first[symbol - terminalCount]);
+      if (!nullable[symbol - terminalCount])
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * An item set, the items are kept in a map from the item number (production
+   * offset + dot position) to its lookaheads, kernel items first. Twin items
+   * are numbered after the real ones, see isTwin.
+   */
+  static class ItemSet {
+    final int[] kernel;
+    final BitSet[] kernelLookaheads;
+    final LinkedHashMap<Integer, BitSet> items = new LinkedHashMap<>();
+    final LinkedHashMap<Integer, Integer> transitions = new LinkedHashMap<>();
+
+    ItemSet(int[] kernel, BitSet[] kernelLookaheads) {
+      this.kernel = kernel;
+      this.kernelLookaheads = kernelLookaheads;
+    }
+  }
+
+  // identity of a canonical state: its kernel items, in increasing order, and
+  // their lookaheads
+  static class Kernel {
+    final int[] items;
+    final BitSet[] lookaheads;
+
+    Kernel(int[] kernel, BitSet[] kernelLookaheads) {
+      Integer[] order = new Integer[kernel.length];
+      for (int i = 0; i < order.length; i++)
+        order[i] = i;
+      Arrays.sort(order, Comparator.comparingInt(i -> kernel[i]));
+
+      items = new int[kernel.length];
+      lookaheads = new BitSet[kernel.length];
+      for (int i = 0; i < order.length; i++) {
+        items[i] = kernel[order[i]];
+        lookaheads[i] = kernelLookaheads[order[i]];
+      }
+    }
+
+    public boolean equals(Object other) {
+      if (!(other instanceof Kernel))
+        return false;
+
+      Kernel kernel = (Kernel) other;
+      return Arrays.equals(items, kernel.items) && Arrays.equals(lookaheads, kernel.lookaheads);
+    }
+
+    public int hashCode() {
+      return 31 * Arrays.hashCode(items) + Arrays.hashCode(lookaheads);
+    }
+  }
+
+  // a twin item is an item of a variable that is reduced as another one, carried
+  // over what was pushed for it instead, e.g. <IDENTIFIER_STACK_EXPRESSION> :
+  // <IDENTIFIER_STACK_EXPRESSION> [DOT] . [IDENTIFIER] after
+  // <ASSIGNABLE_TARGET_EXPRESSION> [DOT]
+  private boolean isTwin(int item) {
+    return item >= itemCount;
+  }
+
+  private int productionOf(int item) {
+    int index = Arrays.binarySearch(itemOffset, item % itemCount);
+    return index >= 0 ? index : -index - 2;
+  }
+
+  private int dotOf(int item, int production) {
+    return item % itemCount - itemOffset[production];
+  }
+
+  private void closure(ItemSet set) {
+    for (int i = 0; i < set.kernel.length; i++)
+      set.items.put(set.kernel[i], (BitSet) set.kernelLookaheads[i].clone());
+
+    ArrayDeque<Integer> queue = new ArrayDeque<>(set.items.keySet());
+    while (!queue.isEmpty()) {
+      int item = queue.poll();
+      int production = productionOf(item);
+      int dot = dotOf(item, production);
+      int[] rhs = productionRhs[production];
+
+      // twin items expand to the same items as the real ones they are carried with
+      if (isTwin(item) || dot == rhs.length || isTerminal(rhs[dot]))
+        continue;
+
+      // the lookaheads of the new items are FIRST of whatever follows the variable
+      BitSet lookaheads = new BitSet(terminalCount);
+      if (addFirst(rhs, dot + 1, lookaheads))
+        lookaheads.or(set.items.get(item));
+
+      for (int next : productionsOf.get(rhs[dot] - terminalCount)) {
+        int nextItem = itemOffset[next];
+        BitSet existing = set.items.get(nextItem);
+
+        if (existing == null) {
+          set.items.put(nextItem, (BitSet) lookaheads.clone());
+          queue.add(nextItem);
+        } else {
+          BitSet merged = (BitSet) existing.clone();
+          merged.or(lookaheads);
+          if (!merged.equals(existing)) {
+            existing.or(lookaheads);
+            queue.add(nextItem);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Builds the canonical collection of LR(1) item sets
+   */
+  ArrayList<ItemSet> buildItemSets() {
+    ArrayList<ItemSet> sets = new ArrayList<>();
+    HashMap<Kernel, Integer> known = new HashMap<>();
+
+    BitSet eof = new BitSet(terminalCount);
+    eof.set(TokenType.EOF.ordinal());
+    ItemSet start = new ItemSet(new int[] { itemOffset[0] }, new BitSet[] { eof });
+    closure(start);
+    sets.add(start);
+    known.put(new Kernel(start.kernel, start.kernelLookaheads), 0);
+
+    for (int current = 0; current < sets.size(); current++) {
+      ItemSet set = sets.get(current);
+
+      // group the items that can move their dot over the same symbol
+      LinkedHashMap<Integer, LinkedHashMap<Integer, BitSet>> moves = new LinkedHashMap<>();
+      for (Map.Entry<Integer, BitSet> entry : set.items.entrySet()) {
+        int item = entry.getKey();
+        int production = productionOf(item);
+        int dot = dotOf(item, production);
+        if (isTwin(item) || dot == productionRhs[production].length)
+          continue;
+
+        moves.computeIfAbsent(productionRhs[production][dot], symbol -> new LinkedHashMap<>())
+            .put(item + 1, entry.getValue());
+      }
+
+      // the items waiting for a variable that is reduced as another one move over
+      // that one as twin items, which then move along with the real items
+      for (Map.Entry<Integer, BitSet> entry : set.items.entrySet()) {
+        int item = entry.getKey();
+        int production = productionOf(item);
+        int dot = dotOf(item, production);
+        if (dot == productionRhs[production].length)
+          continue;
+
+        int symbol = productionRhs[production][dot];
+        LinkedHashMap<Integer, BitSet> move;
+        if (isTwin(item))
+          move = moves.get(symbol);
+        else if (!isTerminal(symbol) && reducedAs[symbol - terminalCount] >= 0)
+          move = moves.get(terminalCount + reducedAs[symbol - terminalCount]);
+        else
+          continue;
+
+        if (move != null)
+          move.put(isTwin(item) ? item + 1 : itemCount + item + 1, entry.getValue());
+      }
+
+      for (Map.Entry<Integer, LinkedHashMap<Integer, BitSet>> move : moves.entrySet()) {
+        int[] kernel = move.getValue().keySet().stream().mapToInt(Integer::intValue).toArray();
+        BitSet[] lookaheads = new BitSet[kernel.length];
+        for (int i = 0; i < kernel.length; i++)
+          lookaheads[i] = (BitSet) move.getValue().get(kernel[i]).clone();
+
+        Kernel key = new Kernel(kernel, lookaheads);
+        Integer target = known.get(key);
+        if (target == null) {
+          ItemSet next = new ItemSet(kernel, lookaheads);
+          closure(next);
+
+          target = sets.size();
+          sets.add(next);
+          known.put(key, target);
+        }
+
+        set.transitions.put(move.getKey(), target);
+      }
+    }
+
+    return sets;
+  }
+
+  /**
+   * Merges the canonical states that share the same items, ignoring lookaheads
+   */
+  ArrayList<ItemSet> mergeCores(ArrayList<ItemSet> canonical) {
+    ArrayList<ItemSet> merged = new ArrayList<>();
+    HashMap<String, Integer> cores = new HashMap<>();
+    int[] mergedIndex = new int[canonical.size()];
+
+    for (int i = 0; i < canonical.size(); i++) {
+      ItemSet set = canonical.get(i);
+      String core = Arrays.toString(Arrays.stream(set.kernel).sorted().toArray());
+
+      Integer index = cores.get(core);
+      if (index == null) {
+        ItemSet copy = new ItemSet(set.kernel, null);
+        for (Map.Entry<Integer, BitSet> entry : set.items.entrySet())
+          copy.items.put(entry.getKey(), (BitSet) entry.getValue().clone());
+
+        index = merged.size();
+        merged.add(copy);
+        cores.put(core, index);
+      } else {
+        ItemSet target = merged.get(index);
+        for (Map.Entry<Integer, BitSet> entry : set.items.entrySet())
+          target.items.get(entry.getKey()).or(entry.getValue());
+      }
+
+      mergedIndex[i] = index;
+    }
+
+    for (int i = 0; i < canonical.size(); i++)
+      for (Map.Entry<Integer, Integer> transition : canonical.get(i).transitions.entrySet())
+        merged.get(mergedIndex[i]).transitions.put(transition.getKey(), mergedIndex[transition.getValue()]);
+
+    return merged;
+  }
+
+  /**
+   * Creates the states in the same form that LR1TableParser reads from
+   * lr1_table.txt
+   */
+  public ArrayList<LR1TableParser.LR1TableState> build(boolean lalr) {
+    conflicts.clear();
+    ArrayList<ItemSet> sets = buildItemSets();
+    if (lalr)
+      sets = mergeCores(sets);
+
+    TokenType[] terminals = TokenType.values();
+    ArrayList<LR1TableParser.LR1TableState> states = new ArrayList<>();
+
+    for (int state = 0; state < sets.size(); state++) {
+      ItemSet set = sets.get(state);
+      LR1TableParser.LR1TableState tableState = new LR1TableParser.LR1TableState();
+
+      // the actions keep the position they were first written at, like in
+      // generator.ts, which is the order error recovery lists expected tokens in
+      LinkedHashMap<Integer, LR1TableProcess> row = new LinkedHashMap<>();
+
+      for (Map.Entry<Integer, BitSet> entry : set.items.entrySet()) {
+        int item = entry.getKey();
+        int production = productionOf(item);
+        if (isTwin(item) || dotOf(item, production) != productionRhs[production].length)
+          continue;
+
+        // reduce by the first production with the same right side if its item is here too
+        int reduction = sameRhs[production];
+        if (!set.items.containsKey(itemOffset[reduction + 1] - 1))
+          reduction = production;
+
+        BitSet lookaheads = entry.getValue();
+        for (int t = lookaheads.nextSetBit(0); t >= 0; t = lookaheads.nextSetBit(t + 1)) {
+          LR1TableProcess existing = row.get(t);
+          if (existing != null && existing.value != reduction)
+            conflicts.add(String.format("reduce/reduce conflict in state %d on %s between productions %d and %d",
+                state, terminals[t], existing.value, reduction));
+
+          row.put(t, new LR1TableProcess(LR1TableProcessType.REDUCE, reduction));
+        }
+      }
+
+      for (Map.Entry<Integer, Integer> transition : set.transitions.entrySet()) {
+        int symbol = transition.getKey();
+        if (isTerminal(symbol)) {
+          if (row.containsKey(symbol))
+            conflicts.add(String.format("shift/reduce conflict in state %d on %s with production %d", state,
+                terminals[symbol], row.get(symbol).value));
+
+          row.put(symbol, new LR1TableProcess(LR1TableProcessType.SHIFT, transition.getValue()));
+        } else {
+          tableState.gotos.put(nonterminalNames.get(symbol - terminalCount),
+              new LR1TableProcess(LR1TableProcessType.GOTO, transition.getValue()));
+        }
+      }
+
+      // a twin item only reduces on the tokens nothing else is done for
+      for (Map.Entry<Integer, BitSet> entry : set.items.entrySet()) {
+        int item = entry.getKey();
+        int production = productionOf(item);
+        if (!isTwin(item) || dotOf(item, production) != productionRhs[production].length)
+          continue;
+
+        BitSet lookaheads = entry.getValue();
+        for (int t = lookaheads.nextSetBit(0); t >= 0; t = lookaheads.nextSetBit(t + 1))
+          row.putIfAbsent(t, new LR1TableProcess(LR1TableProcessType.REDUCE, production));
+      }
+
+      for (Map.Entry<Integer, LR1TableProcess> action : row.entrySet())
+        tableState.actions.put(terminals[action.getKey()].name(), action.getValue());
+
+      states.add(tableState);
+    }
+
+    return states;
+  }
+
+
+  /**
+   * Builds the states and compresses them into the table used by the parser
+   */
+  public LR1ParseTable buildTable(boolean lalr) {
+    return new LR1ParseTable(productions, build(lalr)).compress();
+  }
+
+  /**
+   * The conflicts that were resolved during the last build
+   */
+  public ArrayList<String> getConflicts() {
+    return conflicts;
+  }
+}
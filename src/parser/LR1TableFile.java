@@ -0,0 +1,225 @@
+package parser;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+import lexer.SourceFile;
+import lexer.TokenType;
+
+/**
+ * Binary form of the parse table. It is compiled once from grammar.txt and
+ * lr1_table.txt and memory mapped on later runs, so startup does not have to
+ * lex and parse both text files again. Tables built from grammar.txt alone
+ * are kept the same way, so they are only built once.
+ *
+ * Layout (big endian): magic, version, checksum of grammar.txt, checksum of
+ * lr1_table.txt, the TokenType names the terminal ids were taken from, the
+ * nonterminal names, the lhs and length of every production, then a sparse
+ * action row and goto row for every state.
+ */
+public class LR1TableFile {
+  static final int MAGIC = 0x4C4F4C54; // "LOLT"
+  static final int VERSION = 1;
+
+  // a table built by LR1TableBuilder has no lr1_table.txt, this takes the place
+  // of its checksum
+  static final long LR1_BUILD = 1;
+  static final long LALR_BUILD = 2;
+
+  /**
+   * Loads the table from the binary file next to the text table, recompiling it
+   * when it is missing or was built from different sources
+   */
+  public static LR1ParseTable load(File grammarFile, File tableFile) throws IOException {
+    long grammarChecksum = checksum(grammarFile);
+    long tableChecksum = checksum(tableFile);
+    File binaryFile = new File(tableFile.getAbsoluteFile().getParentFile(), "lr1_table.bin");
+
+    LR1ParseTable table = read(binaryFile, grammarChecksum, tableChecksum);
+    if (table != null)
+      return table;
+
+    ArrayList<LR1GrammarParser.LR1GrammarProduction> productions = new LR1GrammarParser(
+        SourceFile.load(grammarFile).text.toString()).parse();
+    ArrayList<LR1TableParser.LR1TableState> states = new LR1TableParser(
+        SourceFile.load(tableFile).text.toString()).parse();
+    table = new LR1ParseTable(productions, states);
+
+    try {
+      write(binaryFile, table, grammarChecksum, tableChecksum);
+    } catch (IOException e) {
+      // the compiled table is only a cache, the text table can always be used
+    }
+
+    return table;
+  }
+
+  /**
+   * Loads the table that LR1TableBuilder builds from the grammar, building it
+   * and writing it next to the grammar when it is missing or out of date. A
+   * table that is read back is compressed again, which gives the same table
+   * since compression only depends on the explicit entries.
+   */
+  public static LR1ParseTable loadBuilt(File grammarFile, boolean lalr) throws IOException {
+    long grammarChecksum = checksum(grammarFile);
+    long build = lalr ? LALR_BUILD : LR1_BUILD;
+    File binaryFile = new File(grammarFile.getAbsoluteFile().getParentFile(),
+        lalr ? "lalr_built_table.bin" : "lr1_built_table.bin");
+
+    LR1ParseTable table = read(binaryFile, grammarChecksum, build);
+    if (table != null)
+      return table.compress();
+
+    LR1TableBuilder builder = new LR1TableBuilder(
+        new LR1GrammarParser(SourceFile.load(grammarFile).text.toString()).parse());
+    table = builder.buildTable(lalr);
+    if (builder.getConflicts().size() > 0)
+      System.err.println(String.format("Resolved %d conflicts while building the parse table",
+          builder.getConflicts().size()));
+
+    try {
+      write(binaryFile, table, grammarChecksum, build);
+    } catch (IOException e) {
+      // the built table is only a cache, it can always be built again
+    }
+
+    return table;
+  }
+
+  static long checksum(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      CRC32 crc = new CRC32();
+      crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+      return crc.getValue();
+    }
+  }
+
+  /**
+   * Returns null if the file does not exist or does not match the sources
+   */
+  static LR1ParseTable read(File file, long grammarChecksum, long tableChecksum) {
+    if (!file.isFile())
+      return null;
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+        return null;
+      if (buffer.getLong() != grammarChecksum || buffer.getLong() != tableChecksum)
+        return null;
+
+      // terminal ids are TokenType ordinals, so the enum must not have changed
+      TokenType[] terminals = TokenType.values();
+      if (buffer.getInt() != terminals.length)
+        return null;
+      for (TokenType terminal : terminals)
+        if (!terminal.name().equals(readString(buffer)))
+          return null;
+
+      String[] nonterminalNames = new String[buffer.getInt()];
+      for (int i = 0; i < nonterminalNames.length; i++)
+        nonterminalNames[i] = readString(buffer);
+
+      int productionCount = buffer.getInt();
+      int[] productionLhs = new int[productionCount];
+      int[] productionLength = new int[productionCount];
+      for (int i = 0; i < productionCount; i++) {
+        productionLhs[i] = buffer.getInt();
+        productionLength[i] = buffer.getInt();
+      }
+
+      int stateCount = buffer.getInt();
+      int[][] actionOrder = new int[stateCount][];
+      int[][] actionValues = new int[stateCount][];
+      int[][] gotoOrder = new int[stateCount][];
+      int[][] gotoValues = new int[stateCount][];
+
+      for (int state = 0; state < stateCount; state++) {
+        int actionCount = buffer.getInt();
+        actionOrder[state] = new int[actionCount];
+        actionValues[state] = new int[actionCount];
+        for (int i = 0; i < actionCount; i++) {
+          actionOrder[state][i] = buffer.getInt();
+          actionValues[state][i] = buffer.getInt();
+        }
+
+        int gotoCount = buffer.getInt();
+        gotoOrder[state] = new int[gotoCount];
+        gotoValues[state] = new int[gotoCount];
+        for (int i = 0; i < gotoCount; i++) {
+          gotoOrder[state][i] = buffer.getInt();
+          gotoValues[state][i] = buffer.getInt();
+        }
+      }
+
+      return new LR1ParseTable(productionLhs, productionLength, nonterminalNames, actionOrder, actionValues,
+          gotoOrder, gotoValues);
+    } catch (IOException | RuntimeException e) {
+      // a truncated or corrupted file is treated like a missing one
+      return null;
+    }
+  }
+
+  static void write(File file, LR1ParseTable table, long grammarChecksum, long tableChecksum)
+      throws IOException {
+    try (DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(file)))) {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeLong(grammarChecksum);
+      output.writeLong(tableChecksum);
+
+      TokenType[] terminals = TokenType.values();
+      output.writeInt(terminals.length);
+      for (TokenType terminal : terminals)
+        writeString(output, terminal.name());
+
+      output.writeInt(table.nonterminalNames.length);
+      for (String name : table.nonterminalNames)
+        writeString(output, name);
+
+      output.writeInt(table.productionLhs.length);
+      for (int i = 0; i < table.productionLhs.length; i++) {
+        output.writeInt(table.productionLhs[i]);
+        output.writeInt(table.productionLength[i]);
+      }
+
+      output.writeInt(table.getStateCount());
+      for (int state = 0; state < table.getStateCount(); state++) {
+        output.writeInt(table.actionOrder[state].length);
+        for (int terminal : table.actionOrder[state]) {
+          output.writeInt(terminal);
+          output.writeInt(table.actionAt(state, terminal));
+        }
+
+        output.writeInt(table.gotoOrder[state].length);
+        for (int nonterminal : table.gotoOrder[state]) {
+          output.writeInt(nonterminal);
+          output.writeInt(table.gotoAt(state, nonterminal));
+        }
+      }
+    }
+  }
+
+  private static String readString(MappedByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getShort()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeShort(bytes.length);
+    output.write(bytes);
+  }
+}
@@ -0,0 +1,161 @@
+package parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import lexer.SourceFile;
+import utils.ErrorWindowBuilder;
+
+/**
+ * Loads the files reachable through the imports of a parsed file. The import
+ * graph is walked breadth first, every file is parsed once per canonical path
+ * on the common pool, and files are parsed while the imports of earlier ones
+ * are still being looked at. Once the graph is complete the trees are handed
+ * to the Import nodes, so every import of a file shares the same tree.
+ *
+ * Errors are printed in a fixed order no matter which parse finished first:
+ * the files a file imports come before the file itself, and the errors of an
+ * import statement (a missing file or an import that closes a cycle) come at
+ * the point of that statement. Imports that close a cycle are left without a
+ * tree.
+ */
+class ModuleLoader {
+  static final int UNVISITED = 0;
+  static final int VISITING = 1;
+  static final int VISITED = 2;
+
+  static class Module {
+    // the path the file was first imported through, used by its tokens
+    final File file;
+    ForkJoinTask<ParserResult> task;
+    ParserResult result;
+
+    // scanner errors, they are printed with the rest of the errors of the file
+    String output = "";
+
+    // the module of every import statement, null if the file does not exist
+    Module[] targets;
+    int state = UNVISITED;
+
+    Module(File file) {
+      this.file = file;
+    }
+  }
+
+  final LR1ParserContext context;
+  final HashMap<File, Module> modules = new HashMap<>();
+
+  ModuleLoader(LR1ParserContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Loads every file imported by the parsed source and sets the trees of its
+   * Import nodes
+   */
+  void load(SourceFile source, ParserResult result) {
+    Module root = new Module(new File(source.path));
+    root.result = result;
+    modules.put(canonical(root.file), root);
+
+    ArrayDeque<Module> pending = new ArrayDeque<>();
+    pending.add(root);
+
+    while (!pending.isEmpty()) {
+      Module module = pending.remove();
+      if (module.task != null)
+        module.result = module.task.join();
+      if (module.result == null)
+        continue;
+
+      ArrayList<StatementNode.Import> imports = module.result.imports;
+      module.targets = new Module[imports.size()];
+
+      for (int i = 0; i < imports.size(); i++) {
+        File file = imports.get(i).getFile();
+        if (!file.exists())
+          continue;
+
+        Module target = modules.get(canonical(file));
+        if (target == null) {
+          Module created = target = new Module(file);
+          target.task = ForkJoinPool.commonPool().submit(() -> parse(created));
+          modules.put(canonical(file), target);
+          pending.add(target);
+        }
+
+        module.targets[i] = target;
+      }
+    }
+
+    resolve(root);
+  }
+
+  private ParserResult parse(Module module) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    LR1Parser parser = context.createParser();
+    parser.output = new PrintStream(output, true);
+
+    try {
+      return parser.parseFile(SourceFile.load(module.file));
+    } catch (IOException e) {
+      return null;
+    } finally {
+      module.output = output.toString();
+    }
+  }
+
+  // depth first over the import graph, the errors of a module are printed once
+  // all of its imports have been resolved
+  private void resolve(Module module) {
+    module.state = VISITING;
+
+    if (module.result != null) {
+      ArrayList<StatementNode.Import> imports = module.result.imports;
+      for (int i = 0; i < imports.size(); i++) {
+        StatementNode.Import statement = imports.get(i);
+        Module target = module.targets[i];
+
+        if (target == null) {
+          ErrorWindowBuilder.printErrors(new ParserException(
+              String.format("Cannot find file \"%s\"", statement.getFile().getPath()), statement.token));
+          continue;
+        }
+
+        if (target.state == VISITING) {
+          ErrorWindowBuilder.printErrors(new ParserException(
+              String.format("Cyclic import of \"%s\"", target.file.getPath()), statement.token));
+          continue;
+        }
+
+        if (target.state == UNVISITED)
+          resolve(target);
+        statement.root = target.result != null ? target.result.root : null;
+      }
+    }
+
+    module.state = VISITED;
+
+    // the errors of the file that started the load are left to the caller
+    if (module.task != null) {
+      System.out.print(module.output);
+      if (module.result != null)
+        ErrorWindowBuilder.printErrors(module.result.errors);
+    }
+  }
+
+  static File canonical(File file) {
+    try {
+      return file.getCanonicalFile();
+    } catch (IOException e) {
+      return file.getAbsoluteFile();
+    }
+  }
+}
@@ -7,6 +7,7 @@ import interpreter.ExecutionContext;
 import interpreter.LoLangValue;
 import lexer.Token;
 import utils.DOTGenerator;
+import utils.Environment;
 import utils.EnvironmentException;
 
 public abstract class Node {
@@ -14,6 +15,10 @@ public abstract class Node {
 
   abstract public void toDot(DOTGenerator builder);
 
+  // writes the fields that the static read method of the class reads back,
+  // for the parse cache
+  abstract void write(NodeSerializer.Writer writer);
+
   public static class StatementList extends Node {
     public final ArrayList<StatementNode> statements;
 
@@ -30,6 +35,14 @@ public abstract class Node {
       this.statements = new ArrayList<>();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.statements);
+    }
+
+    static StatementList read(NodeSerializer.Reader reader) {
+      return new StatementList(reader.readList());
+    }
+
     public StatementList add(StatementNode statement) {
       this.statements.add(statement);
       return this;
@@ -53,11 +66,28 @@ public abstract class Node {
     public final Token identifier;
     TypeExpressionNode type;
 
+    transient Resolver.Binding binding = null;
+
     VariableDeclarationHeader(Token identifier, TypeExpressionNode type) {
       this.identifier = identifier;
       this.type = type;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.identifier);
+      writer.writeNode(this.type);
+    }
+
+    static VariableDeclarationHeader read(NodeSerializer.Reader reader) {
+      return new VariableDeclarationHeader(reader.readToken(), reader.readNode());
+    }
+
+    // defines the parameter in the context of a call
+    public void addToContext(ExecutionContext context, LoLangValue value)
+        throws EnvironmentException.EnvironmentAlreadyDeclaredException {
+      Resolver.define(context.environment, this.binding, this.identifier.symbol, value, true);
+    }
+
     public String toString() {
       return String.format("[VariableDeclarationHeader: %s %s]", this.identifier.lexeme, this.type.toString());
     }
@@ -75,6 +105,8 @@ public abstract class Node {
     public final Token equalsToken;
     public final ExpressionNode expression;
 
+    transient Resolver.Binding binding = null;
+
     VariableDeclaration(Token identifier, TypeExpressionNode type) {
       this.identifier = identifier;
       this.type = type;
@@ -89,20 +121,34 @@ public abstract class Node {
       this.expression = expression;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.identifier);
+      writer.writeNode(this.type);
+      writer.writeNode(this.expression);
+      writer.writeToken(this.equalsToken);
+    }
+
+    static VariableDeclaration read(NodeSerializer.Reader reader) {
+      return new VariableDeclaration(reader.readToken(), reader.readNode(), reader.readNode(), reader.readToken());
+    }
+
     void addToContext(ExecutionContext context, ExecutionContext dynamicContext)
         throws EnvironmentException.EnvironmentAlreadyDeclaredException {
       if (this.expression != null) {
-        context.environment.define(this.identifier.lexeme, this.expression.evaluate(context, dynamicContext), false);
+        Resolver.define(context.environment, this.binding, this.identifier.symbol,
+            this.expression.evaluate(context, dynamicContext), false);
         return;
       }
 
-      LoLangValue defaultValue = this.type.toDefaultValue();
-      if (defaultValue != null) {
-        context.environment.define(this.identifier.lexeme, defaultValue, false);
-        return;
-      }
+      // a null default value declares the variable without a value
+      Resolver.define(context.environment, this.binding, this.identifier.symbol, this.type.toDefaultValue(), false);
+    }
 
-      context.environment.declare(this.identifier.lexeme);
+    void resolve(Resolver resolver) {
+      if (this.expression != null)
+        this.expression.resolve(resolver);
+
+      this.binding = resolver.declare(this.identifier, false);
     }
 
     public String toString() {
@@ -145,6 +191,15 @@ public abstract class Node {
         this.statements = new StatementNode.Block();
       }
 
+      void write(NodeSerializer.Writer writer) {
+        writer.writeToken(this.literal);
+        writer.writeNode(this.statements);
+      }
+
+      static SwitchCase read(NodeSerializer.Reader reader) {
+        return new SwitchCase(reader.readToken(), reader.readNode());
+      }
+
       public String toString() {
         String statementsString = String.join("\n", this.statements.toString());
         return String.format("[SwitchCase: %s %s]", this.literal == null ? "default" : this.literal.toString(),
@@ -184,6 +239,15 @@ public abstract class Node {
       this.defaultCase = defaultCase;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.namedCases);
+      writer.writeNode(this.defaultCase);
+    }
+
+    static SwitchCaseList read(NodeSerializer.Reader reader) {
+      return new SwitchCaseList(reader.readList(), reader.readNode());
+    }
+
     public SwitchCaseList addNamedCase(SwitchCase newCase) {
       this.namedCases.add(newCase);
       return this;
@@ -226,6 +290,14 @@ public abstract class Node {
       this.declarations.add(decl);
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.declarations);
+    }
+
+    static CounterLoopInit read(NodeSerializer.Reader reader) {
+      return new CounterLoopInit(reader.readList());
+    }
+
     public CounterLoopInit add(Node.VariableDeclaration decl) {
       this.declarations.add(decl);
       return this;
@@ -261,6 +333,14 @@ public abstract class Node {
       this.expressions = new ArrayList<>();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.expressions);
+    }
+
+    static ExpressionList read(NodeSerializer.Reader reader) {
+      return new ExpressionList(reader.readList());
+    }
+
     public ExpressionList add(ExpressionNode expr) {
       this.expressions.add(expr);
       return this;
@@ -296,6 +376,14 @@ public abstract class Node {
       this.fields = new ArrayList<>();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.fields);
+    }
+
+    static ObjectLiteralFieldList read(NodeSerializer.Reader reader) {
+      return new ObjectLiteralFieldList(reader.readList());
+    }
+
     public ObjectLiteralFieldList add(ObjectLiteralField field) {
       this.fields.add(field);
       return this;
@@ -324,6 +412,15 @@ public abstract class Node {
       this.expression = expression;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.identifier);
+      writer.writeNode(this.expression);
+    }
+
+    static ObjectLiteralField read(NodeSerializer.Reader reader) {
+      return new ObjectLiteralField(reader.readToken(), reader.readNode());
+    }
+
     public String toString() {
       return String.format("[ObjectLiteralField: %s %s]", this.identifier.lexeme, this.expression.toString());
     }
@@ -338,6 +435,9 @@ public abstract class Node {
   public static class ParameterList extends Node {
     public ArrayList<StatementNode.VariableDeclarationHeader> declarations;
 
+    // the scope of a call, set by the Resolver
+    public transient Environment.Layout layout = null;
+
     public ParameterList(ArrayList<StatementNode.VariableDeclarationHeader> declarations) {
       this.declarations = declarations;
     }
@@ -356,6 +456,14 @@ public abstract class Node {
       this.declarations = new ArrayList<>();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.declarations);
+    }
+
+    static ParameterList read(NodeSerializer.Reader reader) {
+      return new ParameterList(reader.readList());
+    }
+
     public String toString() {
       String declsString = String.join("\n", this.declarations.toString());
       return String.format("[ParameterList: %s]", declsString);
@@ -386,6 +494,14 @@ public abstract class Node {
       this.clauses = new LinkedList<>();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.clauses);
+    }
+
+    static IfStatementBranches read(NodeSerializer.Reader reader) {
+      return new IfStatementBranches(reader.readLinkedList());
+    }
+
     IfStatementBranches add(IfStatementBranch newClause) {
       clauses.add(newClause);
       return this;
@@ -416,6 +532,16 @@ public abstract class Node {
       this.conditionToken = conditionToken;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.condition);
+      writer.writeNode(this.body);
+      writer.writeToken(this.conditionToken);
+    }
+
+    static IfStatementBranch read(NodeSerializer.Reader reader) {
+      return new IfStatementBranch(reader.readNode(), reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       return String.format("[IfStatementBranch: %s %s", this.condition.toString(), this.body.toString());
     }
@@ -445,6 +571,14 @@ public abstract class Node {
       this.definitions = new ArrayList<>();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.definitions);
+    }
+
+    static PropertyList read(NodeSerializer.Reader reader) {
+      return new PropertyList(reader.readList());
+    }
+
     public PropertyList add(PropertyDefinition definition) {
       this.definitions.add(definition);
       return this;
@@ -474,6 +608,15 @@ public abstract class Node {
       this.type = type;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.identifier);
+      writer.writeNode(this.type);
+    }
+
+    static PropertyDefinition read(NodeSerializer.Reader reader) {
+      return new PropertyDefinition(reader.readToken(), reader.readNode());
+    }
+
     public String toString() {
       return String.format("[PropertyDefinition: %s %s]", this.identifier.lexeme, this.type.toString());
     }
@@ -501,6 +644,14 @@ public abstract class Node {
       this.parameters = new ArrayList<>();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeList(this.parameters);
+    }
+
+    static LambdaParamterList read(NodeSerializer.Reader reader) {
+      return new LambdaParamterList(reader.readList());
+    }
+
     public LambdaParamterList add(TypeExpressionNode parameter) {
       this.parameters.add(parameter);
       return this;
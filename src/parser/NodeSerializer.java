@@ -0,0 +1,346 @@
+package parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+
+import lexer.Token;
+import lexer.TokenType;
+
+/**
+ * Compact binary form of syntax trees, used by the parse cache. Every node
+ * class writes its own fields with its write method and is created again by
+ * its static read method, which reads them back in the same order. Tokens are
+ * written as their type, lexeme and position, strings are written once and
+ * then referred to by index, and a node, token or list reached twice is
+ * written once.
+ *
+ * A node is written as the index of its class in the kinds registered below,
+ * so only those classes can ever be read back. Changing a write method, or the
+ * order of the kinds, changes the format and needs a new ParseCache.VERSION.
+ */
+class NodeSerializer {
+  static final int NULL = 0;
+  static final int REFERENCE = 1;
+  static final int NODE = 2;
+  static final int TOKEN = 3;
+  static final int ARRAY_LIST = 4;
+  static final int LINKED_LIST = 5;
+
+  /**
+   * Creates a node of one kind from the fields its write method wrote
+   */
+  interface Factory {
+    Node read(Reader reader);
+  }
+
+  private static final HashMap<Class<? extends Node>, Integer> kinds = new HashMap<>();
+  private static final ArrayList<Factory> factories = new ArrayList<>();
+
+  private static <T extends Node> void register(Class<T> type, Factory factory) {
+    kinds.put(type, factories.size());
+    factories.add(factory);
+  }
+
+  static {
+    register(StatementNode.Program.class, StatementNode.Program::read);
+    register(StatementNode.Import.class, StatementNode.Import::read);
+    register(StatementNode.If.class, StatementNode.If::read);
+    register(StatementNode.VariableDeclaration.class, StatementNode.VariableDeclaration::read);
+    register(StatementNode.ConstantDeclaration.class, StatementNode.ConstantDeclaration::read);
+    register(StatementNode.Block.class, StatementNode.Block::read);
+    register(StatementNode.Return.class, StatementNode.Return::read);
+    register(StatementNode.TryCatch.class, StatementNode.TryCatch::read);
+    register(StatementNode.Throw.class, StatementNode.Throw::read);
+    register(StatementNode.Switch.class, StatementNode.Switch::read);
+    register(StatementNode.SwitchBreak.class, StatementNode.SwitchBreak::read);
+    register(StatementNode.SwitchGoto.class, StatementNode.SwitchGoto::read);
+    register(StatementNode.ForEachLoop.class, StatementNode.ForEachLoop::read);
+    register(StatementNode.CounterControlledLoop.class, StatementNode.CounterControlledLoop::read);
+    register(StatementNode.LoopBreak.class, StatementNode.LoopBreak::read);
+    register(StatementNode.LoopContinue.class, StatementNode.LoopContinue::read);
+    register(StatementNode.WhileLoop.class, StatementNode.WhileLoop::read);
+    register(StatementNode.Expression.class, StatementNode.Expression::read);
+    register(StatementNode.ObjectTypeDeclaration.class, StatementNode.ObjectTypeDeclaration::read);
+
+    register(ExpressionNode.FunctionExpression.class, ExpressionNode.FunctionExpression::read);
+    register(ExpressionNode.ArrayLiteral.class, ExpressionNode.ArrayLiteral::read);
+    register(ExpressionNode.ObjectLiteral.class, ExpressionNode.ObjectLiteral::read);
+    register(ExpressionNode.DotAccess.class, ExpressionNode.DotAccess::read);
+    register(ExpressionNode.FunctionCall.class, ExpressionNode.FunctionCall::read);
+    register(ExpressionNode.Identifier.class, ExpressionNode.Identifier::read);
+    register(ExpressionNode.Incrementation.class, ExpressionNode.Incrementation::read);
+    register(ExpressionNode.Assignment.class, ExpressionNode.Assignment::read);
+    register(ExpressionNode.IndexAccess.class, ExpressionNode.IndexAccess::read);
+    register(ExpressionNode.Literal.class, ExpressionNode.Literal::read);
+    register(ExpressionNode.Binary.class, ExpressionNode.Binary::read);
+    register(ExpressionNode.Unary.class, ExpressionNode.Unary::read);
+    register(ExpressionNode.Grouping.class, ExpressionNode.Grouping::read);
+
+    register(TypeExpressionNode.Identifier.class, TypeExpressionNode.Identifier::read);
+    register(TypeExpressionNode.Array.class, TypeExpressionNode.Array::read);
+    register(TypeExpressionNode.Lambda.class, TypeExpressionNode.Lambda::read);
+
+    register(Node.StatementList.class, Node.StatementList::read);
+    register(Node.VariableDeclarationHeader.class, Node.VariableDeclarationHeader::read);
+    register(Node.VariableDeclaration.class, Node.VariableDeclaration::read);
+    register(Node.SwitchCaseList.SwitchCase.class, Node.SwitchCaseList.SwitchCase::read);
+    register(Node.SwitchCaseList.class, Node.SwitchCaseList::read);
+    register(Node.CounterLoopInit.class, Node.CounterLoopInit::read);
+    register(Node.ExpressionList.class, Node.ExpressionList::read);
+    register(Node.ObjectLiteralFieldList.class, Node.ObjectLiteralFieldList::read);
+    register(Node.ObjectLiteralField.class, Node.ObjectLiteralField::read);
+    register(Node.ParameterList.class, Node.ParameterList::read);
+    register(Node.IfStatementBranches.class, Node.IfStatementBranches::read);
+    register(Node.IfStatementBranch.class, Node.IfStatementBranch::read);
+    register(Node.PropertyList.class, Node.PropertyList::read);
+    register(Node.PropertyDefinition.class, Node.PropertyDefinition::read);
+    register(Node.LambdaParamterList.class, Node.LambdaParamterList::read);
+  }
+
+  static class Writer {
+    private byte[] bytes = new byte[4096];
+    private int length = 0;
+
+    private final IdentityHashMap<Object, Integer> objects = new IdentityHashMap<>();
+    private final HashMap<String, Integer> strings = new HashMap<>();
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(bytes, length);
+    }
+
+    // writes the tag of the value, false if nothing else has to be written
+    private boolean writeHandle(Object value, int tag) {
+      if (value == null) {
+        writeByte(NULL);
+        return false;
+      }
+
+      Integer handle = objects.get(value);
+      if (handle != null) {
+        writeByte(REFERENCE);
+        writeInt(handle);
+        return false;
+      }
+
+      objects.put(value, objects.size());
+      writeByte(tag);
+      return true;
+    }
+
+    void writeNode(Node node) {
+      if (!writeHandle(node, NODE))
+        return;
+
+      Integer kind = kinds.get(node.getClass());
+      if (kind == null)
+        throw new IllegalArgumentException("Cannot serialize " + node.getClass().getName());
+
+      writeInt(kind);
+      node.write(this);
+    }
+
+    void writeToken(Token token) {
+      if (!writeHandle(token, TOKEN))
+        return;
+
+      writeString(token.type.name());
+      writeString(token.lexeme);
+      writeInt(token.line);
+      writeInt(token.column);
+      writeString(token.sourcePath);
+      writeInt(token.offset + 1);
+    }
+
+    void writeList(List<? extends Node> list) {
+      if (!writeHandle(list, list instanceof LinkedList ? LINKED_LIST : ARRAY_LIST))
+        return;
+
+      writeInt(list.size());
+      for (Node element : list)
+        writeNode(element);
+    }
+
+    // null is written as 0, any other string as its index plus one
+    void writeString(String value) {
+      if (value == null) {
+        writeInt(0);
+        return;
+      }
+
+      Integer index = strings.get(value);
+      if (index != null) {
+        writeInt(index + 1);
+        return;
+      }
+
+      writeInt(strings.size() + 1);
+      strings.put(value, strings.size());
+      byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+      writeInt(encoded.length);
+      ensureCapacity(encoded.length);
+      System.arraycopy(encoded, 0, bytes, length, encoded.length);
+      length += encoded.length;
+    }
+
+    // unsigned variable length int, seven bits per byte
+    void writeInt(int value) {
+      ensureCapacity(5);
+      while ((value & ~0x7F) != 0) {
+        bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      bytes[length++] = (byte) value;
+    }
+
+    void writeBoolean(boolean value) {
+      writeByte(value ? 1 : 0);
+    }
+
+    void writeByte(int value) {
+      ensureCapacity(1);
+      bytes[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+      if (length + extra > bytes.length)
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+    }
+  }
+
+  /**
+   * Reads what a Writer wrote. Malformed input, including a node of another
+   * type than the field it is read for, throws a RuntimeException.
+   */
+  static class Reader {
+    private final byte[] bytes;
+    private int position;
+
+    private final ArrayList<Object> objects = new ArrayList<>();
+    private final ArrayList<String> strings = new ArrayList<>();
+
+    Reader(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    boolean atEnd() {
+      return position == bytes.length;
+    }
+
+    // the tag of the next value, which is null, written before or of the expected kind
+    private int readTag(int expected) {
+      int tag = readByte();
+      if (tag != NULL && tag != REFERENCE && tag != expected)
+        throw new IllegalStateException("Expected tag " + expected + ", found " + tag);
+
+      return tag;
+    }
+
+    // the value of a null or reference tag
+    private Object readReference(int tag) {
+      return tag == NULL ? null : objects.get(readInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Node> T readNode() {
+      int tag = readTag(NODE);
+      if (tag != NODE)
+        return (T) readReference(tag);
+
+      int kind = readInt();
+      if (kind < 0 || kind >= factories.size())
+        throw new IllegalStateException("Unknown node kind " + kind);
+
+      // a node is created after its children, so its handle is taken first
+      int handle = reserve();
+      Node node = factories.get(kind).read(this);
+      objects.set(handle, node);
+      return (T) node;
+    }
+
+    Token readToken() {
+      int tag = readTag(TOKEN);
+      if (tag != TOKEN)
+        return (Token) readReference(tag);
+
+      int handle = reserve();
+      TokenType type = TokenType.valueOf(readString());
+      String lexeme = readString();
+      int line = readInt();
+      int column = readInt();
+      String sourcePath = readString();
+      Token token = new Token(type, lexeme, line, column, sourcePath, readInt() - 1);
+      objects.set(handle, token);
+      return token;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Node> ArrayList<T> readList() {
+      int tag = readTag(ARRAY_LIST);
+      if (tag != ARRAY_LIST)
+        return (ArrayList<T>) readReference(tag);
+
+      ArrayList<T> list = new ArrayList<>();
+      readElements(list);
+      return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Node> LinkedList<T> readLinkedList() {
+      int tag = readTag(LINKED_LIST);
+      if (tag != LINKED_LIST)
+        return (LinkedList<T>) readReference(tag);
+
+      LinkedList<T> list = new LinkedList<>();
+      readElements(list);
+      return list;
+    }
+
+    private <T extends Node> void readElements(List<T> list) {
+      objects.add(list);
+      for (int size = readInt(); size > 0; size--)
+        list.add(readNode());
+    }
+
+    private int reserve() {
+      objects.add(null);
+      return objects.size() - 1;
+    }
+
+    String readString() {
+      int index = readInt();
+      if (index == 0)
+        return null;
+      if (index <= strings.size())
+        return strings.get(index - 1);
+
+      int length = readInt();
+      String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+      position += length;
+      strings.add(value);
+      return value;
+    }
+
+    int readInt() {
+      int value = 0;
+      for (int shift = 0;; shift += 7) {
+        byte b = bytes[position++];
+        value |= (b & 0x7F) << shift;
+        if (b >= 0)
+          return value;
+      }
+    }
+
+    boolean readBoolean() {
+      return readByte() != 0;
+    }
+
+    int readByte() {
+      return bytes[position++];
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+
+import lexer.SourceFile;
+
+/**
+ * Keeps the syntax tree and parser errors of every parsed file on disk, so an
+ * unchanged file is read back instead of lexed and parsed again. Entries are
+ * named after a hash of the path and text of the file and of the parse table,
+ * any change to either gives a new entry. An entry that cannot be read, for
+ * example because it was written by an older version, counts as missing and
+ * is overwritten.
+ *
+ * Layout: magic, version, then the tree, the imports and the errors as written
+ * by NodeSerializer.
+ */
+public class ParseCache {
+  static final int MAGIC = 0x4C4F4C41; // "LOLA"
+  static final int VERSION = 2;
+
+  final File directory;
+  final long tableFingerprint;
+
+  public ParseCache(File directory, LR1ParseTable table) {
+    this.directory = directory;
+    this.tableFingerprint = table.fingerprint();
+  }
+
+  /**
+   * What is stored for a file. Imports are kept in the order they were
+   * reduced, since their files are parsed again (and their errors printed)
+   * whenever the entry is used.
+   */
+  static class Entry {
+    final Node root;
+    final ArrayList<StatementNode.Import> imports;
+    final ArrayList<ParserException> errors;
+
+    Entry(Node root, ArrayList<StatementNode.Import> imports, ArrayList<ParserException> errors) {
+      this.root = root;
+      this.imports = imports;
+      this.errors = errors;
+    }
+  }
+
+  String key(SourceFile source) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(String.format("%d:%d:%s\n", VERSION, tableFingerprint, source.path)
+          .getBytes(StandardCharsets.UTF_8));
+
+      // the text is encoded a chunk at a time instead of copied into one string
+      CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      CharBuffer text = CharBuffer.wrap(source.text);
+      ByteBuffer chunk = ByteBuffer.allocate(8192);
+      CoderResult result;
+      do {
+        result = encoder.encode(text, chunk, true);
+        if (result.isUnderflow())
+          result = encoder.flush(chunk);
+        digest.update(chunk.flip());
+        chunk.clear();
+      } while (result.isOverflow());
+
+      StringBuilder key = new StringBuilder();
+      for (byte b : digest.digest())
+        key.append(String.format("%02x", b));
+      return key.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new Error("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Returns null if there is no usable entry for the key
+   */
+  Entry load(String key) {
+    File file = new File(directory, key + ".ast");
+    if (!file.isFile())
+      return null;
+
+    try {
+      NodeSerializer.Reader reader = new NodeSerializer.Reader(Files.readAllBytes(file.toPath()));
+      if (reader.readInt() != MAGIC || reader.readInt() != VERSION)
+        return null;
+
+      Node root = reader.readNode();
+      ArrayList<StatementNode.Import> imports = reader.readList();
+
+      ArrayList<ParserException> errors = new ArrayList<>();
+      for (int count = reader.readInt(); count > 0; count--)
+        errors.add(new ParserException(reader.readString(), reader.readToken()));
+
+      if (!reader.atEnd())
+        return null;
+
+      return new Entry(root, imports, errors);
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  void store(String key, Entry entry) {
+    try {
+      NodeSerializer.Writer writer = new NodeSerializer.Writer();
+      writer.writeInt(MAGIC);
+      writer.writeInt(VERSION);
+      writer.writeNode(entry.root);
+      writer.writeList(entry.imports);
+
+      writer.writeInt(entry.errors.size());
+      for (ParserException error : entry.errors) {
+        writer.writeString(error.getMessage());
+        writer.writeToken(error.getToken());
+      }
+
+      // written under a temporary name first so a reader never sees half an entry
+      directory.mkdirs();
+      File temporary = File.createTempFile(key, ".tmp", directory);
+      try {
+        Files.write(temporary.toPath(), writer.toByteArray());
+        Files.move(temporary.toPath(), new File(directory, key + ".ast").toPath(),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        temporary.delete();
+      }
+    } catch (IOException | RuntimeException e) {
+      // the cache is only an optimization, the file will be parsed again next time
+    }
+  }
+}
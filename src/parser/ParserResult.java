@@ -6,9 +6,17 @@ public class ParserResult {
   final public ArrayList<ParserException> errors;
   final public Node root;
 
+  // the import statements of the file in the order they were reduced
+  final ArrayList<StatementNode.Import> imports;
+
   public ParserResult(Node root, ArrayList<ParserException> errors) {
+    this(root, errors, new ArrayList<>());
+  }
+
+  ParserResult(Node root, ArrayList<ParserException> errors, ArrayList<StatementNode.Import> imports) {
     this.root = root;
     this.errors = errors;
+    this.imports = imports;
   }
 
   public void addError(ParserException e) {
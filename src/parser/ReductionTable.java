@@ -1,13 +1,14 @@
 package parser;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
 
 import lexer.Token;
+import lexer.TokenBuffer;
 
 class ReductionTable {
   interface Reducer {
-    Node run(ReductionInput input, LR1Parser parser);
+    Node run(ReductionInput input, LR1ParserContext context);
   }
 
   static class Reduction {
@@ -18,33 +19,60 @@ class ReductionTable {
     }
   }
 
-  // This class wraps popped symbols and provides methods for easier access
+  // This class is a view over the popped symbols in the parser's value stack
+  // and provides methods for easier access
   static class ReductionInput {
-    ArrayList<LR1Parser.LR1StackSymbol> symbols;
-
-    ReductionInput(ArrayList<LR1Parser.LR1StackSymbol> symbols) {
-      this.symbols = symbols;
+    Object[] values;
+    int[] tokens;
+    TokenBuffer buffer;
+    int base;
+    int length;
+
+    void set(Object[] values, int[] tokens, TokenBuffer buffer, int base, int length) {
+      this.values = values;
+      this.tokens = tokens;
+      this.buffer = buffer;
+      this.base = base;
+      this.length = length;
     }
 
     public String toString() {
-      String symbolsString = String.join(", ", this.symbols.toString());
+      String[] symbols = new String[length];
+      for (int i = 0; i < length; i++)
+        symbols[i] = String.valueOf(isToken(i) ? getToken(i) : values[base + i]);
+
+      String symbolsString = "[" + String.join(", ", symbols) + "]";
       return String.format("[ReductionInput: %s]", symbolsString);
     }
 
+    private boolean isToken(int index) {
+      Object value = values[base + index];
+      return value == LR1Parser.BUFFERED_TOKEN || value instanceof Token;
+    }
+
     Token getToken(int index) {
-      LR1Parser.LR1StackSymbol symbol = symbols.get(index);
-      if (!(symbol instanceof LR1Parser.LR1StackToken))
+      if (index >= length)
+        throw new IndexOutOfBoundsException(index);
+
+      // a buffered token is created the first time it is read and replaces
+      // its marker, so reading it again returns the same token
+      Object value = values[base + index];
+      if (value == LR1Parser.BUFFERED_TOKEN)
+        value = values[base + index] = buffer.getToken(tokens[base + index]);
+      if (!(value instanceof Token))
         throw new Error("Can't get a token from a non-token");
 
-      return ((LR1Parser.LR1StackToken) symbol).token;
+      return (Token) value;
     }
 
     Node getInternalNode(int index) {
-      LR1Parser.LR1StackSymbol symbol = symbols.get(index);
-      if (!(symbol instanceof LR1Parser.LR1StackInternalNode))
+      if (index >= length)
+        throw new IndexOutOfBoundsException(index);
+
+      if (isToken(index))
         throw new Error("Can't get an internal node from a non-internal node");
 
-      return ((LR1Parser.LR1StackInternalNode) symbol).node;
+      return (Node) values[base + index];
     }
 
     StatementNode getStatementNode(int index) {
@@ -77,32 +105,35 @@ class ReductionTable {
       reductions.put(i, reduction);
   }
 
-  public static HashMap<Integer, Reduction> generateReductions() {
+  /**
+   * Returns the reducers indexed by production number
+   */
+  public static Reduction[] generateReductions(int productionCount) {
     HashMap<Integer, Reduction> reductions = new HashMap<>();
 
-    Reduction passthroughReducer = new Reduction((e, parser) -> e.getInternalNode(0));
+    Reduction passthroughReducer = new Reduction((e, context) -> e.getInternalNode(0));
     Reduction binaryOperationReducer = new Reduction(
-        (input, parser) -> new ExpressionNode.Binary(input.getExpressionNode(0), input.getToken(1),
+        (input, context) -> new ExpressionNode.Binary(input.getExpressionNode(0), input.getToken(1),
             input.getExpressionNode(2)));
     Reduction unaryOperationReducer = new Reduction(
-        (input, parser) -> new ExpressionNode.Unary(input.getToken(0),
+        (input, context) -> new ExpressionNode.Unary(input.getToken(0),
             input.getExpressionNode(1)));
 
-    reductions.put(1, new Reduction((input, parser) -> new StatementNode.Program()));
-    reductions.put(2, new Reduction((input, parser) -> {
+    reductions.put(1, new Reduction((input, context) -> new StatementNode.Program()));
+    reductions.put(2, new Reduction((input, context) -> {
       Node statements = input.getInternalNode(0);
       if (statements instanceof Node.StatementList)
         return new StatementNode.Program((Node.StatementList) statements);
       return null;
     }));
-    reductions.put(3, new Reduction((input, parser) -> {
+    reductions.put(3, new Reduction((input, context) -> {
       Node statements = input.getInternalNode(0);
       Node newStatement = input.getInternalNode(1);
       if (statements instanceof Node.StatementList && newStatement instanceof StatementNode)
         return ((Node.StatementList) statements).add((StatementNode) newStatement);
       return null;
     }));
-    reductions.put(4, new Reduction((input, parser) -> {
+    reductions.put(4, new Reduction((input, context) -> {
       Node newStatement = input.getInternalNode(0);
       if (newStatement instanceof StatementNode)
         return new Node.StatementList((StatementNode) newStatement);
@@ -111,21 +142,18 @@ class ReductionTable {
 
     // HANDLE <STATEMENT> -> reductions;
     addALotOfSameReduction(5, 16, passthroughReducer, reductions);
-    reductions.put(17, new Reduction((input, parser) -> new StatementNode.SwitchBreak(input.getToken(0))));
+    reductions.put(17, new Reduction((input, context) -> new StatementNode.SwitchBreak(input.getToken(0))));
     reductions.put(18,
-        new Reduction((input, parser) -> new StatementNode.SwitchGoto(input.getToken(0), input.getToken(1))));
+        new Reduction((input, context) -> new StatementNode.SwitchGoto(input.getToken(0), input.getToken(1))));
     reductions.put(19,
-        new Reduction((input, parser) -> new StatementNode.SwitchGoto(input.getToken(0), input.getToken(1))));
-    reductions.put(20, new Reduction((input, parser) -> new StatementNode.LoopBreak(input.getToken(0))));
-    reductions.put(21, new Reduction((input, parser) -> new StatementNode.LoopContinue(input.getToken(0))));
-    reductions.put(22, new Reduction((input, parser) -> {
-      StatementNode.Import ret = new StatementNode.Import(input.getToken(1));
-      ret.getSyntaxTree(parser);
-      return ret;
-    }));
+        new Reduction((input, context) -> new StatementNode.SwitchGoto(input.getToken(0), input.getToken(1))));
+    reductions.put(20, new Reduction((input, context) -> new StatementNode.LoopBreak(input.getToken(0))));
+    reductions.put(21, new Reduction((input, context) -> new StatementNode.LoopContinue(input.getToken(0))));
+    // the imported file is loaded by the ModuleLoader once the parse is done
+    reductions.put(22, new Reduction((input, context) -> new StatementNode.Import(input.getToken(1))));
 
     // BEGIN HANDLING IF CONDITIONS
-    reductions.put(23, new Reduction((input, parser) -> {
+    reductions.put(23, new Reduction((input, context) -> {
       ExpressionNode cond = input.getExpressionNode(2);
       StatementNode stmt = input.getStatementNode(4);
       Node branches = input.getInternalNode(5);
@@ -138,7 +166,7 @@ class ReductionTable {
       }
       return null;
     }));
-    reductions.put(24, new Reduction((input, parser) -> {
+    reductions.put(24, new Reduction((input, context) -> {
       ExpressionNode cond = input.getExpressionNode(2);
       StatementNode stmt = input.getStatementNode(4);
       Node branches = input.getInternalNode(5);
@@ -151,50 +179,50 @@ class ReductionTable {
       }
       return null;
     }));
-    reductions.put(25, new Reduction((input, parser) -> {
+    reductions.put(25, new Reduction((input, context) -> {
       ExpressionNode cond = input.getExpressionNode(2);
       StatementNode stmt = input.getStatementNode(4);
       StatementNode elseBody = input.getStatementNode(6);
       return new StatementNode.If(
           new Node.IfStatementBranches(new Node.IfStatementBranch(cond, stmt, input.getToken(1))), elseBody);
     }));
-    reductions.put(26, new Reduction((input, parser) -> {
+    reductions.put(26, new Reduction((input, context) -> {
       ExpressionNode cond = input.getExpressionNode(2);
       StatementNode stmt = input.getStatementNode(4);
       return new StatementNode.If(
           new Node.IfStatementBranches(new Node.IfStatementBranch(cond, stmt, input.getToken(1))));
     }));
-    reductions.put(27, new Reduction((input, parser) -> ((Node.IfStatementBranches) input.getInternalNode(0))
+    reductions.put(27, new Reduction((input, context) -> ((Node.IfStatementBranches) input.getInternalNode(0))
         .add((Node.IfStatementBranch) input.getInternalNode(1))));
     reductions.put(28,
         new Reduction(
-            (input, parser) -> new Node.IfStatementBranches((Node.IfStatementBranch) input.getInternalNode(0))));
+            (input, context) -> new Node.IfStatementBranches((Node.IfStatementBranch) input.getInternalNode(0))));
     reductions.put(29,
         new Reduction(
-            (input, parser) -> new Node.IfStatementBranch(input.getExpressionNode(2), input.getStatementNode(4),
+            (input, context) -> new Node.IfStatementBranch(input.getExpressionNode(2), input.getStatementNode(4),
                 input.getToken(1))));
     // END OF HANDLING IF CONDITIONS
 
     // BEGIN HANDLING VARIABLE AND CONSTANT DECLARATIONS
-    reductions.put(30, new Reduction((input, parser) -> {
+    reductions.put(30, new Reduction((input, context) -> {
       Node.VariableDeclaration declaration = (Node.VariableDeclaration) input.getInternalNode(0);
       return new StatementNode.VariableDeclaration(declaration);
     }));
-    reductions.put(31, new Reduction((input, parser) -> {
+    reductions.put(31, new Reduction((input, context) -> {
       Node.VariableDeclarationHeader header = (Node.VariableDeclarationHeader) input.getInternalNode(0);
       return new Node.VariableDeclaration(header.identifier, header.type);
     }));
-    reductions.put(32, new Reduction((input, parser) -> {
+    reductions.put(32, new Reduction((input, context) -> {
       Node.VariableDeclarationHeader header = (Node.VariableDeclarationHeader) input.getInternalNode(0);
       ExpressionNode expr = input.getExpressionNode(2);
       return new Node.VariableDeclaration(header.identifier, header.type, expr, input.getToken(1));
     }));
-    reductions.put(33, new Reduction((input, parser) -> {
+    reductions.put(33, new Reduction((input, context) -> {
       Token identifier = input.getToken(1);
       TypeExpressionNode type = input.getTypeExpressionNode(3);
       return new Node.VariableDeclarationHeader(identifier, type);
     }));
-    reductions.put(34, new Reduction((input, parser) -> {
+    reductions.put(34, new Reduction((input, context) -> {
       Token identifier = input.getToken(1);
       TypeExpressionNode type = input.getTypeExpressionNode(3);
       ExpressionNode expr = input.getExpressionNode(5);
@@ -202,42 +230,42 @@ class ReductionTable {
     }));
     // END OF HANDLING VARIABLE AND CONSTANT DECLARATIONS
 
-    reductions.put(35, new Reduction((input, parser) -> new StatementNode.Block()));
+    reductions.put(35, new Reduction((input, context) -> new StatementNode.Block()));
     reductions.put(36,
-        new Reduction((input, parser) -> new StatementNode.Block((Node.StatementList) input.getInternalNode(1))));
+        new Reduction((input, context) -> new StatementNode.Block((Node.StatementList) input.getInternalNode(1))));
     reductions.put(37,
-        new Reduction((input, parser) -> new StatementNode.Return(input.getToken(0), input.getExpressionNode(1))));
-    reductions.put(38, new Reduction((input, parser) -> new StatementNode.Return(input.getToken(0))));
-    reductions.put(39, new Reduction((input, parser) -> {
+        new Reduction((input, context) -> new StatementNode.Return(input.getToken(0), input.getExpressionNode(1))));
+    reductions.put(38, new Reduction((input, context) -> new StatementNode.Return(input.getToken(0))));
+    reductions.put(39, new Reduction((input, context) -> {
       StatementNode.Block block = (StatementNode.Block) input.getInternalNode(1);
       Token identifier = input.getToken(4);
       StatementNode.Block errorHandler = (StatementNode.Block) input.getInternalNode(6);
 
       return new StatementNode.TryCatch(block, identifier, errorHandler);
     }));
-    reductions.put(40, new Reduction((input, parser) -> new StatementNode.Throw(input.getToken(1))));
+    reductions.put(40, new Reduction((input, context) -> new StatementNode.Throw(input.getToken(1))));
 
     // BEGIN HANDLING SWITCH STATEMENTS
-    reductions.put(41, new Reduction((input, parser) -> new StatementNode.Switch(input.getExpressionNode(2),
+    reductions.put(41, new Reduction((input, context) -> new StatementNode.Switch(input.getExpressionNode(2),
         (Node.SwitchCaseList) input.getInternalNode(5), input.getToken(1))));
     reductions.put(42,
-        new Reduction((input, parser) -> new StatementNode.Switch(input.getExpressionNode(2), input.getToken(1))));
-    reductions.put(43, new Reduction((input, parser) -> {
+        new Reduction((input, context) -> new StatementNode.Switch(input.getExpressionNode(2), input.getToken(1))));
+    reductions.put(43, new Reduction((input, context) -> {
       Node.SwitchCaseList list = (Node.SwitchCaseList) input.getInternalNode(0);
       StatementNode.Block defaultHandler = (StatementNode.Block) input.getInternalNode(3);
       return list.setDefaultCase(defaultHandler);
     }));
     reductions.put(44,
-        new Reduction((input, parser) -> new Node.SwitchCaseList(
+        new Reduction((input, context) -> new Node.SwitchCaseList(
             new Node.SwitchCaseList.SwitchCase(((StatementNode.Block) input.getInternalNode(2))))));
     reductions.put(45, passthroughReducer);
-    reductions.put(46, new Reduction((input, parser) -> ((Node.SwitchCaseList) input.getInternalNode(0))
+    reductions.put(46, new Reduction((input, context) -> ((Node.SwitchCaseList) input.getInternalNode(0))
         .addNamedCase((Node.SwitchCaseList.SwitchCase) input.getInternalNode(1))));
     reductions.put(47,
         new Reduction(
-            (input, parser) -> new Node.SwitchCaseList((Node.SwitchCaseList.SwitchCase) input.getInternalNode(0))));
+            (input, context) -> new Node.SwitchCaseList((Node.SwitchCaseList.SwitchCase) input.getInternalNode(0))));
 
-    Reduction switchCaseReducer = new Reduction((input, parser) -> new Node.SwitchCaseList.SwitchCase(
+    Reduction switchCaseReducer = new Reduction((input, context) -> new Node.SwitchCaseList.SwitchCase(
         input.getToken(2),
         ((StatementNode.Block) input.getInternalNode(5))));
 
@@ -253,55 +281,55 @@ class ReductionTable {
     reductions.put(51, passthroughReducer);
     reductions.put(52, passthroughReducer);
 
-    reductions.put(53, new Reduction((input, parser) -> {
+    reductions.put(53, new Reduction((input, context) -> {
       Token identifier = input.getToken(3);
       TypeExpressionNode type = input.getTypeExpressionNode(5);
       ExpressionNode expr = input.getExpressionNode(7);
       StatementNode body = input.getStatementNode(9);
       return new StatementNode.ForEachLoop(identifier, type, expr, body, input.getToken(6));
     }));
-    reductions.put(54, new Reduction((input, parser) -> {
+    reductions.put(54, new Reduction((input, context) -> {
       Node.CounterLoopInit init = (Node.CounterLoopInit) input.getInternalNode(2);
       ExpressionNode condition = input.getExpressionNode(4);
       Node.ExpressionList increment = (Node.ExpressionList) input.getInternalNode(6);
       StatementNode body = input.getStatementNode(8);
       return StatementNode.CounterControlledLoop.all(init, condition, increment, body, input.getToken(3));
     }));
-    reductions.put(55, new Reduction((input, parser) -> {
+    reductions.put(55, new Reduction((input, context) -> {
       ExpressionNode condition = input.getExpressionNode(3);
       Node.ExpressionList increment = (Node.ExpressionList) input.getInternalNode(5);
       StatementNode body = input.getStatementNode(7);
       return StatementNode.CounterControlledLoop.missingInit(condition, increment, body, input.getToken(2));
     }));
-    reductions.put(56, new Reduction((input, parser) -> {
+    reductions.put(56, new Reduction((input, context) -> {
       Node.CounterLoopInit init = (Node.CounterLoopInit) input.getInternalNode(2);
       Node.ExpressionList increment = (Node.ExpressionList) input.getInternalNode(5);
       StatementNode body = input.getStatementNode(7);
       return StatementNode.CounterControlledLoop.missingCondition(init, increment, body, input.getToken(3));
     }));
-    reductions.put(57, new Reduction((input, parser) -> {
+    reductions.put(57, new Reduction((input, context) -> {
       Node.CounterLoopInit init = (Node.CounterLoopInit) input.getInternalNode(2);
       ExpressionNode condition = input.getExpressionNode(4);
       StatementNode body = input.getStatementNode(7);
       return StatementNode.CounterControlledLoop.missingIncrement(init, condition, body, input.getToken(3));
     }));
-    reductions.put(58, new Reduction((input, parser) -> {
+    reductions.put(58, new Reduction((input, context) -> {
       Node.ExpressionList increment = (Node.ExpressionList) input.getInternalNode(4);
       StatementNode body = input.getStatementNode(6);
       return StatementNode.CounterControlledLoop.onlyIncrement(increment, body, input.getToken(2));
     }));
-    reductions.put(59, new Reduction((input, parser) -> {
+    reductions.put(59, new Reduction((input, context) -> {
       Node.CounterLoopInit init = (Node.CounterLoopInit) input.getInternalNode(2);
       StatementNode body = input.getStatementNode(6);
       return StatementNode.CounterControlledLoop.onlyInit(init, body, input.getToken(3));
     }));
-    reductions.put(60, new Reduction((input, parser) -> {
+    reductions.put(60, new Reduction((input, context) -> {
       ExpressionNode condition = input.getExpressionNode(3);
       StatementNode body = input.getStatementNode(6);
       return StatementNode.CounterControlledLoop.onlyCondition(condition, body, input.getToken(2));
     }));
 
-    reductions.put(61, new Reduction((input, parser) -> {
+    reductions.put(61, new Reduction((input, context) -> {
       StatementNode body = input.getStatementNode(5);
       return StatementNode.CounterControlledLoop.none(body, input.getToken(2));
     }));
@@ -309,24 +337,24 @@ class ReductionTable {
     // HANDLE COUNTER_LOOP_INIT UNTIL LOOP_BODY_STATEMENT
     reductions.put(62,
         new Reduction(
-            (input, parser) -> ((Node.CounterLoopInit) input.getInternalNode(0)).add((Node.VariableDeclaration) input
+            (input, context) -> ((Node.CounterLoopInit) input.getInternalNode(0)).add((Node.VariableDeclaration) input
                 .getInternalNode(1))));
-    reductions.put(63, new Reduction((input, parser) -> new Node.CounterLoopInit((Node.VariableDeclaration) input
+    reductions.put(63, new Reduction((input, context) -> new Node.CounterLoopInit((Node.VariableDeclaration) input
         .getInternalNode(0))));
     reductions.put(64,
         new Reduction(
-            (input, parser) -> ((Node.ExpressionList) input.getInternalNode(2)).add(input.getExpressionNode(0))));
-    reductions.put(65, new Reduction((input, parser) -> new Node.ExpressionList(input.getExpressionNode(0))));
+            (input, context) -> ((Node.ExpressionList) input.getInternalNode(2)).add(input.getExpressionNode(0))));
+    reductions.put(65, new Reduction((input, context) -> new Node.ExpressionList(input.getExpressionNode(0))));
     reductions.put(66,
-        new Reduction((input, parser) -> new StatementNode.WhileLoop(input.getExpressionNode(2),
+        new Reduction((input, context) -> new StatementNode.WhileLoop(input.getExpressionNode(2),
             (StatementNode) input.getStatementNode(4), input.getToken(1))));
     reductions.put(67,
         new Reduction(
-            (input, parser) -> new StatementNode.WhileLoop((StatementNode) input.getInternalNode(3),
+            (input, context) -> new StatementNode.WhileLoop((StatementNode) input.getInternalNode(3),
                 input.getToken(1))));
 
     // EXPRESSION STATEMENTS AND EXPRESSIONS BELOW
-    reductions.put(68, new Reduction((input, parser) -> new StatementNode.Expression(input.getExpressionNode(0))));
+    reductions.put(68, new Reduction((input, context) -> new StatementNode.Expression(input.getExpressionNode(0))));
     // passthrough for FUNCTION EXPRESSION / ARRAY LITERAL / OBJECT LITERAL /
     // LOGICAL EXPRESSION
     reductions.put(69, passthroughReducer);
@@ -335,26 +363,26 @@ class ReductionTable {
     reductions.put(72, passthroughReducer);
 
     // HANDLE FUNCTION EXPRESSIONS
-    reductions.put(73, new Reduction((input, parser) -> {
+    reductions.put(73, new Reduction((input, context) -> {
       Node.ParameterList parameterList = (Node.ParameterList) input.getInternalNode(2);
       TypeExpressionNode returnType = (TypeExpressionNode) input.getTypeExpressionNode(5);
       StatementNode body = (StatementNode) input.getInternalNode(7);
       Token token = input.getToken(6);
       return new ExpressionNode.FunctionExpression(parameterList, returnType, (StatementNode.Block) body, token);
     }));
-    reductions.put(74, new Reduction((input, parser) -> {
+    reductions.put(74, new Reduction((input, context) -> {
       TypeExpressionNode returnType = (TypeExpressionNode) input.getTypeExpressionNode(4);
       StatementNode body = (StatementNode) input.getInternalNode(6);
       Token token = input.getToken(5);
       return new ExpressionNode.FunctionExpression(returnType, (StatementNode.Block) body, token);
     }));
-    reductions.put(75, new Reduction((input, parser) -> {
+    reductions.put(75, new Reduction((input, context) -> {
       Node.VariableDeclarationHeader variableDeclarationHeader = (Node.VariableDeclarationHeader) input
           .getInternalNode(0);
       Node.ParameterList parameterList = (Node.ParameterList) input.getInternalNode(2);
       return parameterList.add(variableDeclarationHeader);
     }));
-    reductions.put(76, new Reduction((input, parser) -> {
+    reductions.put(76, new Reduction((input, context) -> {
       Node.VariableDeclarationHeader variableDeclarationHeader = (Node.VariableDeclarationHeader) input
           .getInternalNode(0);
       return new Node.ParameterList(variableDeclarationHeader);
@@ -363,19 +391,19 @@ class ReductionTable {
 
     // HANDLE ARRAY AND OBJECT LITERALS
     reductions.put(77,
-        new Reduction((input, parser) -> new ExpressionNode.ArrayLiteral((Node.ExpressionList) input.getInternalNode(1),
+        new Reduction((input, context) -> new ExpressionNode.ArrayLiteral((Node.ExpressionList) input.getInternalNode(1),
             input.getToken(0))));
-    reductions.put(78, new Reduction((input, parser) -> new ExpressionNode.ArrayLiteral(input.getToken(0))));
+    reductions.put(78, new Reduction((input, context) -> new ExpressionNode.ArrayLiteral(input.getToken(0))));
     reductions.put(79, new Reduction(
-        (input, parser) -> new ExpressionNode.ObjectLiteral((Node.ObjectLiteralFieldList) input.getInternalNode(1))));
-    reductions.put(80, new Reduction((input, parser) -> new ExpressionNode.ObjectLiteral()));
-    reductions.put(81, new Reduction((input, parser) -> ((Node.ObjectLiteralFieldList) input.getInternalNode(2))
+        (input, context) -> new ExpressionNode.ObjectLiteral((Node.ObjectLiteralFieldList) input.getInternalNode(1))));
+    reductions.put(80, new Reduction((input, context) -> new ExpressionNode.ObjectLiteral()));
+    reductions.put(81, new Reduction((input, context) -> ((Node.ObjectLiteralFieldList) input.getInternalNode(2))
         .add((Node.ObjectLiteralField) input.getInternalNode(0))));
     reductions.put(82,
         new Reduction(
-            (input, parser) -> new Node.ObjectLiteralFieldList((Node.ObjectLiteralField) input.getInternalNode(0))));
+            (input, context) -> new Node.ObjectLiteralFieldList((Node.ObjectLiteralField) input.getInternalNode(0))));
     reductions.put(83,
-        new Reduction((input, parser) -> new Node.ObjectLiteralField(input.getToken(0), input.getExpressionNode(2))));
+        new Reduction((input, context) -> new Node.ObjectLiteralField(input.getToken(0), input.getExpressionNode(2))));
 
     // BEGIN FUNNY
     reductions.put(84, binaryOperationReducer);
@@ -415,50 +443,50 @@ class ReductionTable {
 
     // HANDLE INCREMENTATION AND ASSIGNMENT
     reductions.put(118, new Reduction(
-        (input, parser) -> new ExpressionNode.Incrementation(input.getExpressionNode(0), input.getToken(1), true)));
+        (input, context) -> new ExpressionNode.Incrementation(input.getExpressionNode(0), input.getToken(1), true)));
     reductions.put(119, new Reduction(
-        (input, parser) -> new ExpressionNode.Incrementation(input.getExpressionNode(0), input.getToken(1), true)));
+        (input, context) -> new ExpressionNode.Incrementation(input.getExpressionNode(0), input.getToken(1), true)));
     reductions.put(120, new Reduction(
-        (input, parser) -> new ExpressionNode.Incrementation(input.getExpressionNode(1), input.getToken(0), false)));
+        (input, context) -> new ExpressionNode.Incrementation(input.getExpressionNode(1), input.getToken(0), false)));
     reductions.put(121, new Reduction(
-        (input, parser) -> new ExpressionNode.Incrementation(input.getExpressionNode(1), input.getToken(0), false)));
+        (input, context) -> new ExpressionNode.Incrementation(input.getExpressionNode(1), input.getToken(0), false)));
     reductions.put(122, new Reduction(
-        (input, parser) -> new ExpressionNode.Assignment(input.getExpressionNode(0), input.getExpressionNode(2),
+        (input, context) -> new ExpressionNode.Assignment(input.getExpressionNode(0), input.getExpressionNode(2),
             input.getToken(1))));
 
     // HANDLE ASSIGNABLE LEFT EXPRESSIONS
-    reductions.put(123, new Reduction((input, parser) -> new ExpressionNode.Identifier(input.getToken(0))));
+    reductions.put(123, new Reduction((input, context) -> new ExpressionNode.Identifier(input.getToken(0))));
     reductions.put(124,
-        new Reduction((input, parser) -> new ExpressionNode.DotAccess(input.getExpressionNode(0), input.getToken(2))));
+        new Reduction((input, context) -> new ExpressionNode.DotAccess(input.getExpressionNode(0), input.getToken(2))));
     reductions.put(125,
         new Reduction(
-            (input, parser) -> new ExpressionNode.DotAccess(new ExpressionNode.FunctionCall(input.getExpressionNode(0),
+            (input, context) -> new ExpressionNode.DotAccess(new ExpressionNode.FunctionCall(input.getExpressionNode(0),
                 (Node.ExpressionList) input.getInternalNode(2), input.getToken(1)),
                 input.getToken(5))));
     reductions.put(126,
         new Reduction(
-            (input, parser) -> new ExpressionNode.DotAccess(
+            (input, context) -> new ExpressionNode.DotAccess(
                 new ExpressionNode.FunctionCall(input.getExpressionNode(0), input.getToken(1)),
                 input.getToken(4))));
 
     reductions.put(127,
         new Reduction(
-            (input, parser) -> new ExpressionNode.IndexAccess(input.getExpressionNode(0), input.getExpressionNode(2),
+            (input, context) -> new ExpressionNode.IndexAccess(input.getExpressionNode(0), input.getExpressionNode(2),
                 input.getToken(1))));
     reductions.put(128,
         new Reduction(
             (input,
-                parser) -> new ExpressionNode.IndexAccess(new ExpressionNode.FunctionCall(input.getExpressionNode(0),
+                context) -> new ExpressionNode.IndexAccess(new ExpressionNode.FunctionCall(input.getExpressionNode(0),
                     (Node.ExpressionList) input.getInternalNode(2), input.getToken(1)),
                     input.getExpressionNode(5), input.getToken(4))));
     reductions.put(129,
         new Reduction(
-            (input, parser) -> new ExpressionNode.IndexAccess(
+            (input, context) -> new ExpressionNode.IndexAccess(
                 new ExpressionNode.FunctionCall(input.getExpressionNode(0), input.getToken(1)),
                 input.getExpressionNode(4), input.getToken(3))));
 
     // HANDLE IDENTIFIER STACK EXPRESSIONS
-    reductions.put(130, new Reduction((input, parser) -> {
+    reductions.put(130, new Reduction((input, context) -> {
       try {
         return new ExpressionNode.Identifier(input.getToken(0));
       } catch (Error e) {
@@ -468,60 +496,68 @@ class ReductionTable {
     }));
 
     reductions.put(131,
-        new Reduction((input, parser) -> new ExpressionNode.DotAccess(input.getExpressionNode(0), input.getToken(2))));
+        new Reduction((input, context) -> new ExpressionNode.DotAccess(input.getExpressionNode(0), input.getToken(2))));
     reductions.put(132,
         new Reduction(
-            (input, parser) -> new ExpressionNode.IndexAccess(input.getExpressionNode(0), input.getExpressionNode(2),
+            (input, context) -> new ExpressionNode.IndexAccess(input.getExpressionNode(0), input.getExpressionNode(2),
                 input.getToken(1))));
     reductions.put(133,
         new Reduction(
-            (input, parser) -> new ExpressionNode.FunctionCall(input.getExpressionNode(0),
+            (input, context) -> new ExpressionNode.FunctionCall(input.getExpressionNode(0),
                 (Node.ExpressionList) input.getInternalNode(2), input.getToken(1))));
     reductions.put(134,
         new Reduction(
-            (input, parser) -> new ExpressionNode.FunctionCall(input.getExpressionNode(0), input.getToken(1))));
+            (input, context) -> new ExpressionNode.FunctionCall(input.getExpressionNode(0), input.getToken(1))));
 
     // HANDLE LITERALS AND GROUPING EXPRESSION
     addALotOfSameReduction(135, 138,
-        new Reduction((input, parser) -> new ExpressionNode.Literal(input.getToken(0))),
+        new Reduction((input, context) -> new ExpressionNode.Literal(input.getToken(0))),
         reductions);
     reductions.put(139,
         new Reduction(
-            (input, parser) -> new ExpressionNode.Grouping(input.getExpressionNode(1))));
+            (input, context) -> new ExpressionNode.Grouping(input.getExpressionNode(1))));
 
     // HANDLE TYPES
     reductions.put(140,
         new Reduction(
-            (input, parser) -> new StatementNode.ObjectTypeDeclaration(input.getToken(1),
+            (input, context) -> new StatementNode.ObjectTypeDeclaration(input.getToken(1),
                 (Node.PropertyList) input.getInternalNode(3))));
     reductions.put(141,
         new Reduction(
-            (input, parser) -> new StatementNode.ObjectTypeDeclaration(input.getToken(1))));
-    reductions.put(142, new Reduction((input, parser) -> ((Node.PropertyList) input.getInternalNode(0))
+            (input, context) -> new StatementNode.ObjectTypeDeclaration(input.getToken(1))));
+    reductions.put(142, new Reduction((input, context) -> ((Node.PropertyList) input.getInternalNode(0))
         .add((Node.PropertyDefinition) input.getInternalNode(1))));
     reductions.put(143,
-        new Reduction((input, parser) -> new Node.PropertyList((Node.PropertyDefinition) input.getInternalNode(0))));
+        new Reduction((input, context) -> new Node.PropertyList((Node.PropertyDefinition) input.getInternalNode(0))));
     reductions.put(144, new Reduction(
-        (input, parser) -> new Node.PropertyDefinition(input.getToken(0), input.getTypeExpressionNode(2))));
-    reductions.put(145, new Reduction((input, parser) -> new TypeExpressionNode.Array(input.getTypeExpressionNode(0))));
+        (input, context) -> new Node.PropertyDefinition(input.getToken(0), input.getTypeExpressionNode(2))));
+    reductions.put(145, new Reduction((input, context) -> new TypeExpressionNode.Array(input.getTypeExpressionNode(0))));
 
     Reduction typeReductionEndpoint = new Reduction(
-        (input, parser) -> new TypeExpressionNode.Identifier(input.getToken(0)));
+        (input, context) -> new TypeExpressionNode.Identifier(input.getToken(0)));
     addALotOfSameReduction(146, 149, typeReductionEndpoint, reductions);
-    reductions.put(150, new Reduction((input, parser) -> new TypeExpressionNode.Identifier(input.getToken(1))));
+    reductions.put(150, new Reduction((input, context) -> new TypeExpressionNode.Identifier(input.getToken(1))));
     reductions.put(151, passthroughReducer);
 
     // HANDLE LAMBDA TYPES
     reductions.put(152,
         new Reduction(
-            (input, parser) -> new TypeExpressionNode.Lambda((Node.LambdaParamterList) input.getInternalNode(2),
+            (input, context) -> new TypeExpressionNode.Lambda((Node.LambdaParamterList) input.getInternalNode(2),
                 input.getTypeExpressionNode(5))));
     reductions.put(153,
-        new Reduction((input, parser) -> new TypeExpressionNode.Lambda(input.getTypeExpressionNode(4))));
+        new Reduction((input, context) -> new TypeExpressionNode.Lambda(input.getTypeExpressionNode(4))));
     reductions.put(154, new Reduction(
-        (input, parser) -> ((Node.LambdaParamterList) input.getInternalNode(2)).add(input.getTypeExpressionNode(0))));
-    reductions.put(155, new Reduction((input, parser) -> new Node.LambdaParamterList(input.getTypeExpressionNode(0))));
+        (input, context) -> ((Node.LambdaParamterList) input.getInternalNode(2)).add(input.getTypeExpressionNode(0))));
+    reductions.put(155, new Reduction((input, context) -> new Node.LambdaParamterList(input.getTypeExpressionNode(0))));
+
+    int size = productionCount;
+    for (int production : reductions.keySet())
+      size = Math.max(size, production + 1);
+
+    Reduction[] reducers = new Reduction[size];
+    for (Map.Entry<Integer, Reduction> entry : reductions.entrySet())
+      reducers[entry.getKey()] = entry.getValue();
 
-    return reductions;
+    return reducers;
   }
 }
@@ -0,0 +1,186 @@
+package parser;
+
+import java.util.ArrayList;
+
+import interpreter.LoLangValue;
+import lexer.Symbol;
+import lexer.Token;
+import utils.Environment;
+import utils.EnvironmentException;
+
+/**
+ * Numbers the variables of a program after semantic analysis, so the
+ * interpreter keeps them in arrays of slots instead of looking them up by name.
+ * Every place that forks the context at runtime is a scope with its own
+ * Environment.Layout, and every declaration gets a slot in the layout of its
+ * scope.
+ *
+ * An identifier is bound to the slots of its name in the scopes around it,
+ * innermost first, each with the number of environments between the two. At
+ * runtime the first of them that is declared holds the variable, which is the
+ * one a lookup by name would find. When none is declared, as for builtins,
+ * imported variables and ones not declared yet, the identifier falls back to
+ * the lookup by name. A binding also checks that the environment it reaches
+ * has the layout it was made for, so a node evaluated in any other context
+ * still finds its variables by name.
+ *
+ * Programs are not resolved in lenient mode, where assigning to an undeclared
+ * variable declares it in whatever environment the assignment runs in.
+ */
+public class Resolver {
+  // the value of a resolved variable that was declared without one
+  static final LoLangValue UNASSIGNED = new LoLangValue.Null();
+
+  static class Binding {
+    final int depth;
+    final Environment.Layout layout;
+    final int slot;
+
+    Binding(int depth, Environment.Layout layout, int slot) {
+      this.depth = depth;
+      this.layout = layout;
+      this.slot = slot;
+    }
+  }
+
+  private static class Scope {
+    final Scope parent;
+    final Environment.Layout layout = new Environment.Layout();
+
+    Scope(Scope parent) {
+      this.parent = parent;
+    }
+  }
+
+  private Scope scope = null;
+
+  // identifiers are bound once every scope is complete, since a variable can
+  // be declared after a function that uses it
+  private final ArrayList<ExpressionNode.Identifier> identifiers = new ArrayList<>();
+  private final ArrayList<Scope> identifierScopes = new ArrayList<>();
+
+  private Resolver() {
+  }
+
+  /**
+   * Resolves the program and the files it imports, each of them only once
+   */
+  public static void resolve(StatementNode.Program program) {
+    if (program.layout != null)
+      return;
+
+    Resolver resolver = new Resolver();
+    program.resolve(resolver);
+    resolver.bindIdentifiers();
+  }
+
+  Environment.Layout enterScope() {
+    this.scope = new Scope(this.scope);
+    return this.scope.layout;
+  }
+
+  void exitScope() {
+    this.scope = this.scope.parent;
+  }
+
+  Binding declare(Token identifier, boolean constant) {
+    return new Binding(0, this.scope.layout, this.scope.layout.add(identifier.symbol, constant));
+  }
+
+  void use(ExpressionNode.Identifier identifier) {
+    this.identifiers.add(identifier);
+    this.identifierScopes.add(this.scope);
+  }
+
+  private void bindIdentifiers() {
+    ArrayList<Binding> bindings = new ArrayList<>();
+
+    for (int i = 0; i < this.identifiers.size(); i++) {
+      ExpressionNode.Identifier identifier = this.identifiers.get(i);
+      bindings.clear();
+
+      int depth = 0;
+      for (Scope scope = this.identifierScopes.get(i); scope != null; scope = scope.parent, depth++) {
+        int[] slots = scope.layout.getSlots(identifier.identifier.symbol);
+        if (slots != null)
+          for (int slot : slots)
+            bindings.add(new Binding(depth, scope.layout, slot));
+      }
+
+      identifier.bindings = bindings.toArray(new Binding[bindings.size()]);
+    }
+  }
+
+  /**
+   * The value of the first declared binding, null if the variable has to be
+   * looked up by name
+   */
+  static LoLangValue get(Environment<LoLangValue> environment, Binding[] bindings) {
+    int depth = 0;
+
+    for (Binding binding : bindings) {
+      for (; depth < binding.depth && environment != null; depth++)
+        environment = environment.parent;
+
+      // the environments are not the ones of the scopes the node was resolved in
+      if (environment == null || environment.layout != binding.layout)
+        return null;
+
+      LoLangValue value = environment.slots[binding.slot];
+      if (value != null)
+        return value;
+    }
+
+    return null;
+  }
+
+  /**
+   * Assigns the first declared binding, false if the variable has to be
+   * assigned by name
+   */
+  static boolean assign(Environment<LoLangValue> environment, Binding[] bindings, LoLangValue value)
+      throws EnvironmentException.EnvironmentUndeclaredException {
+    int depth = 0;
+
+    for (Binding binding : bindings) {
+      for (; depth < binding.depth && environment != null; depth++)
+        environment = environment.parent;
+
+      if (environment == null || environment.layout != binding.layout)
+        return false;
+
+      if (environment.slots[binding.slot] == null)
+        continue;
+
+      if (binding.layout.isConstant(binding.slot))
+        throw new EnvironmentException.EnvironmentUndeclaredException(
+            "Cannot assign to constant variable \"" + binding.layout.getName(binding.slot).name + "\"");
+
+      environment.slots[binding.slot] = value;
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Declares the variable in the slot of its binding, or by name if it was not
+   * resolved for this environment. A null value declares it without one.
+   */
+  static void define(Environment<LoLangValue> environment, Binding binding, Symbol name, LoLangValue value,
+      boolean constant) throws EnvironmentException.EnvironmentAlreadyDeclaredException {
+    if (binding != null && environment.layout == binding.layout)
+      environment.defineSlot(binding.slot, value != null ? value : UNASSIGNED);
+    else
+      environment.define(name, value, constant);
+  }
+
+  static void tryDefine(Environment<LoLangValue> environment, Binding binding, Symbol name, LoLangValue value,
+      boolean constant) {
+    try {
+      define(environment, binding, name, value, constant);
+    } catch (EnvironmentException.EnvironmentAlreadyDeclaredException e) {
+      System.out.println("INVARIANT - reached here");
+    }
+  }
+}
@@ -1,18 +1,18 @@
 package parser;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
-import java.util.Scanner;
 import java.util.stream.Collectors;
 
+import interpreter.Completion;
 import interpreter.ExecutionContext;
 import interpreter.Global;
 import interpreter.RuntimeError;
 import interpreter.LoLangThrowable;
 import interpreter.LoLangValue;
+import lexer.Symbol;
 import lexer.Token;
 import lexer.TokenType;
 import parser.Node.SwitchCaseList.SwitchCase;
@@ -22,17 +22,39 @@ import semantic.SemanticContext;
 import semantic.SemanticContext.Scope;
 import utils.Caster;
 import utils.DOTGenerator;
-import utils.ErrorWindowBuilder;
+import utils.Environment;
 import utils.EnvironmentException.EnvironmentAlreadyDeclaredException;
+import utils.ModuleRegistry;
 
 public abstract class StatementNode extends Node {
-  public abstract void execute(ExecutionContext context, ExecutionContext dynamicContext);
+  /**
+   * Runs the statement, the completion says whether control continues with the
+   * next statement or moves elsewhere
+   */
+  public abstract Completion execute(ExecutionContext context, ExecutionContext dynamicContext);
 
   abstract void semanticAnalysis(SemanticContext context);
 
+  abstract void resolve(Resolver resolver);
+
+  // runs the statements in order, until one of them does not complete normally
+  static Completion executeStatementList(StatementList statements, ExecutionContext context,
+      ExecutionContext dynamicContext) {
+    for (StatementNode statement : statements.statements) {
+      Completion completion = statement.execute(context, dynamicContext);
+      if (completion != Completion.NORMAL)
+        return completion;
+    }
+
+    return Completion.NORMAL;
+  }
+
   public static class Program extends StatementNode {
     StatementList statements;
 
+    // the scope of the global environment, set by the Resolver
+    transient Environment.Layout layout = null;
+
     Program(StatementList statements) {
       this.statements = statements;
     }
@@ -41,6 +63,14 @@ public abstract class StatementNode extends Node {
       this.statements = new StatementList();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.statements);
+    }
+
+    static Program read(NodeSerializer.Reader reader) {
+      return new Program(reader.readNode());
+    }
+
     public String toString() {
       String statementsString = String.join("\n", this.statements.toString());
       return String.format("[Program: %s]", statementsString);
@@ -52,9 +82,11 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.statements.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
-      for (StatementNode statement : this.statements.statements)
-        statement.execute(context, dynamicContext);
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
+      if (this.layout != null)
+        context.useLayout(this.layout);
+
+      return executeStatementList(this.statements, context, dynamicContext);
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -63,6 +95,15 @@ public abstract class StatementNode extends Node {
       for (StatementNode statement : this.statements.statements)
         statement.semanticAnalysis(context);
     }
+
+    void resolve(Resolver resolver) {
+      this.layout = resolver.enterScope();
+
+      for (StatementNode statement : this.statements.statements)
+        statement.resolve(resolver);
+
+      resolver.exitScope();
+    }
   }
 
   public static class Import extends StatementNode {
@@ -77,12 +118,23 @@ public abstract class StatementNode extends Node {
     }
 
     Token token;
-    Node root = null;
+
+    // the tree of the imported file is shared by every import of it, so it is
+    // not serialized with the importing file
+    transient Node root = null;
 
     Import(Token token) {
       this.token = token;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.token);
+    }
+
+    static Import read(NodeSerializer.Reader reader) {
+      return new Import(reader.readToken());
+    }
+
     public String toString() {
       return String.format("[Import: %s]", this.token.lexeme.replace("\"", "\'"));
     }
@@ -96,38 +148,34 @@ public abstract class StatementNode extends Node {
       return Paths.get(Paths.get(this.token.sourcePath).getParent().toString(), this.token.lexeme);
     }
 
-    public void getSyntaxTree(LR1Parser parser) {
-      File file = getPath().toFile();
-
-      if (!file.exists()) {
-        ErrorWindowBuilder
-            .printErrors(new ParserException(String.format("Cannot find file \"%s\"", file.getPath()), this.token));
-        return;
-      }
-
-      try {
-        Scanner scanner = new Scanner(file);
-        String source = scanner.hasNext() ? scanner.useDelimiter("\\Z").next() + "\n" : "\n";
-        scanner.close();
-
-        ParserResult result = parser.parse(source, file.getPath());
-        root = result.root;
+    // the imported file, its tree is set by the ModuleLoader
+    File getFile() {
+      return getPath().toFile();
+    }
 
-        for (ParserException e : result.errors)
-          ErrorWindowBuilder.printErrors(e);
-      } catch (FileNotFoundException e) {
-      }
+    private String getCanonicalPath() {
+      return ModuleLoader.canonical(getFile()).getPath();
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       if (root == null) {
         throw new RuntimeError("Failed to parse file " + getPath().toAbsolutePath(), token);
       }
 
-      StatementNode.Program program = (StatementNode.Program) root;
-      ExecutionContext newContext = Global.createGlobalExecutionContext();
-      program.execute(newContext, dynamicContext);
-      context.environment.siblings.add(newContext.environment);
+      // the file only runs the first time it is imported
+      ModuleRegistry.Module module = context.modules.get(getCanonicalPath());
+      if (module.environment == null) {
+        StatementNode.Program program = (StatementNode.Program) root;
+        ExecutionContext newContext = Global.createGlobalExecutionContext(context.modules);
+        Completion completion = program.execute(newContext, dynamicContext);
+        if (completion != Completion.NORMAL)
+          return completion;
+
+        module.environment = newContext.environment;
+      }
+
+      context.environment.addSibling(module.environment);
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -137,12 +185,24 @@ public abstract class StatementNode extends Node {
         return;
       }
 
-      StatementNode.Program program = (StatementNode.Program) root;
-      SemanticContext newContext = Global.createGlobalSemanticContext();
-      program.semanticAnalysis(newContext);
+      ModuleRegistry.Module module = context.modules.get(getCanonicalPath());
+      if (module.typeEnvironment == null) {
+        StatementNode.Program program = (StatementNode.Program) root;
+        SemanticContext newContext = Global.createGlobalSemanticContext(context.modules);
+        program.semanticAnalysis(newContext);
 
-      context.typeEnvironment.siblings.add(newContext.typeEnvironment);
-      context.variableEnvironment.siblings.add(newContext.variableEnvironment);
+        module.typeEnvironment = newContext.typeEnvironment;
+        module.variableEnvironment = newContext.variableEnvironment;
+      }
+
+      context.typeEnvironment.addSibling(module.typeEnvironment);
+      context.variableEnvironment.addSibling(module.variableEnvironment);
+    }
+
+    // the imported file runs in a global environment of its own
+    void resolve(Resolver resolver) {
+      if (root instanceof StatementNode.Program)
+        Resolver.resolve((StatementNode.Program) root);
     }
   }
 
@@ -150,6 +210,9 @@ public abstract class StatementNode extends Node {
     Node.IfStatementBranches branches;
     StatementNode elseBody;
 
+    // the scope the branches run in, the else body runs in the enclosing one
+    transient Environment.Layout layout = null;
+
     If(Node.IfStatementBranches branches, StatementNode elseBody) {
       this.elseBody = elseBody;
       this.branches = branches;
@@ -160,6 +223,15 @@ public abstract class StatementNode extends Node {
       this.elseBody = null;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.branches);
+      writer.writeNode(this.elseBody);
+    }
+
+    static If read(NodeSerializer.Reader reader) {
+      return new If(reader.readNode(), reader.readNode());
+    }
+
     public String toString() {
       if (this.elseBody == null) {
         return String.format("[If: %s]", this.branches.toString());
@@ -180,8 +252,8 @@ public abstract class StatementNode extends Node {
       }
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
-      ExecutionContext forkedContext = context.fork();
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
+      ExecutionContext forkedContext = context.fork(this.layout);
 
       for (IfStatementBranch branch : this.branches.clauses) {
         // Evaluate the condition inside the branch
@@ -198,12 +270,13 @@ public abstract class StatementNode extends Node {
           continue;
 
         // Execute the body of the branch
-        branch.body.execute(forkedContext, dynamicContext);
-        return;
+        return branch.body.execute(forkedContext, dynamicContext);
       }
 
       if (this.elseBody != null)
-        this.elseBody.execute(context, dynamicContext);
+        return this.elseBody.execute(context, dynamicContext);
+
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -222,6 +295,19 @@ public abstract class StatementNode extends Node {
       if (this.elseBody != null)
         this.elseBody.semanticAnalysis(context);
     }
+
+    void resolve(Resolver resolver) {
+      for (IfStatementBranch branch : this.branches.clauses)
+        branch.condition.resolve(resolver);
+
+      this.layout = resolver.enterScope();
+      for (IfStatementBranch branch : this.branches.clauses)
+        branch.body.resolve(resolver);
+      resolver.exitScope();
+
+      if (this.elseBody != null)
+        this.elseBody.resolve(resolver);
+    }
   }
 
   public static class VariableDeclaration extends StatementNode {
@@ -231,6 +317,14 @@ public abstract class StatementNode extends Node {
       this.declaration = declaration;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.declaration);
+    }
+
+    static VariableDeclaration read(NodeSerializer.Reader reader) {
+      return new VariableDeclaration(reader.readNode());
+    }
+
     public String toString() {
       return this.declaration.toString();
     }
@@ -239,20 +333,22 @@ public abstract class StatementNode extends Node {
       this.declaration.toDot(builder);
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       try {
         this.declaration.addToContext(context, dynamicContext);
       } catch (EnvironmentAlreadyDeclaredException e) {
         throw new RuntimeError("Cannot redeclare variable \"" + this.declaration.identifier.lexeme + "\"",
             this.declaration.identifier);
       }
+
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
       LoLangType declarationType = this.declaration.type.evaluate(context);
 
       try {
-        context.variableEnvironment.define(this.declaration.identifier.lexeme, declarationType,
+        context.variableEnvironment.define(this.declaration.identifier.symbol, declarationType,
             false);
       } catch (EnvironmentAlreadyDeclaredException e) {
         context.exceptions.add(
@@ -273,6 +369,10 @@ public abstract class StatementNode extends Node {
         }
       }
     }
+
+    void resolve(Resolver resolver) {
+      this.declaration.resolve(resolver);
+    }
   }
 
   public static class ConstantDeclaration extends StatementNode {
@@ -280,12 +380,24 @@ public abstract class StatementNode extends Node {
     TypeExpressionNode type;
     ExpressionNode expression;
 
+    transient Resolver.Binding binding = null;
+
     ConstantDeclaration(Token identifier, TypeExpressionNode type, ExpressionNode expression) {
       this.identifier = identifier;
       this.type = type;
       this.expression = expression;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.identifier);
+      writer.writeNode(this.type);
+      writer.writeNode(this.expression);
+    }
+
+    static ConstantDeclaration read(NodeSerializer.Reader reader) {
+      return new ConstantDeclaration(reader.readToken(), reader.readNode(), reader.readNode());
+    }
+
     public String toString() {
       return String.format("[ConstantDeclaration: [Name=%s] [Type=%s] [Init=%s]]",
           this.identifier.lexeme.replace("\"", "\'"),
@@ -304,28 +416,38 @@ public abstract class StatementNode extends Node {
       }
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       try {
-        context.environment.define(this.identifier.lexeme, this.expression.evaluate(context, dynamicContext), true);
+        Resolver.define(context.environment, this.binding, this.identifier.symbol,
+            this.expression.evaluate(context, dynamicContext), true);
       } catch (EnvironmentAlreadyDeclaredException e) {
         throw new RuntimeError("Cannot redeclare constant \"" + this.identifier.lexeme + "\"", this.identifier);
       }
+
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
       try {
-        context.variableEnvironment.define(this.identifier.lexeme, this.expression.evaluateType(context), true);
+        context.variableEnvironment.define(this.identifier.symbol, this.expression.evaluateType(context), true);
       } catch (EnvironmentAlreadyDeclaredException e) {
         context.exceptions.add(
             new SemanticAnalyzerException("Cannot redeclare constant \"" + this.identifier.lexeme + "\"",
                 this.identifier));
       }
     }
+
+    void resolve(Resolver resolver) {
+      this.expression.resolve(resolver);
+      this.binding = resolver.declare(this.identifier, true);
+    }
   }
 
   public static class Block extends StatementNode {
     Node.StatementList statements;
 
+    transient Environment.Layout layout = null;
+
     Block(Node.StatementList statements) {
       this.statements = statements;
     }
@@ -334,6 +456,14 @@ public abstract class StatementNode extends Node {
       this.statements = new Node.StatementList();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.statements);
+    }
+
+    static Block read(NodeSerializer.Reader reader) {
+      return new Block(reader.readNode());
+    }
+
     public String toString() {
       String statementsString = String.join("\n", this.statements.toString());
       return String.format("[Block: %s]", statementsString);
@@ -345,11 +475,9 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.statements.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
-      ExecutionContext forkedContext = context.fork();
-
-      for (StatementNode statement : this.statements.statements)
-        statement.execute(forkedContext, dynamicContext);
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
+      ExecutionContext forkedContext = context.fork(this.layout);
+      return executeStatementList(this.statements, forkedContext, dynamicContext);
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -359,6 +487,15 @@ public abstract class StatementNode extends Node {
       for (StatementNode statement : this.statements.statements)
         statement.semanticAnalysis(forkedContext);
     }
+
+    void resolve(Resolver resolver) {
+      this.layout = resolver.enterScope();
+
+      for (StatementNode statement : this.statements.statements)
+        statement.resolve(resolver);
+
+      resolver.exitScope();
+    }
   }
 
   public static class Return extends StatementNode {
@@ -375,6 +512,15 @@ public abstract class StatementNode extends Node {
       this.expression = null;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.returnToken);
+      writer.writeNode(this.expression);
+    }
+
+    static Return read(NodeSerializer.Reader reader) {
+      return new Return(reader.readToken(), reader.readNode());
+    }
+
     public String toString() {
       return this.expression != null ? String.format("[Return: %s]", this.expression.toString()) : "[Return]";
     }
@@ -388,8 +534,8 @@ public abstract class StatementNode extends Node {
       }
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
-      throw new LoLangThrowable.Return(
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
+      return new Completion.Return(
           this.expression != null ? this.expression.evaluate(context, dynamicContext) : null, this.returnToken);
     }
 
@@ -426,6 +572,11 @@ public abstract class StatementNode extends Node {
             this.returnToken));
       }
     }
+
+    void resolve(Resolver resolver) {
+      if (this.expression != null)
+        this.expression.resolve(resolver);
+    }
   }
 
   public static class TryCatch extends StatementNode {
@@ -433,12 +584,26 @@ public abstract class StatementNode extends Node {
     Token identifier;
     StatementNode catchBody;
 
+    transient Environment.Layout bodyLayout = null;
+    transient Environment.Layout catchLayout = null;
+    transient Resolver.Binding binding = null;
+
     TryCatch(StatementNode body, Token identifier, StatementNode catchBody) {
       this.body = body;
       this.identifier = identifier;
       this.catchBody = catchBody;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.body);
+      writer.writeToken(this.identifier);
+      writer.writeNode(this.catchBody);
+    }
+
+    static TryCatch read(NodeSerializer.Reader reader) {
+      return new TryCatch(reader.readNode(), reader.readToken(), reader.readNode());
+    }
+
     public String toString() {
       return String.format("[TryCatch: %s %s %s]", this.body.toString(), this.identifier, this.catchBody.toString());
     }
@@ -453,15 +618,15 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.catchBody.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       try {
-        ExecutionContext forkedContext = context.fork();
-        this.body.execute(forkedContext, dynamicContext);
+        ExecutionContext forkedContext = context.fork(this.bodyLayout);
+        return this.body.execute(forkedContext, dynamicContext);
       } catch (LoLangThrowable.Error errorException) {
-        ExecutionContext forkedContext = context.fork();
-        forkedContext.environment.tryDefine(identifier.lexeme, new LoLangValue.String(errorException.token.lexeme),
-            true);
-        this.catchBody.execute(forkedContext, dynamicContext);
+        ExecutionContext forkedContext = context.fork(this.catchLayout);
+        Resolver.tryDefine(forkedContext.environment, this.binding, identifier.symbol,
+            new LoLangValue.String(errorException.token.lexeme), true);
+        return this.catchBody.execute(forkedContext, dynamicContext);
       }
     }
 
@@ -470,10 +635,21 @@ public abstract class StatementNode extends Node {
       this.body.semanticAnalysis(forkedContext);
 
       SemanticContext forkedCatchContext = context.fork();
-      forkedCatchContext.variableEnvironment.tryDefine(this.identifier.lexeme, new LoLangType.String(), true);
+      forkedCatchContext.variableEnvironment.tryDefine(this.identifier.symbol, new LoLangType.String(), true);
 
       this.catchBody.semanticAnalysis(forkedCatchContext);
     }
+
+    void resolve(Resolver resolver) {
+      this.bodyLayout = resolver.enterScope();
+      this.body.resolve(resolver);
+      resolver.exitScope();
+
+      this.catchLayout = resolver.enterScope();
+      this.binding = resolver.declare(this.identifier, true);
+      this.catchBody.resolve(resolver);
+      resolver.exitScope();
+    }
   }
 
   public static class Throw extends StatementNode {
@@ -483,6 +659,14 @@ public abstract class StatementNode extends Node {
       this.errorMessasge = errorMessasge;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.errorMessasge);
+    }
+
+    static Throw read(NodeSerializer.Reader reader) {
+      return new Throw(reader.readToken());
+    }
+
     public String toString() {
       return String.format("[Throw: %s]", this.errorMessasge.lexeme.replace("\"", "\'"));
     }
@@ -491,13 +675,16 @@ public abstract class StatementNode extends Node {
       builder.addNode(this.hashCode(), "Throw [errorMessage=" + this.errorMessasge.lexeme.replace("\"", "\'") + "]");
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       throw new LoLangThrowable.Error(errorMessasge);
     }
 
     public void semanticAnalysis(SemanticContext context) {
       // no static analysis is required for throw statements
     }
+
+    void resolve(Resolver resolver) {
+    }
   }
 
   public static class Switch extends StatementNode {
@@ -517,6 +704,16 @@ public abstract class StatementNode extends Node {
       this.leftParenToken = leftParenToken;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.expr);
+      writer.writeNode(this.cases);
+      writer.writeToken(this.leftParenToken);
+    }
+
+    static Switch read(NodeSerializer.Reader reader) {
+      return new Switch(reader.readNode(), reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       return String.format("[Switch: %s %s]", this.expr.toString(), this.cases.toString());
     }
@@ -530,50 +727,56 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.cases.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       LoLangValue value = this.expr.evaluate(context, dynamicContext);
       if (!(value instanceof LoLangValue.Number) && !(value instanceof LoLangValue.String)) {
         throw new RuntimeError("Switch expression value be a number or string", this.leftParenToken);
       }
 
       for (SwitchCase caseNode : this.cases.namedCases) {
-        if (isValueEqualWithToken(value, caseNode.literal)) {
-          executeStatementsWithBreak(caseNode.statements, context, dynamicContext);
-          return;
-        }
+        if (isValueEqualWithToken(value, caseNode.literal))
+          return executeStatementsWithBreak(caseNode.statements, context, dynamicContext);
       }
 
       // if no case matched, execute default case
       if (this.cases.defaultCase != null)
-        executeStatementsWithBreak(this.cases.defaultCase.statements, context, dynamicContext);
+        return executeStatementsWithBreak(this.cases.defaultCase.statements, context, dynamicContext);
+
+      return Completion.NORMAL;
     }
 
-    void executeStatements(Block statements, ExecutionContext context, ExecutionContext dynamicContext) {
-      try {
-        statements.execute(context, dynamicContext);
-      } catch (LoLangThrowable.SwitchGoto gotoException) {
-        for (SwitchCase caseNode : this.cases.namedCases) {
-          if (isValueEqualWithToken(gotoException.label, caseNode.literal)) {
-            executeStatements(caseNode.statements, context, dynamicContext);
-            break;
-          }
-        }
+    Completion executeStatements(Block statements, ExecutionContext context, ExecutionContext dynamicContext) {
+      Completion completion = statements.execute(context, dynamicContext);
+      if (!(completion instanceof Completion.SwitchGoto))
+        return completion;
 
-        // if no case matched, we should rethrow the exception since maybe there's
-        // another switch case in the parent
-        throw gotoException;
+      Completion.SwitchGoto gotoCompletion = (Completion.SwitchGoto) completion;
+      for (SwitchCase caseNode : this.cases.namedCases) {
+        if (isValueEqualWithToken(gotoCompletion.label, caseNode.literal)) {
+          Completion caseCompletion = executeStatements(caseNode.statements, context, dynamicContext);
+          if (caseCompletion != Completion.NORMAL)
+            return caseCompletion;
+          break;
+        }
       }
+
+      // if no case matched, we should pass the goto on since maybe there's
+      // another switch case in the parent
+      return gotoCompletion;
     }
 
-    void executeStatementsWithBreak(Block statements, ExecutionContext context, ExecutionContext dynamicContext) {
-      try {
-        executeStatements(statements, context, dynamicContext);
-      } catch (LoLangThrowable.SwitchBreak breakException) {
-        return;
-      } catch (LoLangThrowable.SwitchGoto gotoException) {
-        // this is an actual interpreter error
-        throw new RuntimeError("Encountered goto statement with no matching case", gotoException.source);
-      }
+    Completion executeStatementsWithBreak(Block statements, ExecutionContext context,
+        ExecutionContext dynamicContext) {
+      Completion completion = executeStatements(statements, context, dynamicContext);
+      if (completion instanceof Completion.SwitchBreak)
+        return Completion.NORMAL;
+
+      // this is an actual interpreter error
+      if (completion instanceof Completion.SwitchGoto)
+        throw new RuntimeError("Encountered goto statement with no matching case",
+            ((Completion.SwitchGoto) completion).source);
+
+      return completion;
     }
 
     static boolean isValueEqualWithToken(LoLangValue value, Token token) {
@@ -637,6 +840,16 @@ public abstract class StatementNode extends Node {
         this.cases.defaultCase.statements.semanticAnalysis(forkedContext);
       }
     }
+
+    void resolve(Resolver resolver) {
+      this.expr.resolve(resolver);
+
+      for (SwitchCase caseNode : this.cases.namedCases)
+        caseNode.statements.resolve(resolver);
+
+      if (this.cases.defaultCase != null)
+        this.cases.defaultCase.statements.resolve(resolver);
+    }
   }
 
   public static class SwitchBreak extends StatementNode {
@@ -646,6 +859,14 @@ public abstract class StatementNode extends Node {
       this.token = token;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.token);
+    }
+
+    static SwitchBreak read(NodeSerializer.Reader reader) {
+      return new SwitchBreak(reader.readToken());
+    }
+
     public String toString() {
       return "[SwitchBreak]";
     }
@@ -654,8 +875,8 @@ public abstract class StatementNode extends Node {
       builder.addNode(this.hashCode(), "SwitchBreak");
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
-      throw new LoLangThrowable.SwitchBreak(this.token);
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
+      return new Completion.SwitchBreak(this.token);
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -666,6 +887,9 @@ public abstract class StatementNode extends Node {
           new SemanticAnalyzerException("Switch break is not allowed outside of switch case body",
               this.token));
     }
+
+    void resolve(Resolver resolver) {
+    }
   }
 
   public static class SwitchGoto extends StatementNode {
@@ -677,6 +901,15 @@ public abstract class StatementNode extends Node {
       this.gotoTargetToken = gotoTargetToken;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.gotoKeywordToken);
+      writer.writeToken(this.gotoTargetToken);
+    }
+
+    static SwitchGoto read(NodeSerializer.Reader reader) {
+      return new SwitchGoto(reader.readToken(), reader.readToken());
+    }
+
     public String toString() {
       return String.format("[SwitchGoto: %s]", this.gotoTargetToken.lexeme.replace("\"", "\'"));
     }
@@ -685,12 +918,12 @@ public abstract class StatementNode extends Node {
       builder.addNode(this.hashCode(), "SwitchGoto [lexeme=" + this.gotoTargetToken.lexeme.replace("\"", "\'") + "]");
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       LoLangValue value = gotoTargetToken.type == TokenType.STRING_LITERAL
           ? new LoLangValue.String(gotoTargetToken.lexeme)
           : new LoLangValue.Number(Double.parseDouble(gotoTargetToken.lexeme));
 
-      throw new LoLangThrowable.SwitchGoto(value, this.gotoTargetToken, gotoKeywordToken);
+      return new Completion.SwitchGoto(value, this.gotoTargetToken, gotoKeywordToken);
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -722,6 +955,9 @@ public abstract class StatementNode extends Node {
               this.gotoTargetToken.lexeme, possibleLabels),
           this.gotoTargetToken));
     }
+
+    void resolve(Resolver resolver) {
+    }
   }
 
   public static class ForEachLoop extends StatementNode {
@@ -731,6 +967,10 @@ public abstract class StatementNode extends Node {
     StatementNode statement;
     Token ofToken;
 
+    // the scope of a single iteration
+    transient Environment.Layout layout = null;
+    transient Resolver.Binding binding = null;
+
     ForEachLoop(Token variableIdentifier, TypeExpressionNode type, ExpressionNode iterator, StatementNode stmt,
         Token ofToken) {
       this.variableIdentifier = variableIdentifier;
@@ -740,6 +980,19 @@ public abstract class StatementNode extends Node {
       this.ofToken = ofToken;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.variableIdentifier);
+      writer.writeNode(this.type);
+      writer.writeNode(this.iterator);
+      writer.writeNode(this.statement);
+      writer.writeToken(this.ofToken);
+    }
+
+    static ForEachLoop read(NodeSerializer.Reader reader) {
+      return new ForEachLoop(reader.readToken(), reader.readNode(), reader.readNode(), reader.readNode(),
+          reader.readToken());
+    }
+
     public String toString() {
       return String.format("[ForEachLoop: [Lexeme: %s] [Type: %s] [Iterator: %s] [Body: %s]]",
           this.variableIdentifier.lexeme.replace("\"", "\'"),
@@ -759,7 +1012,7 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.statement.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       LoLangValue iteratorValue = this.iterator.evaluate(context, dynamicContext);
       if (!(iteratorValue instanceof LoLangValue.Array))
         throw new RuntimeError("Iterate value must be an array", this.ofToken);
@@ -767,17 +1020,17 @@ public abstract class StatementNode extends Node {
       LoLangValue.Array array = (LoLangValue.Array) iteratorValue;
 
       for (LoLangValue value : array.values) {
-        ExecutionContext forkedContext = context.fork();
-        forkedContext.environment.tryDefine(this.variableIdentifier.lexeme, value, false);
+        ExecutionContext forkedContext = context.fork(this.layout);
+        Resolver.tryDefine(forkedContext.environment, this.binding, this.variableIdentifier.symbol, value, false);
 
-        try {
-          this.statement.execute(forkedContext, dynamicContext);
-        } catch (LoLangThrowable.LoopBreak breakException) {
+        Completion completion = this.statement.execute(forkedContext, dynamicContext);
+        if (completion instanceof Completion.LoopBreak)
           break;
-        } catch (LoLangThrowable.LoopContinue continueException) {
-          continue;
-        }
+        if (completion != Completion.NORMAL && !(completion instanceof Completion.LoopContinue))
+          return completion;
       }
+
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -806,9 +1059,18 @@ public abstract class StatementNode extends Node {
 
       SemanticContext forkedContext = context.fork();
       forkedContext.pushScope(Scope.LOOP_BODY);
-      forkedContext.variableEnvironment.tryDefine(this.variableIdentifier.lexeme, elementType, true);
+      forkedContext.variableEnvironment.tryDefine(this.variableIdentifier.symbol, elementType, true);
       this.statement.semanticAnalysis(forkedContext);
     }
+
+    void resolve(Resolver resolver) {
+      this.iterator.resolve(resolver);
+
+      this.layout = resolver.enterScope();
+      this.binding = resolver.declare(this.variableIdentifier, false);
+      this.statement.resolve(resolver);
+      resolver.exitScope();
+    }
   }
 
   public static class CounterControlledLoop extends StatementNode {
@@ -818,6 +1080,10 @@ public abstract class StatementNode extends Node {
     StatementNode stmt;
     Token conditionSemicolonToken;
 
+    // the scope of the header, shared by every iteration, and of one iteration
+    transient Environment.Layout headerLayout = null;
+    transient Environment.Layout bodyLayout = null;
+
     private CounterControlledLoop(CounterLoopInit init, ExpressionNode condition, ExpressionList increment,
         StatementNode stmt, Token conditionSemicolonToken) {
       this.init = init;
@@ -827,6 +1093,19 @@ public abstract class StatementNode extends Node {
       this.conditionSemicolonToken = conditionSemicolonToken;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.init);
+      writer.writeNode(this.condition);
+      writer.writeNode(this.increment);
+      writer.writeNode(this.stmt);
+      writer.writeToken(this.conditionSemicolonToken);
+    }
+
+    static CounterControlledLoop read(NodeSerializer.Reader reader) {
+      return new CounterControlledLoop(reader.readNode(), reader.readNode(), reader.readNode(), reader.readNode(),
+          reader.readToken());
+    }
+
     public static CounterControlledLoop all(CounterLoopInit init, ExpressionNode condition, ExpressionList increment,
         StatementNode stmt, Token conditionSemicolonToken) {
       return new CounterControlledLoop(init, condition, increment, stmt, conditionSemicolonToken);
@@ -905,8 +1184,8 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.stmt.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
-      ExecutionContext forkedContext = context.fork();
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
+      ExecutionContext forkedContext = context.fork(this.headerLayout);
 
       // Run init by adding declarations to the shared context across all runs
       if (this.init != null)
@@ -935,13 +1214,12 @@ public abstract class StatementNode extends Node {
             break;
         }
 
-        try {
-          ExecutionContext loopBodyContext = forkedContext.fork();
-          this.stmt.execute(loopBodyContext, dynamicContext);
-        } catch (LoLangThrowable.LoopBreak breakException) {
+        ExecutionContext loopBodyContext = forkedContext.fork(this.bodyLayout);
+        Completion completion = this.stmt.execute(loopBodyContext, dynamicContext);
+        if (completion instanceof Completion.LoopBreak)
           break;
-        } catch (LoLangThrowable.LoopContinue continueException) {
-        }
+        if (completion != Completion.NORMAL && !(completion instanceof Completion.LoopContinue))
+          return completion;
 
         if (this.increment != null)
           for (ExpressionNode increment : this.increment.expressions)
@@ -949,6 +1227,8 @@ public abstract class StatementNode extends Node {
 
         continue;
       }
+
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -957,7 +1237,7 @@ public abstract class StatementNode extends Node {
 
       if (this.init != null) {
         for (Node.VariableDeclaration init : this.init.declarations)
-          forkedContext.variableEnvironment.tryDefine(init.identifier.lexeme, init.type.evaluate(context), false);
+          forkedContext.variableEnvironment.tryDefine(init.identifier.symbol, init.type.evaluate(context), false);
       }
 
       if (this.condition != null) {
@@ -975,6 +1255,27 @@ public abstract class StatementNode extends Node {
       loopBodyContext.pushScope(Scope.LOOP_BODY);
       this.stmt.semanticAnalysis(loopBodyContext);
     }
+
+    void resolve(Resolver resolver) {
+      this.headerLayout = resolver.enterScope();
+
+      if (this.init != null)
+        for (Node.VariableDeclaration declaration : this.init.declarations)
+          declaration.resolve(resolver);
+
+      if (this.condition != null)
+        this.condition.resolve(resolver);
+
+      if (this.increment != null)
+        for (ExpressionNode increment : this.increment.expressions)
+          increment.resolve(resolver);
+
+      this.bodyLayout = resolver.enterScope();
+      this.stmt.resolve(resolver);
+      resolver.exitScope();
+
+      resolver.exitScope();
+    }
   }
 
   public static class LoopBreak extends StatementNode {
@@ -984,6 +1285,14 @@ public abstract class StatementNode extends Node {
       this.token = token;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.token);
+    }
+
+    static LoopBreak read(NodeSerializer.Reader reader) {
+      return new LoopBreak(reader.readToken());
+    }
+
     public String toString() {
       return "[LoopBreak]";
     }
@@ -992,8 +1301,8 @@ public abstract class StatementNode extends Node {
       builder.addNode(this.hashCode(), "LoopBreak");
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
-      throw new LoLangThrowable.LoopBreak(token);
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
+      return new Completion.LoopBreak(token);
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -1003,6 +1312,9 @@ public abstract class StatementNode extends Node {
         return;
       }
     }
+
+    void resolve(Resolver resolver) {
+    }
   }
 
   public static class LoopContinue extends StatementNode {
@@ -1012,6 +1324,14 @@ public abstract class StatementNode extends Node {
       this.token = token;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.token);
+    }
+
+    static LoopContinue read(NodeSerializer.Reader reader) {
+      return new LoopContinue(reader.readToken());
+    }
+
     public String toString() {
       return "[LoopContinue]";
     }
@@ -1020,8 +1340,8 @@ public abstract class StatementNode extends Node {
       builder.addNode(this.hashCode(), "LoopContinue");
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
-      throw new LoLangThrowable.LoopContinue(token);
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
+      return new Completion.LoopContinue(token);
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -1030,6 +1350,9 @@ public abstract class StatementNode extends Node {
       context.addException(new SemanticAnalyzerException("Loop continue statement is not allowed outside of loop body",
           this.token));
     }
+
+    void resolve(Resolver resolver) {
+    }
   }
 
   public static class WhileLoop extends StatementNode {
@@ -1037,6 +1360,9 @@ public abstract class StatementNode extends Node {
     StatementNode statement;
     Token leftParenToken;
 
+    // the scope of a single iteration
+    transient Environment.Layout layout = null;
+
     WhileLoop(ExpressionNode condition, StatementNode statement, Token leftParenToken) {
       this.condition = condition;
       this.statement = statement;
@@ -1049,6 +1375,16 @@ public abstract class StatementNode extends Node {
       this.leftParenToken = leftParenToken;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.condition);
+      writer.writeNode(this.statement);
+      writer.writeToken(this.leftParenToken);
+    }
+
+    static WhileLoop read(NodeSerializer.Reader reader) {
+      return new WhileLoop(reader.readNode(), reader.readNode(), reader.readToken());
+    }
+
     public String toString() {
       if (this.condition == null)
         return String.format("[WhileLoop: %s]", this.statement.toString());
@@ -1069,7 +1405,7 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.statement.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       while (true) {
         LoLangValue condition = this.condition != null ? this.condition.evaluate(context, dynamicContext)
             : new LoLangValue.Boolean(true);
@@ -1084,15 +1420,15 @@ public abstract class StatementNode extends Node {
         if (conditionValue == false)
           break;
 
-        try {
-          ExecutionContext forkedContext = context.fork();
-          this.statement.execute(forkedContext, dynamicContext);
-        } catch (LoLangThrowable.LoopBreak breakException) {
+        ExecutionContext forkedContext = context.fork(this.layout);
+        Completion completion = this.statement.execute(forkedContext, dynamicContext);
+        if (completion instanceof Completion.LoopBreak)
           break;
-        } catch (LoLangThrowable.LoopContinue continueException) {
-          continue;
-        }
+        if (completion != Completion.NORMAL && !(completion instanceof Completion.LoopContinue))
+          return completion;
       }
+
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
@@ -1112,6 +1448,15 @@ public abstract class StatementNode extends Node {
       forkedContext.pushScope(Scope.LOOP_BODY);
       this.statement.semanticAnalysis(forkedContext);
     }
+
+    void resolve(Resolver resolver) {
+      if (this.condition != null)
+        this.condition.resolve(resolver);
+
+      this.layout = resolver.enterScope();
+      this.statement.resolve(resolver);
+      resolver.exitScope();
+    }
   }
 
   public static class Expression extends StatementNode {
@@ -1121,6 +1466,14 @@ public abstract class StatementNode extends Node {
       this.expression = expression;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.expression);
+    }
+
+    static Expression read(NodeSerializer.Reader reader) {
+      return new Expression(reader.readNode());
+    }
+
     public String toString() {
       return String.format("[Expression: %s]", this.expression.toString());
     }
@@ -1131,13 +1484,18 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.expression.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       this.expression.evaluate(context, dynamicContext);
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
       this.expression.evaluateType(context);
     }
+
+    void resolve(Resolver resolver) {
+      this.expression.resolve(resolver);
+    }
   }
 
   public static class ObjectTypeDeclaration extends StatementNode {
@@ -1154,6 +1512,15 @@ public abstract class StatementNode extends Node {
       this.properties = new Node.PropertyList();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.identifier);
+      writer.writeNode(this.properties);
+    }
+
+    static ObjectTypeDeclaration read(NodeSerializer.Reader reader) {
+      return new ObjectTypeDeclaration(reader.readToken(), reader.readNode());
+    }
+
     public String toString() {
       return String.format("[ObjectTypeDeclaration: %s]", this.properties.toString());
     }
@@ -1164,20 +1531,25 @@ public abstract class StatementNode extends Node {
       builder.addEdge(this.hashCode(), this.properties.hashCode());
     }
 
-    public void execute(ExecutionContext context, ExecutionContext dynamicContext) {
+    public Completion execute(ExecutionContext context, ExecutionContext dynamicContext) {
       // This method does nothing at runtime
+      return Completion.NORMAL;
     }
 
     public void semanticAnalysis(SemanticContext context) {
       // This method does nothing at analysis time
     }
 
+    void resolve(Resolver resolver) {
+      // Nothing to resolve, the declaration has no runtime effect
+    }
+
     public LoLangType.Object convertToType(SemanticContext context) {
-      HashMap<String, LoLangType> fields = new HashMap<>();
+      HashMap<Symbol, LoLangType> fields = new HashMap<>();
 
       for (Node.PropertyDefinition property : this.properties.definitions) {
         LoLangType type = property.type.evaluate(context);
-        fields.put(property.identifier.lexeme, type);
+        fields.put(property.identifier.symbol, type);
       }
 
       return new LoLangType.Object(fields);
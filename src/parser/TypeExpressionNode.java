@@ -22,6 +22,14 @@ public abstract class TypeExpressionNode extends Node {
       this.identifier = identifier;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeToken(this.identifier);
+    }
+
+    static Identifier read(NodeSerializer.Reader reader) {
+      return new Identifier(reader.readToken());
+    }
+
     public String toString() {
       return String.format("[TypeIdentifier: %s]", this.identifier.lexeme.replace("\"", "\'"));
     }
@@ -64,6 +72,14 @@ public abstract class TypeExpressionNode extends Node {
       this.elementType = elementType;
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.elementType);
+    }
+
+    static Array read(NodeSerializer.Reader reader) {
+      return new Array(reader.readNode());
+    }
+
     public String toString() {
       return String.format("[Array: (%s)[]]", this.elementType.toString());
     }
@@ -97,6 +113,15 @@ public abstract class TypeExpressionNode extends Node {
       this.parameterTypes = new Node.LambdaParamterList();
     }
 
+    void write(NodeSerializer.Writer writer) {
+      writer.writeNode(this.parameterTypes);
+      writer.writeNode(this.returnType);
+    }
+
+    static Lambda read(NodeSerializer.Reader reader) {
+      return new Lambda(reader.readNode(), reader.readNode());
+    }
+
     public String toString() {
       String parameterTypesString = String.join(", ", this.parameterTypes.toString());
       return String.format("[Lambda: (%s) -> %s]", parameterTypesString, this.returnType.toString());
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import interpreter.Global;
+import lexer.Symbol;
 import semantic.SemanticAnalyzerException.GenericReturnTypeException;
 
 public abstract class LoLangType {
@@ -13,9 +14,9 @@ public abstract class LoLangType {
   abstract public java.lang.String toString();
 
   public static interface DotGettable {
-    public boolean hasKey(java.lang.String key);
+    public boolean hasKey(Symbol key);
 
-    public LoLangType getKey(SemanticContext context, java.lang.String key);
+    public LoLangType getKey(SemanticContext context, Symbol key);
   }
 
   static abstract class Intrinsic extends LoLangType {
@@ -66,12 +67,12 @@ public abstract class LoLangType {
       return other instanceof Any ? true : other instanceof String;
     }
 
-    public boolean hasKey(java.lang.String key) {
-      return Global.StringMethods.containsKey(key);
+    public boolean hasKey(Symbol key) {
+      return Global.StringMethods.containsKey(key.name);
     }
 
-    public LoLangType getKey(SemanticContext context, java.lang.String key) {
-      return Global.StringMethods.get(key).type(this, null);
+    public LoLangType getKey(SemanticContext context, Symbol key) {
+      return Global.StringMethods.get(key.name).type(this, null);
     }
 
     public java.lang.String toString() {
@@ -101,19 +102,19 @@ public abstract class LoLangType {
       return this.elementType.toString() + "[]";
     }
 
-    public LoLangType getKey(SemanticContext context, java.lang.String key) {
-      return Global.ArrayMethods.get(key).type(this, context);
+    public LoLangType getKey(SemanticContext context, Symbol key) {
+      return Global.ArrayMethods.get(key.name).type(this, context);
     }
 
-    public boolean hasKey(java.lang.String key) {
-      return Global.ArrayMethods.containsKey(key);
+    public boolean hasKey(Symbol key) {
+      return Global.ArrayMethods.containsKey(key.name);
     }
   }
 
   public static class Object extends Intrinsic implements DotGettable {
-    HashMap<java.lang.String, LoLangType> fields;
+    HashMap<Symbol, LoLangType> fields;
 
-    public Object(HashMap<java.lang.String, LoLangType> fields) {
+    public Object(HashMap<Symbol, LoLangType> fields) {
       this.fields = fields;
     }
 
@@ -125,7 +126,7 @@ public abstract class LoLangType {
         return false;
 
       Object otherObject = (Object) other;
-      for (Map.Entry<java.lang.String, LoLangType> entry : this.fields.entrySet()) {
+      for (Map.Entry<Symbol, LoLangType> entry : this.fields.entrySet()) {
         if (!otherObject.fields.containsKey(entry.getKey()))
           return false;
 
@@ -135,7 +136,7 @@ public abstract class LoLangType {
 
       // commenting this adds polymorphism actually..
       // check if otherObject has more fields than what this type wants
-      for (Map.Entry<java.lang.String, LoLangType> entry : otherObject.fields.entrySet()) {
+      for (Map.Entry<Symbol, LoLangType> entry : otherObject.fields.entrySet()) {
         if (!this.fields.containsKey(entry.getKey()))
           return false;
       }
@@ -143,18 +144,18 @@ public abstract class LoLangType {
       return true;
     }
 
-    public boolean hasKey(java.lang.String key) {
+    public boolean hasKey(Symbol key) {
       return this.fields.containsKey(key);
     }
 
-    public LoLangType getKey(SemanticContext context, java.lang.String key) {
+    public LoLangType getKey(SemanticContext context, Symbol key) {
       return this.fields.get(key);
     }
 
     public java.lang.String toString() {
       java.lang.String ret = "{";
 
-      for (java.lang.String key : this.fields.keySet())
+      for (Symbol key : this.fields.keySet())
         ret += key + ": " + this.fields.get(key).toString() + ", ";
 
       return ret + "}";
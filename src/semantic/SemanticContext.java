@@ -3,12 +3,14 @@ package semantic;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import lexer.Symbol;
 import lexer.Token;
 import lexer.TokenType;
 import parser.StatementNode;
 import parser.Node.StatementList;
 import utils.Environment;
 import utils.EnvironmentException;
+import utils.ModuleRegistry;
 import utils.Environment.SymbolTableEntry;
 
 public class SemanticContext {
@@ -37,23 +39,32 @@ public class SemanticContext {
 
   public final ArrayList<SemanticAnalyzerException> exceptions;
 
+  // the imported files of the run, shared by every context of it
+  public final ModuleRegistry modules;
+
   @SuppressWarnings("unchecked")
   public SemanticContext(Environment<LoLangType> parentTypeEnvironment,
       Environment<LoLangType> parentVariableEnvironment, ArrayList<Scope> scopes, LoLangType returnType,
-      ArrayList<GotoLabel> gotoLabels, ArrayList<SemanticAnalyzerException> exceptions) {
+      ArrayList<GotoLabel> gotoLabels, ArrayList<SemanticAnalyzerException> exceptions, ModuleRegistry modules) {
     this.typeEnvironment = new Environment<LoLangType>(parentTypeEnvironment);
     this.variableEnvironment = new Environment<LoLangType>(parentVariableEnvironment);
     this.scopes = (ArrayList<Scope>) scopes.clone();
     this.returnType = returnType;
     this.gotoLabels = (ArrayList<GotoLabel>) gotoLabels.clone();
     this.exceptions = exceptions;
+    this.modules = modules;
   }
 
   public SemanticContext() {
+    this(new ModuleRegistry());
+  }
+
+  public SemanticContext(ModuleRegistry modules) {
     this.returnType = null;
     this.scopes = new ArrayList<>();
     this.gotoLabels = new ArrayList<>();
     this.exceptions = new ArrayList<>();
+    this.modules = modules;
   }
 
   ArrayList<SemanticContext> childrens = new ArrayList<>();
@@ -61,7 +72,7 @@ public class SemanticContext {
   public SemanticContext cleanFunctionFork(LoLangType returnType) {
     SemanticContext ret = new SemanticContext(typeEnvironment, variableEnvironment,
         new ArrayList<>(Arrays.asList(new Scope[] { Scope.FUNCTION_BODY })), returnType, new ArrayList<GotoLabel>(),
-        this.exceptions);
+        this.exceptions, modules);
 
     childrens.add(ret);
     return ret;
@@ -69,7 +80,7 @@ public class SemanticContext {
 
   public SemanticContext fork() {
     SemanticContext ret = new SemanticContext(typeEnvironment, variableEnvironment, scopes, returnType, gotoLabels,
-        exceptions);
+        exceptions, modules);
 
     childrens.add(ret);
     return ret;
@@ -111,8 +122,8 @@ public class SemanticContext {
   }
 
   private void printSymbolTableToParentR(int depth, Environment<LoLangType> local) {
-    for (String name : local.variables.keySet()) {
-      if (name.equals("dump_symbol_table"))
+    for (Symbol name : local.variables.keySet()) {
+      if (name.name.equals("dump_symbol_table"))
         continue;
 
       SymbolTableEntry<LoLangType> entry = local.variables.get(name);
@@ -149,8 +160,8 @@ public class SemanticContext {
                 + "=====================================================================================================================");
 
     if (variableEnvironment.variables.keySet().size() > 0) {
-      for (String name : variableEnvironment.variables.keySet()) {
-        if (name.equals("dump_symbol_table"))
+      for (Symbol name : variableEnvironment.variables.keySet()) {
+        if (name.name.equals("dump_symbol_table"))
           continue;
 
         SymbolTableEntry<LoLangType> entry = variableEnvironment.variables.get(name);
@@ -174,8 +185,8 @@ public class SemanticContext {
       for (int i = 0; i < variableEnvironment.siblings.size(); i++) {
         Environment<LoLangType> sibling = variableEnvironment.siblings.get(i);
 
-        for (String name : sibling.variables.keySet()) {
-          if (name.equals("dump_symbol_table"))
+        for (Symbol name : sibling.variables.keySet()) {
+          if (name.name.equals("dump_symbol_table"))
             continue;
 
           SymbolTableEntry<LoLangType> entry = sibling.variables.get(name);
@@ -203,7 +214,7 @@ public class SemanticContext {
       if (statement instanceof StatementNode.ObjectTypeDeclaration) {
         StatementNode.ObjectTypeDeclaration declaration = (StatementNode.ObjectTypeDeclaration) statement;
         try {
-          typeEnvironment.define(declaration.identifier.lexeme, declaration.convertToType(this), true);
+          typeEnvironment.define(declaration.identifier.symbol, declaration.convertToType(this), true);
         } catch (EnvironmentException.EnvironmentAlreadyDeclaredException e) {
           this.addException(
               new SemanticAnalyzerException(
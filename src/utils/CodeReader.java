@@ -5,13 +5,16 @@ import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Scanner;
 
+import interpreter.Completion;
 import interpreter.ExecutionContext;
 import interpreter.Global;
 import interpreter.LoLangThrowable;
 import interpreter.RuntimeError;
+import lexer.SourceFile;
+import lexer.SymbolTable;
 import parser.ParserResult;
+import parser.Resolver;
 import parser.StatementNode;
 import semantic.SemanticContext;
 import parser.LR1Parser;
@@ -66,6 +69,8 @@ public class CodeReader {
         InputScanner.globalScanner.nextLine(); // consume the newline
       } catch (IOException e) {
         System.out.println("Error has occured while scanning file: " + e.getMessage());
+      } finally {
+        SymbolTable.clear();
       }
     }
   }
@@ -114,13 +119,10 @@ public class CodeReader {
   }
 
   public void parseFile(File file) throws IOException {
-    Scanner scanner = new Scanner(file, "UTF-8");
-
-    String source = scanner.hasNext() ? scanner.useDelimiter("\\Z").next() + "\n" : "\n";
-    scanner.close();
-    ParserResult parsingResult = parser.parse(source, file.getPath());
+    SourceFile source = SourceFile.load(file);
+    ParserResult parsingResult = parser.parse(source);
     if (tokenEnabled) {
-      parser.printRegexTokens(source, file.getPath());
+      parser.printRegexTokens(source);
       printLongLine();
     }
     if (parsingResult.errors.size() != 0) {
@@ -176,9 +178,15 @@ public class CodeReader {
           return;
       }
 
+      // in lenient mode assignments can declare variables, so they are looked up by name
+      if (!Global.isLenient)
+        Resolver.resolve(program);
+
       try {
         ExecutionContext global = Global.createGlobalExecutionContext();
-        program.execute(global, global);
+        Completion completion = program.execute(global, global);
+        if (completion != Completion.NORMAL)
+          ErrorWindowBuilder.printErrors(completion.toRuntimeError());
       } catch (RuntimeError e) {
         ErrorWindowBuilder.printErrors(e);
       } catch (LoLangThrowable e) {
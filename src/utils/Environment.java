@@ -1,8 +1,12 @@
 package utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
+import lexer.Symbol;
+import lexer.SymbolTable;
 import utils.EnvironmentException.EnvironmentAlreadyDeclaredException;
 
 public class Environment<InternalValue> {
@@ -16,10 +20,93 @@ public class Environment<InternalValue> {
     }
   }
 
+  /**
+   * The variables the resolver found in a scope, numbered in the order they
+   * are declared. Every environment made for the scope keeps their values in
+   * an array of slots instead of the variables map. A name declared both as a
+   * constant and as a variable in the same scope gets a slot for each, only
+   * one of which can be set in an environment.
+   */
+  public static class Layout {
+    private final ArrayList<Symbol> names = new ArrayList<>();
+    private final ArrayList<Boolean> constants = new ArrayList<>();
+    private final HashMap<Symbol, int[]> slots = new HashMap<>();
+
+    // the slot of the name, added if the scope does not declare it yet
+    public int add(Symbol name, boolean constant) {
+      int[] named = this.slots.get(name);
+      if (named != null)
+        for (int slot : named)
+          if (this.constants.get(slot) == constant)
+            return slot;
+
+      int slot = this.names.size();
+      this.names.add(name);
+      this.constants.add(constant);
+
+      int[] added = named == null ? new int[1] : Arrays.copyOf(named, named.length + 1);
+      added[added.length - 1] = slot;
+      this.slots.put(name, added);
+      return slot;
+    }
+
+    public int size() {
+      return this.names.size();
+    }
+
+    public Symbol getName(int slot) {
+      return this.names.get(slot);
+    }
+
+    public boolean isConstant(int slot) {
+      return this.constants.get(slot);
+    }
+
+    // the slots of the name, null if the scope does not declare it
+    public int[] getSlots(Symbol name) {
+      return this.slots.get(name);
+    }
+  }
+
+  /**
+   * A monomorphic inline cache for the lookups of one name by one node. It
+   * remembers how many environments up the name was found, the layouts of the
+   * environments on the way and the entry or slot that holds the variable. A
+   * later lookup from another environment uses it again as long as the
+   * environments on the way have the same layouts and still declare nothing by
+   * name, and the environments searched after them have not declared a
+   * variable by name or imported a file since.
+   *
+   * Only lookups that pass environments without a slot for the name are
+   * cached, so declaring a slot cannot hide the cached variable.
+   */
+  public static class LookupCache<InternalValue> {
+    private Layout[] layouts = new Layout[0];
+    // the environment reached after the layouts, null if nothing is cached,
+    // and the one of it or of its imports that declares the variable
+    private Environment<InternalValue> holder;
+    private Environment<InternalValue> owner;
+    private SymbolTableEntry<InternalValue> entry;
+    private int slot;
+    // the environments searched from the holder to find the imported variable
+    // and their versions at the time, empty if the holder declares it
+    private List<Environment<InternalValue>> searched = List.of();
+    private int[] versions = new int[0];
+  }
+
+  // counts the variables declared by name and the imports added to this
+  // environment, which is what can change the result of a cached lookup that
+  // searched it. An environment is only changed by the thread that runs it.
+  private int version = 0;
+
   public Environment<InternalValue> parent = null;
   public ArrayList<Environment<InternalValue>> siblings = new ArrayList<>();
 
-  public HashMap<String, SymbolTableEntry<InternalValue>> variables = new HashMap<>();
+  public HashMap<Symbol, SymbolTableEntry<InternalValue>> variables = new HashMap<>();
+
+  // the resolved variables of the environment, a null slot is not declared yet
+  public Layout layout = null;
+  public InternalValue[] slots = null;
 
   public Environment(Environment<InternalValue> parent) {
     this.parent = parent;
@@ -28,36 +115,210 @@ public class Environment<InternalValue> {
   public Environment() {
   }
 
-  private SymbolTableEntry<InternalValue> tryGetSymbolTableEntry(String name) {
-    if (this.variables.containsKey(name))
-      return this.variables.get(name);
+  // an imported environment is only added once, however often it is imported
+  public void addSibling(Environment<InternalValue> sibling) {
+    if (!this.siblings.contains(sibling)) {
+      this.siblings.add(sibling);
+      this.version++;
+    }
+  }
+
+  // the declared slot of the name, -1 if there is none
+  private int getDeclaredSlot(Symbol name) {
+    if (this.layout == null)
+      return -1;
 
-    else if (this.parent != null && this.parent.tryGetSymbolTableEntry(name) != null)
-      return this.parent.tryGetSymbolTableEntry(name);
+    int[] named = this.layout.getSlots(name);
+    if (named != null)
+      for (int slot : named)
+        if (this.slots[slot] != null)
+          return slot;
+
+    return -1;
+  }
+
+  private boolean declares(Symbol name) {
+    return this.variables.containsKey(name) || this.getDeclaredSlot(name) != -1;
+  }
+
+  // the environment that declares the name: this one, then its parents, then
+  // the siblings of each of them starting from the outermost
+  private Environment<InternalValue> tryFind(Symbol name) {
+    return this.tryFind(name, null);
+  }
+
+  // adds every environment searched to the list, unless it is null
+  private Environment<InternalValue> tryFind(Symbol name, List<Environment<InternalValue>> searched) {
+    if (searched != null)
+      searched.add(this);
+
+    if (this.declares(name))
+      return this;
+
+    if (this.parent != null) {
+      Environment<InternalValue> found = this.parent.tryFind(name, searched);
+      if (found != null)
+        return found;
+    }
 
     for (Environment<InternalValue> sibling : this.siblings) {
-      SymbolTableEntry<InternalValue> value = sibling.tryGetSymbolTableEntry(name);
+      Environment<InternalValue> found = sibling.tryFind(name, searched);
+      if (found != null)
+        return found;
+    }
+
+    return null;
+  }
+
+  private Environment<InternalValue> find(Symbol name) throws EnvironmentException.EnvironmentUndeclaredException {
+    Environment<InternalValue> environment = this.tryFind(name);
+    if (environment == null)
+      throw new EnvironmentException.EnvironmentUndeclaredException(
+          "Cannot find symbol table entry \"" + name.name + "\"");
+
+    return environment;
+  }
+
+  // a variable kept in a slot has no entry of its own, so a copy is returned
+  public SymbolTableEntry<InternalValue> getSymbolTableEntry(Symbol name)
+      throws EnvironmentException.EnvironmentUndeclaredException {
+    Environment<InternalValue> environment = this.find(name);
+    SymbolTableEntry<InternalValue> entry = environment.variables.get(name);
+    if (entry != null)
+      return entry;
+
+    int slot = environment.getDeclaredSlot(name);
+    return new SymbolTableEntry<InternalValue>(environment.slots[slot], environment.layout.isConstant(slot));
+  }
+
+  public InternalValue get(Symbol name) throws EnvironmentException.EnvironmentUndeclaredException {
+    Environment<InternalValue> environment = this.find(name);
+    SymbolTableEntry<InternalValue> entry = environment.variables.get(name);
+    return entry != null ? entry.value : environment.slots[environment.getDeclaredSlot(name)];
+  }
+
+  /**
+   * Looks the name up like get, through the inline cache of the node that
+   * reads it
+   */
+  public InternalValue get(Symbol name, LookupCache<InternalValue> cache)
+      throws EnvironmentException.EnvironmentUndeclaredException {
+    if (this.hits(cache) || this.fill(name, cache)) {
+      if (cache.entry != null)
+        return cache.entry.value;
+
+      InternalValue value = cache.owner.slots[cache.slot];
       if (value != null)
         return value;
     }
 
-    return null;
+    return this.get(name);
   }
 
-  public SymbolTableEntry<InternalValue> getSymbolTableEntry(String name)
+  /**
+   * Assigns the name like assign, through the inline cache of the node that
+   * assigns it. Variables of imported files cannot be assigned, so lookups
+   * that ended in an import are not used.
+   */
+  public void assign(Symbol name, InternalValue value, LookupCache<InternalValue> cache)
       throws EnvironmentException.EnvironmentUndeclaredException {
-    SymbolTableEntry<InternalValue> entry = this.tryGetSymbolTableEntry(name);
-    if (entry == null)
-      throw new EnvironmentException.EnvironmentUndeclaredException("Cannot find symbol table entry \"" + name + "\"");
+    if (!(this.hits(cache) || this.fill(name, cache)) || cache.owner != cache.holder
+        || (cache.entry == null && cache.owner.slots[cache.slot] == null)) {
+      this.assign(name, value);
+      return;
+    }
+
+    boolean constant = cache.entry != null ? cache.entry.constant : cache.owner.layout.isConstant(cache.slot);
+    if (constant)
+      throw new EnvironmentException.EnvironmentUndeclaredException(
+          "Cannot assign to constant variable \"" + name.name + "\"");
 
-    return entry;
+    if (cache.entry != null)
+      cache.entry.value = value;
+    else
+      cache.owner.slots[cache.slot] = value;
+  }
+
+  private boolean hits(LookupCache<InternalValue> cache) {
+    if (cache.holder == null)
+      return false;
+
+    Environment<InternalValue> environment = this;
+    for (Layout layout : cache.layouts) {
+      if (environment == null || environment.layout != layout || !environment.variables.isEmpty()
+          || !environment.siblings.isEmpty())
+        return false;
+
+      environment = environment.parent;
+    }
+
+    if (environment != cache.holder)
+      return false;
+
+    for (int i = 0; i < cache.versions.length; i++)
+      if (cache.searched.get(i).version != cache.versions[i])
+        return false;
+
+    return true;
+  }
+
+  // caches the lookup of the name from this environment, false if it cannot
+  // be cached or the name is not declared
+  private boolean fill(Symbol name, LookupCache<InternalValue> cache) {
+    cache.holder = null;
+
+    int depth = 0;
+    Environment<InternalValue> holder = this;
+    for (; holder.parent != null && !holder.declares(name); holder = holder.parent, depth++)
+      if (!holder.variables.isEmpty() || !holder.siblings.isEmpty()
+          || (holder.layout != null && holder.layout.getSlots(name) != null))
+        return false;
+
+    Environment<InternalValue> owner = holder;
+    List<Environment<InternalValue>> searched = List.of();
+    if (!holder.declares(name)) {
+      // only the imports of the outermost environment are left, a slot of
+      // the name declared in it later would hide them
+      if (holder.layout != null && holder.layout.getSlots(name) != null)
+        return false;
+
+      searched = new ArrayList<>();
+      owner = holder.tryFind(name, searched);
+      if (owner == null)
+        return false;
+    }
+
+    cache.layouts = new Layout[depth];
+    Environment<InternalValue> environment = this;
+    for (int i = 0; i < depth; i++, environment = environment.parent)
+      cache.layouts[i] = environment.layout;
+
+    cache.holder = holder;
+    cache.owner = owner;
+    cache.entry = owner.variables.get(name);
+    cache.slot = cache.entry == null ? owner.getDeclaredSlot(name) : -1;
+    cache.searched = searched;
+    cache.versions = new int[searched.size()];
+    for (int i = 0; i < cache.versions.length; i++)
+      cache.versions[i] = searched.get(i).version;
+    return true;
+  }
+
+  // names that don't come from a token, like the globals, are interned first
+  public SymbolTableEntry<InternalValue> getSymbolTableEntry(String name)
+      throws EnvironmentException.EnvironmentUndeclaredException {
+    return this.getSymbolTableEntry(SymbolTable.intern(name));
   }
 
   public InternalValue get(String name) throws EnvironmentException.EnvironmentUndeclaredException {
-    return this.getSymbolTableEntry(name).value;
+    return this.get(SymbolTable.intern(name));
   }
 
   public void tryDefine(String name, InternalValue value, boolean constant) {
+    this.tryDefine(SymbolTable.intern(name), value, constant);
+  }
+
+  public void tryDefine(Symbol name, InternalValue value, boolean constant) {
     try {
       this.define(name, value, constant);
     } catch (EnvironmentAlreadyDeclaredException e) {
@@ -65,37 +326,60 @@ public class Environment<InternalValue> {
     }
   }
 
-  public void define(String name, InternalValue value, boolean constant) throws EnvironmentAlreadyDeclaredException {
-    if (this.variables.containsKey(name))
-      throw new EnvironmentAlreadyDeclaredException("Cannot redeclare variable \"" + name + "\"");
+  public void define(Symbol name, InternalValue value, boolean constant) throws EnvironmentAlreadyDeclaredException {
+    if (this.declares(name))
+      throw new EnvironmentAlreadyDeclaredException("Cannot redeclare variable \"" + name.name + "\"");
 
     SymbolTableEntry<InternalValue> newEntry = new SymbolTableEntry<InternalValue>(value, constant);
     this.variables.put(name, newEntry);
+    this.version++;
   }
 
-  public void declare(String name) throws EnvironmentAlreadyDeclaredException {
+  public void declare(Symbol name) throws EnvironmentAlreadyDeclaredException {
     // only time this gets called is when declaring a variable with no initial value
     this.define(name, null, false);
   }
 
-  public void assign(String name, InternalValue value) throws EnvironmentException.EnvironmentUndeclaredException {
+  /**
+   * Declares the variable of a slot of the layout. The value must not be null,
+   * a variable with no initial value is given a placeholder by the caller.
+   */
+  public void defineSlot(int slot, InternalValue value) throws EnvironmentAlreadyDeclaredException {
+    Symbol name = this.layout.getName(slot);
+    if (this.declares(name))
+      throw new EnvironmentAlreadyDeclaredException("Cannot redeclare variable \"" + name.name + "\"");
+
+    this.slots[slot] = value;
+  }
+
+  public void assign(Symbol name, InternalValue value) throws EnvironmentException.EnvironmentUndeclaredException {
     if (this.variables.containsKey(name)) {
       SymbolTableEntry<InternalValue> entry = this.variables.get(name);
 
       if (entry.constant)
         throw new EnvironmentException.EnvironmentUndeclaredException(
-            "Cannot assign to constant variable \"" + name + "\"");
+            "Cannot assign to constant variable \"" + name.name + "\"");
 
       entry.value = value;
       return;
     }
 
+    int slot = this.getDeclaredSlot(name);
+    if (slot != -1) {
+      if (this.layout.isConstant(slot))
+        throw new EnvironmentException.EnvironmentUndeclaredException(
+            "Cannot assign to constant variable \"" + name.name + "\"");
+
+      this.slots[slot] = value;
+      return;
+    }
+
     if (this.parent != null) {
       this.parent.assign(name, value);
       return;
     }
 
     throw new EnvironmentException.EnvironmentUndeclaredException(
-        "Cannot assign to undeclared variable \"" + name + "\"");
+        "Cannot assign to undeclared variable \"" + name.name + "\"");
   }
 }
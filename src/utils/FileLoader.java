@@ -1,7 +1,8 @@
 package utils;
 
 import java.io.File;
-import java.util.Scanner;
+
+import lexer.SourceFile;
 /**
  * 
  */
@@ -11,17 +12,20 @@ public class FileLoader {
    */
   public static String loadFile(String path) {
     try {
-      File grammarFile = new File("../" + path);
-      if (!grammarFile.exists())
-        grammarFile = new File("./" + path);
-
-      Scanner scanner = new Scanner(grammarFile);
-      String source = scanner.hasNext() ? scanner.useDelimiter("\\Z").next() + "\n" : "\n";
-      scanner.close();
-
-      return source;
+      return SourceFile.load(resolve(path)).text.toString();
     } catch (Exception err) {
       throw new Error("Was not able to load the file");
     }
   }
+
+  /**
+   * Finds a file from either the project root or the src folder
+   */
+  public static File resolve(String path) {
+    File file = new File("../" + path);
+    if (!file.exists())
+      file = new File("./" + path);
+
+    return file;
+  }
 }
@@ -0,0 +1,28 @@
+package utils;
+
+import java.util.HashMap;
+
+import interpreter.LoLangValue;
+import semantic.LoLangType;
+
+/**
+ * The imported files of a run, keyed by canonical path. A file is analyzed and
+ * executed the first time it is imported, every later import of it only looks
+ * up its environments.
+ */
+public class ModuleRegistry {
+  public static class Module {
+    // the environments of the file after semantic analysis, null until then
+    public Environment<LoLangType> typeEnvironment;
+    public Environment<LoLangType> variableEnvironment;
+
+    // the global environment of the file after it was executed, null until then
+    public Environment<LoLangValue> environment;
+  }
+
+  private final HashMap<String, Module> modules = new HashMap<>();
+
+  public Module get(String path) {
+    return modules.computeIfAbsent(path, key -> new Module());
+  }
+}